@@ -3,11 +3,15 @@ package com.resumeagent.ai.agents;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.resumeagent.ai.llm.LlmClient;
+import com.resumeagent.ai.util.AgentPayload;
 import com.resumeagent.ai.util.PromptLoader;
+import com.resumeagent.ai.util.StreamingJsonSectionParser;
 import com.resumeagent.entity.model.MasterResumeJson;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+
 @Component
 @RequiredArgsConstructor
 public class ATSOptimizationAgent {
@@ -19,12 +23,22 @@ public class ATSOptimizationAgent {
     public MasterResumeJson executeATSOptimizationAgent(
             MasterResumeJson resumeJson
     ) throws JsonProcessingException {
-        String basePrompt = promptLoader.load("ats_optimization_agent.prompt");
+        return executeATSOptimizationAgent(AgentPayload.of(objectMapper, resumeJson), null);
+    }
 
-        String finalPrompt = basePrompt
-                .replace("{{REWRITTEN_RESUME_JSON}}", objectMapper.writeValueAsString(resumeJson));
+    /**
+     * Runs the agent on an already serialized resume, reporting completed resume sections
+     * to {@code sectionListener} while the response is streamed (when streaming is enabled).
+     */
+    public MasterResumeJson executeATSOptimizationAgent(
+            AgentPayload<MasterResumeJson> resumeJson,
+            StreamingJsonSectionParser.SectionListener sectionListener
+    ) throws JsonProcessingException {
+        String finalPrompt = promptLoader.template("ats_optimization_agent.prompt").render(Map.of(
+                "REWRITTEN_RESUME_JSON", resumeJson.json()
+        ));
 
-        String output = llm.generate(finalPrompt);
+        String output = llm.generate(finalPrompt, sectionListener);
         String json = sanitizeJson(output);
 
         try {
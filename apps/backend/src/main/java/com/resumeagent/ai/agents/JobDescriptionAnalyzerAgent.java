@@ -7,6 +7,8 @@ import com.resumeagent.entity.model.JobDescriptionAnalyzerJson;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+
 @Component
 @RequiredArgsConstructor
 public class JobDescriptionAnalyzerAgent {
@@ -16,12 +18,9 @@ public class JobDescriptionAnalyzerAgent {
     private final PromptLoader promptLoader;
 
     public JobDescriptionAnalyzerJson executeJobDescriptionAnalyzerAgent(String jobDescription) {
-        String basePrompt = promptLoader.load("job_description_analyzer.prompt");
-
-        String finalPrompt = basePrompt.replace(
-                "{{JOB_DESCRIPTION}}",
-                jobDescription
-        );
+        String finalPrompt = promptLoader.template("job_description_analyzer.prompt").render(Map.of(
+                "JOB_DESCRIPTION", jobDescription
+        ));
 
         String output = llm.generate(finalPrompt);
         String json = sanitizeJson(output);
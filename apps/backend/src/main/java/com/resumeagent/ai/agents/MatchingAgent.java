@@ -3,13 +3,17 @@ package com.resumeagent.ai.agents;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.resumeagent.ai.llm.LlmClient;
+import com.resumeagent.ai.util.AgentPayload;
 import com.resumeagent.ai.util.PromptLoader;
+import com.resumeagent.ai.util.StreamingJsonSectionParser;
 import com.resumeagent.entity.model.JobDescriptionAnalyzerJson;
 import com.resumeagent.entity.model.MasterResumeJson;
 import com.resumeagent.entity.model.MatchingAgentJson;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+
 @Component
 @RequiredArgsConstructor
 public class MatchingAgent {
@@ -19,13 +23,28 @@ public class MatchingAgent {
     private final PromptLoader promptLoader;
 
     public MatchingAgentJson executeMatchingAgent(MasterResumeJson resumeJson, JobDescriptionAnalyzerJson jobDescription) throws JsonProcessingException {
-        String basePrompt = promptLoader.load("matching_agent.prompt");
+        return executeMatchingAgent(
+                AgentPayload.of(objectMapper, resumeJson),
+                AgentPayload.of(objectMapper, jobDescription),
+                null
+        );
+    }
 
-        String finalPrompt = basePrompt
-                .replace("{{RESUME_TEXT}}", objectMapper.writeValueAsString(resumeJson))
-                .replace("{{JOB_DESCRIPTION}}", objectMapper.writeValueAsString(jobDescription));
+    /**
+     * Runs the agent on already serialized inputs, reporting completed output sections
+     * to {@code sectionListener} while the response is streamed (when streaming is enabled).
+     */
+    public MatchingAgentJson executeMatchingAgent(
+            AgentPayload<MasterResumeJson> resumeJson,
+            AgentPayload<JobDescriptionAnalyzerJson> jobDescription,
+            StreamingJsonSectionParser.SectionListener sectionListener
+    ) throws JsonProcessingException {
+        String finalPrompt = promptLoader.template("matching_agent.prompt").render(Map.of(
+                "RESUME_TEXT", resumeJson.json(),
+                "JOB_DESCRIPTION", jobDescription.json()
+        ));
 
-        String output = llm.generate(finalPrompt);
+        String output = llm.generate(finalPrompt, sectionListener);
         String json = sanitizeJson(output);
 
         try {
@@ -7,6 +7,8 @@ import com.resumeagent.entity.model.MasterResumeJson;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+
 @Component
 @RequiredArgsConstructor
 public class ResumeParserAgent {
@@ -16,12 +18,9 @@ public class ResumeParserAgent {
     private final PromptLoader promptLoader;
 
     public MasterResumeJson run(String resumeText) {
-      String basePrompt = promptLoader.load("resume_parser.prompt");
-
-        String finalPrompt = basePrompt.replace(
-                "{{RESUME_TEXT}}",
-                resumeText
-        );
+        String finalPrompt = promptLoader.template("resume_parser.prompt").render(Map.of(
+                "RESUME_TEXT", resumeText
+        ));
 
         String output = llm.generate(finalPrompt);
         String json = sanitizeJson(output);
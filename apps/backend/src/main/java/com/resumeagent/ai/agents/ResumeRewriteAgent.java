@@ -3,13 +3,17 @@ package com.resumeagent.ai.agents;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.resumeagent.ai.llm.LlmClient;
+import com.resumeagent.ai.util.AgentPayload;
 import com.resumeagent.ai.util.PromptLoader;
+import com.resumeagent.ai.util.StreamingJsonSectionParser;
 import com.resumeagent.entity.model.JobDescriptionAnalyzerJson;
 import com.resumeagent.entity.model.MasterResumeJson;
 import com.resumeagent.entity.model.MatchingAgentJson;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+
 @Component
 @RequiredArgsConstructor
 public class ResumeRewriteAgent {
@@ -21,14 +25,32 @@ public class ResumeRewriteAgent {
     public MasterResumeJson executeResumeRewriteAgent(
             MasterResumeJson resumeText, JobDescriptionAnalyzerJson jobDescription, MatchingAgentJson matchingAgentJson
     ) throws JsonProcessingException {
-        String basePrompt = promptLoader.load("resume_rewrite_agent.prompt");
+        return executeResumeRewriteAgent(
+                AgentPayload.of(objectMapper, resumeText),
+                AgentPayload.of(objectMapper, jobDescription),
+                AgentPayload.of(objectMapper, matchingAgentJson),
+                null
+        );
+    }
 
-        String finalPrompt = basePrompt
-                .replace("{{MASTER_RESUME_JSON}}", objectMapper.writeValueAsString(resumeText))
-                .replace("{{JOB_DESCRIPTION_ANALYSIS_JSON}}", objectMapper.writeValueAsString(jobDescription))
-                .replace("{{MATCHING_AGENT_JSON}}", objectMapper.writeValueAsString(matchingAgentJson));
+    /**
+     * Runs the agent on already serialized inputs, reporting completed resume sections
+     * (header, summary, each experience block, ...) to {@code sectionListener} while
+     * the response is streamed (when streaming is enabled).
+     */
+    public MasterResumeJson executeResumeRewriteAgent(
+            AgentPayload<MasterResumeJson> resumeText,
+            AgentPayload<JobDescriptionAnalyzerJson> jobDescription,
+            AgentPayload<MatchingAgentJson> matchingAgentJson,
+            StreamingJsonSectionParser.SectionListener sectionListener
+    ) throws JsonProcessingException {
+        String finalPrompt = promptLoader.template("resume_rewrite_agent.prompt").render(Map.of(
+                "MASTER_RESUME_JSON", resumeText.json(),
+                "JOB_DESCRIPTION_ANALYSIS_JSON", jobDescription.json(),
+                "MATCHING_AGENT_JSON", matchingAgentJson.json()
+        ));
 
-        String output = llm.generate(finalPrompt);
+        String output = llm.generate(finalPrompt, sectionListener);
         String json = sanitizeJson(output);
 
         try {
@@ -1,19 +1,46 @@
 package com.resumeagent.ai.llm;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeagent.ai.util.StreamingJsonSectionParser;
+import com.resumeagent.config.LlmProperties;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
 
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Component
 @RequiredArgsConstructor
 public class LlmClient {
 
+    private static final Logger log = LoggerFactory.getLogger(LlmClient.class);
+
     private final ChatClient chatClient;
+    private final LlmProperties llmProperties;
+    private final SimpleAsyncTaskExecutor llmRequestExecutor;
+    private final ModelHealthRegistry modelHealthRegistry;
+    private final ObjectMapper objectMapper;
 
-    // Ordered by preference
+    // Ordered by preference; ModelHealthRegistry reorders at runtime
     private static final List<String> FREE_MODELS = List.of(
             "upstage/solar-pro-3:free",
             "openrouter/free",
@@ -22,7 +49,6 @@ public class LlmClient {
             "meta-llama/llama-3.3-70b-instruct:free",
             "stepfun/step-3.5-flash:free",
             "z-ai/glm-4.5-air:free",
-            "upstage/solar-pro-3:free",
             "openai/gpt-oss-120b:free",
             "tngtech/deepseek-r1t2-chimera:free",
             "openai/gpt-oss-20b:free",
@@ -46,29 +72,319 @@ public class LlmClient {
     );
 
 
+    /**
+     * Races the fallback models and returns the first non-blank response.
+     *
+     * Starts {@code llm.initial-fan-out} models at once; another model is started
+     * whenever an in-flight one fails or times out, or when none has answered
+     * within {@code llm.hedge-delay-ms} (up to {@code llm.max-in-flight}).
+     * All losing calls are cancelled. Candidates are ordered by ModelHealthRegistry.
+     * The winner's provider-reported token usage goes to {@link LlmUsageRecorder}.
+     */
     public String generate(String prompt) {
 
+        CompletionService<ModelResponse> completionService = new ExecutorCompletionService<>(llmRequestExecutor);
+        Map<Future<ModelResponse>, ModelCall> inFlight = new LinkedHashMap<>();
+        Iterator<String> remaining = modelHealthRegistry.rank(FREE_MODELS).iterator();
         RuntimeException lastException = null;
 
-        for (String model : FREE_MODELS) {
+        long hedgeDelayNanos = TimeUnit.MILLISECONDS.toNanos(llmProperties.getHedgeDelayMs());
+        long modelTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(llmProperties.getModelTimeoutMs());
+        long lastLaunch = System.nanoTime();
+
+        try {
+            for (int i = 0; i < llmProperties.getInitialFanOut()
+                    && launchNext(completionService, inFlight, remaining, prompt); i++) {
+                lastLaunch = System.nanoTime();
+            }
+
+            while (!inFlight.isEmpty()) {
+                long now = System.nanoTime();
+                long waitNanos = earliestDeadline(inFlight, modelTimeoutNanos) - now;
+                boolean canHedge = hedgeDelayNanos > 0
+                        && remaining.hasNext()
+                        && inFlight.size() < llmProperties.getMaxInFlight();
+                if (canHedge) {
+                    waitNanos = Math.min(waitNanos, lastLaunch + hedgeDelayNanos - now);
+                }
+
+                Future<ModelResponse> done = completionService.poll(Math.max(waitNanos, 0), TimeUnit.NANOSECONDS);
+
+                if (done == null) {
+                    int expired = expireTimedOut(inFlight, modelTimeoutNanos);
+                    if (expired > 0) {
+                        lastException = new RuntimeException(
+                                "Model timed out after " + llmProperties.getModelTimeoutMs() + "ms",
+                                new TimeoutException()
+                        );
+                    }
+                    // Replace timed-out models, or hedge if everybody is still silent
+                    int toLaunch = expired > 0 ? expired : (canHedge ? 1 : 0);
+                    for (int i = 0; i < toLaunch && launchNext(completionService, inFlight, remaining, prompt); i++) {
+                        lastLaunch = System.nanoTime();
+                    }
+                    continue;
+                }
+
+                ModelCall call = inFlight.remove(done);
+                if (call == null) {
+                    // Already expired and cancelled
+                    continue;
+                }
+
+                try {
+                    ModelResponse response = done.get();
+                    String content = response.content();
+                    if (content != null && !content.isBlank()) {
+                        LlmUsageRecorder.record(response.usage());
+                        return content;
+                    }
+                    lastException = new RuntimeException("Model failed: " + call.model() + " -> empty response");
+                } catch (ExecutionException ex) {
+                    Throwable cause = ex.getCause() == null ? ex : ex.getCause();
+                    lastException = new RuntimeException(
+                            "Model failed: " + call.model() + " -> " + cause.getMessage(), cause
+                    );
+                } catch (CancellationException ex) {
+                    continue;
+                }
+
+                log.debug("LLM model failed, falling back: model={}", call.model(), lastException);
+                if (launchNext(completionService, inFlight, remaining, prompt)) {
+                    lastLaunch = System.nanoTime();
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for LLM response", ex);
+        } finally {
+            // Only calls this request started can hold a probe slot; untried candidates reserved nothing
+            inFlight.forEach((future, call) -> {
+                future.cancel(true);
+                if (call.settle() && call.probe()) {
+                    modelHealthRegistry.recordCancelled(call.model());
+                }
+            });
+        }
+
+        throw new RuntimeException("All fallback models failed", lastException);
+    }
+
+    /**
+     * Same contract as {@link #generate(String)}, but when streaming is enabled
+     * ({@code llm.streaming-enabled}) the response is streamed and every completed
+     * top-level JSON section is reported to the listener while the model is still
+     * generating. Streaming walks the ranked models one by one without hedging,
+     * since racing streams would publish duplicate sections. The listener is reset
+     * before every model streams (see {@link StreamingJsonSectionParser.SectionListener#onReset}),
+     * so neither a failover nor a retry of the whole call leaves stale sections behind.
+     */
+    public String generate(String prompt, StreamingJsonSectionParser.SectionListener sectionListener) {
+        if (sectionListener == null || !llmProperties.isStreamingEnabled()) {
+            return generate(prompt);
+        }
+
+        RuntimeException lastException = null;
+        for (String model : modelHealthRegistry.rank(FREE_MODELS)) {
+            if (modelHealthRegistry.tryAcquire(model) == ModelHealthRegistry.Admission.REJECTED) {
+                continue;
+            }
+            // Sections of an earlier model or an earlier call would otherwise be followed by duplicates
+            sectionListener.onReset();
+            // Fresh parser per attempt, so a failover restarts partial output cleanly
+            StreamingJsonSectionParser sectionParser = new StreamingJsonSectionParser(objectMapper, sectionListener);
+            StringBuilder content = new StringBuilder(8192);
+            AtomicReference<LlmUsage> usage = new AtomicReference<>();
+            long start = System.nanoTime();
             try {
-                return chatClient
+                chatClient
                         .prompt(prompt)
-                        .options(OpenAiChatOptions.builder()
-                                .model(model)
-                                .temperature(0.4)
-                                .maxTokens(12000)
-                                .build())
-                        .call()
-                        .content();
-
-            } catch (Exception ex) {
-                lastException = new RuntimeException(
-                        "Model failed: " + model + " -> " + ex.getMessage(), ex
-                );
+                        .options(streamingChatOptions(model))
+                        .stream()
+                        .chatResponse()
+                        .doOnNext(response -> {
+                            String chunk = chunkText(response);
+                            if (chunk != null) {
+                                content.append(chunk);
+                                sectionParser.feed(chunk);
+                            }
+                            // Usage arrives on the final chunk
+                            LlmUsage reported = LlmUsage.from(model, response);
+                            if (reported.promptTokens() != null || reported.completionTokens() != null) {
+                                usage.set(reported);
+                            }
+                        })
+                        .blockLast(Duration.ofMillis(llmProperties.getModelTimeoutMs()));
+            } catch (RuntimeException ex) {
+                modelHealthRegistry.recordFailure(model, elapsedMs(start), isRateLimited(ex));
+                lastException = new RuntimeException("Model failed: " + model + " -> " + ex.getMessage(), ex);
+                continue;
+            }
+
+            String result = content.toString();
+            if (!result.isBlank()) {
+                modelHealthRegistry.recordSuccess(model, elapsedMs(start));
+                LlmUsageRecorder.record(usage.get());
+                return result;
             }
+            modelHealthRegistry.recordFailure(model, elapsedMs(start), false);
+            lastException = new RuntimeException("Model failed: " + model + " -> empty response");
         }
 
         throw new RuntimeException("All fallback models failed", lastException);
     }
+
+    /**
+     * Starts the next candidate that admits a call, skipping models whose half-open
+     * probe another request holds.
+     *
+     * @return false when the candidates are exhausted
+     */
+    private boolean launchNext(
+            CompletionService<ModelResponse> completionService,
+            Map<Future<ModelResponse>, ModelCall> inFlight,
+            Iterator<String> remaining,
+            String prompt
+    ) {
+        while (remaining.hasNext()) {
+            String model = remaining.next();
+            ModelHealthRegistry.Admission admission = modelHealthRegistry.tryAcquire(model);
+            if (admission == ModelHealthRegistry.Admission.REJECTED) {
+                continue;
+            }
+            ModelCall call = new ModelCall(model, System.nanoTime(), admission == ModelHealthRegistry.Admission.PROBE);
+            Future<ModelResponse> future = completionService.submit(() -> callModel(call, prompt));
+            inFlight.put(future, call);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Runs one model call. Its health outcome is recorded only if the coordinator
+     * has not already settled the call (timed out or cancelled as a loser): the
+     * cancel(true) interrupt does not abort a blocking HTTP exchange, which keeps
+     * running until it completes or spring.http.client.read-timeout fires.
+     */
+    private ModelResponse callModel(ModelCall call, String prompt) {
+        String model = call.model();
+        long start = System.nanoTime();
+        try {
+            ChatResponse response = chatClient
+                    .prompt(prompt)
+                    .options(chatOptions(model))
+                    .call()
+                    .chatResponse();
+            String content = response == null ? null : chunkText(response);
+            if (call.settle()) {
+                if (content == null || content.isBlank()) {
+                    modelHealthRegistry.recordFailure(model, elapsedMs(start), false);
+                } else {
+                    modelHealthRegistry.recordSuccess(model, elapsedMs(start));
+                }
+            }
+            return new ModelResponse(content, LlmUsage.from(model, response));
+        } catch (RuntimeException ex) {
+            if (call.settle()) {
+                modelHealthRegistry.recordFailure(model, elapsedMs(start), isRateLimited(ex));
+            }
+            throw ex;
+        }
+    }
+
+    private OpenAiChatOptions chatOptions(String model) {
+        return OpenAiChatOptions.builder()
+                .model(model)
+                .temperature(0.4)
+                .maxTokens(12000)
+                .build();
+    }
+
+    private OpenAiChatOptions streamingChatOptions(String model) {
+        OpenAiChatOptions options = chatOptions(model);
+        // Ask for the usage block on the final stream chunk
+        options.setStreamUsage(true);
+        return options;
+    }
+
+    private String chunkText(ChatResponse response) {
+        if (response.getResult() == null || response.getResult().getOutput() == null) {
+            return null;
+        }
+        return response.getResult().getOutput().getText();
+    }
+
+    private boolean isRateLimited(Throwable ex) {
+        Throwable current = ex;
+        while (current != null) {
+            if (current instanceof HttpStatusCodeException httpEx && httpEx.getStatusCode().value() == 429) {
+                return true;
+            }
+            // Spring AI surfaces 4xx responses as NonTransientAiException("429 - ...")
+            String message = current.getMessage();
+            if (message != null && message.startsWith("429")) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    private long elapsedMs(long startNanoTime) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanoTime);
+    }
+
+    private long earliestDeadline(Map<Future<ModelResponse>, ModelCall> inFlight, long modelTimeoutNanos) {
+        long earliest = Long.MAX_VALUE;
+        for (ModelCall call : inFlight.values()) {
+            earliest = Math.min(earliest, call.startedAt() + modelTimeoutNanos);
+        }
+        return earliest;
+    }
+
+    private int expireTimedOut(Map<Future<ModelResponse>, ModelCall> inFlight, long modelTimeoutNanos) {
+        long now = System.nanoTime();
+        int expired = 0;
+        Iterator<Map.Entry<Future<ModelResponse>, ModelCall>> it = inFlight.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Future<ModelResponse>, ModelCall> entry = it.next();
+            if (now - entry.getValue().startedAt() >= modelTimeoutNanos) {
+                log.debug("LLM model timed out: model={}", entry.getValue().model());
+                entry.getKey().cancel(true);
+                // The call may have finished (and recorded itself) since the poll timed out
+                if (entry.getValue().settle()) {
+                    modelHealthRegistry.recordFailure(
+                            entry.getValue().model(),
+                            TimeUnit.NANOSECONDS.toMillis(modelTimeoutNanos),
+                            false
+                    );
+                }
+                it.remove();
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * One launched model call. Its health outcome is recorded exactly once, by
+     * whichever of the call itself and the coordinator (timeout, cancellation)
+     * settles it first.
+     */
+    private record ModelCall(String model, long startedAt, boolean probe, AtomicBoolean settled) {
+
+        ModelCall(String model, long startedAt, boolean probe) {
+            this(model, startedAt, probe, new AtomicBoolean());
+        }
+
+        /**
+         * @return true for the first caller only; that caller records the outcome
+         */
+        boolean settle() {
+            return settled.compareAndSet(false, true);
+        }
+    }
+
+    private record ModelResponse(String content, LlmUsage usage) {
+    }
 }
@@ -0,0 +1,27 @@
+package com.resumeagent.ai.llm;
+
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+
+/**
+ * Token usage reported by the provider for one completed LLM call.
+ * A count is null when the provider did not report it.
+ */
+public record LlmUsage(String model, Integer promptTokens, Integer completionTokens) {
+
+    static LlmUsage from(String model, ChatResponse response) {
+        if (response == null || response.getMetadata() == null) {
+            return new LlmUsage(model, null, null);
+        }
+        Usage usage = response.getMetadata().getUsage();
+        if (usage == null) {
+            return new LlmUsage(model, null, null);
+        }
+        // Spring AI substitutes an EmptyUsage (all zeros) when the response has no usage block
+        return new LlmUsage(model, positiveOrNull(usage.getPromptTokens()), positiveOrNull(usage.getCompletionTokens()));
+    }
+
+    private static Integer positiveOrNull(Integer value) {
+        return value == null || value <= 0 ? null : value;
+    }
+}
@@ -0,0 +1,67 @@
+package com.resumeagent.ai.llm;
+
+/**
+ * Collects provider-reported token usage for the LLM calls made by one agent attempt.
+ *
+ * AgentExecutor opens a recording around the agent action; LlmClient reports the
+ * usage of the winning call on the calling thread. Counts from several calls within
+ * one recording are summed. Outside a recording, reports are ignored.
+ */
+public final class LlmUsageRecorder {
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    private LlmUsageRecorder() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new Recording());
+    }
+
+    /**
+     * Ends the current recording and returns what was collected.
+     */
+    public static Recording end() {
+        Recording recording = CURRENT.get();
+        CURRENT.remove();
+        return recording == null ? new Recording() : recording;
+    }
+
+    static void record(LlmUsage usage) {
+        Recording recording = CURRENT.get();
+        if (recording != null && usage != null) {
+            recording.add(usage);
+        }
+    }
+
+    public static final class Recording {
+        private Integer promptTokens;
+        private Integer completionTokens;
+
+        private void add(LlmUsage usage) {
+            promptTokens = sum(promptTokens, usage.promptTokens());
+            completionTokens = sum(completionTokens, usage.completionTokens());
+        }
+
+        /**
+         * @return provider-reported prompt tokens, or null if no call reported them
+         */
+        public Integer getPromptTokens() {
+            return promptTokens;
+        }
+
+        /**
+         * @return provider-reported completion tokens, or null if no call reported them
+         */
+        public Integer getCompletionTokens() {
+            return completionTokens;
+        }
+
+        private static Integer sum(Integer total, Integer value) {
+            if (value == null) {
+                return total;
+            }
+            return total == null ? value : total + value;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.resumeagent.ai.llm;
+
+import com.resumeagent.config.LlmProperties;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory health registry for the LLM fallback models.
+ *
+ * Tracks per-model latency and error-rate EWMAs plus 429 counts, ranks candidates
+ * by expected latency / success probability, and keeps a circuit breaker per model
+ * so models that keep failing are skipped until a half-open probe succeeds.
+ */
+@Component
+@RequiredArgsConstructor
+public class ModelHealthRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(ModelHealthRegistry.class);
+
+    // Floor for the success probability so a single failure never yields an infinite score
+    private static final double MIN_SUCCESS_PROBABILITY = 0.05;
+
+    private final LlmProperties llmProperties;
+    private final Map<String, ModelHealth> healthByModel = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the callable models, best first. Models with an open circuit are
+     * left out until their cool-down has elapsed, then offered for a half-open probe.
+     * Models without history keep their configured order behind the known-good ones
+     * with the same score. If every circuit is open, all of them are moved to
+     * half-open early as a last resort, so each still gets a single probe.
+     *
+     * Ranking reserves nothing: callers claim a model with {@link #tryAcquire}
+     * right before calling it.
+     */
+    public List<String> rank(List<String> models) {
+        long now = System.currentTimeMillis();
+        List<RankedModel> available = new ArrayList<>(models.size());
+        for (int i = 0; i < models.size(); i++) {
+            String model = models.get(i);
+            ModelHealth health = health(model);
+            if (health.isAvailable(now, llmProperties.getCircuitOpenMs())) {
+                available.add(new RankedModel(model, health.score(llmProperties.getDefaultLatencyMs()), i));
+            }
+        }
+
+        if (available.isEmpty()) {
+            models.forEach(model -> health(model).forceHalfOpen());
+            return models;
+        }
+
+        available.sort(Comparator.comparingDouble(RankedModel::score).thenComparingInt(RankedModel::position));
+        List<String> ranked = new ArrayList<>(available.size());
+        for (RankedModel rankedModel : available) {
+            ranked.add(rankedModel.model());
+        }
+        return ranked;
+    }
+
+    /**
+     * Claims a model for one call. A half-open model admits a single probe at a time;
+     * the caller that gets {@link Admission#PROBE} must resolve it with
+     * recordSuccess, recordFailure or recordCancelled.
+     */
+    public Admission tryAcquire(String model) {
+        return health(model).tryAcquire(System.currentTimeMillis(), llmProperties.getCircuitOpenMs());
+    }
+
+    public void recordSuccess(String model, long latencyMs) {
+        if (health(model).recordSuccess(latencyMs, llmProperties.getEwmaAlpha())) {
+            log.info("LLM circuit closed: model={}", model);
+        }
+    }
+
+    public void recordFailure(String model, long latencyMs, boolean rateLimited) {
+        if (health(model).recordFailure(
+                latencyMs,
+                rateLimited,
+                llmProperties.getEwmaAlpha(),
+                llmProperties.getCircuitFailureThreshold(),
+                System.currentTimeMillis())) {
+            log.warn("LLM circuit opened: model={}, rateLimited={}, rateLimitedTotal={}",
+                    model, rateLimited, health(model).rateLimitedCount());
+        }
+    }
+
+    /**
+     * Releases the half-open probe slot of a started call that was cancelled before
+     * it finished (e.g. it lost a hedged race), without counting it as success or
+     * failure. Only for calls admitted as {@link Admission#PROBE}.
+     */
+    public void recordCancelled(String model) {
+        health(model).releaseProbe();
+    }
+
+    private ModelHealth health(String model) {
+        return healthByModel.computeIfAbsent(model, __ -> new ModelHealth());
+    }
+
+    public enum Admission {
+        /** Circuit open or another caller holds the probe; do not call the model. */
+        REJECTED,
+        /** Circuit closed; a normal call. */
+        CLOSED,
+        /** This caller holds the half-open probe slot. */
+        PROBE
+    }
+
+    private record RankedModel(String model, double score, int position) {
+    }
+
+    private enum CircuitState {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private static final class ModelHealth {
+        private double latencyEwmaMs = -1;
+        private double errorRateEwma = 0;
+        private long rateLimitedCount = 0;
+        private int consecutiveFailures = 0;
+        private CircuitState state = CircuitState.CLOSED;
+        private long openedAt = 0;
+        private boolean probeInFlight = false;
+
+        synchronized boolean isAvailable(long now, long circuitOpenMs) {
+            coolDown(now, circuitOpenMs);
+            return state == CircuitState.CLOSED || (state == CircuitState.HALF_OPEN && !probeInFlight);
+        }
+
+        synchronized Admission tryAcquire(long now, long circuitOpenMs) {
+            coolDown(now, circuitOpenMs);
+            if (state == CircuitState.CLOSED) {
+                return Admission.CLOSED;
+            }
+            if (state == CircuitState.HALF_OPEN && !probeInFlight) {
+                probeInFlight = true;
+                return Admission.PROBE;
+            }
+            return Admission.REJECTED;
+        }
+
+        synchronized void forceHalfOpen() {
+            if (state == CircuitState.OPEN) {
+                state = CircuitState.HALF_OPEN;
+            }
+        }
+
+        private void coolDown(long now, long circuitOpenMs) {
+            if (state == CircuitState.OPEN && now - openedAt >= circuitOpenMs) {
+                state = CircuitState.HALF_OPEN;
+            }
+        }
+
+        synchronized double score(long defaultLatencyMs) {
+            double latency = latencyEwmaMs < 0 ? defaultLatencyMs : latencyEwmaMs;
+            double successProbability = Math.max(1.0 - errorRateEwma, MIN_SUCCESS_PROBABILITY);
+            return latency / successProbability;
+        }
+
+        /**
+         * @return true if this success closed a previously open circuit
+         */
+        synchronized boolean recordSuccess(long latencyMs, double alpha) {
+            latencyEwmaMs = latencyEwmaMs < 0 ? latencyMs : alpha * latencyMs + (1 - alpha) * latencyEwmaMs;
+            errorRateEwma = (1 - alpha) * errorRateEwma;
+            consecutiveFailures = 0;
+            probeInFlight = false;
+            boolean closed = state != CircuitState.CLOSED;
+            state = CircuitState.CLOSED;
+            return closed;
+        }
+
+        /**
+         * @return true if this failure opened the circuit
+         */
+        synchronized boolean recordFailure(
+                long latencyMs,
+                boolean rateLimited,
+                double alpha,
+                int failureThreshold,
+                long now
+        ) {
+            // Failed calls still tell us how long a caller waited for nothing
+            latencyEwmaMs = latencyEwmaMs < 0 ? latencyMs : alpha * latencyMs + (1 - alpha) * latencyEwmaMs;
+            errorRateEwma = alpha + (1 - alpha) * errorRateEwma;
+            if (rateLimited) {
+                rateLimitedCount++;
+            }
+            consecutiveFailures++;
+            probeInFlight = false;
+
+            boolean wasOpen = state == CircuitState.OPEN;
+            // Free-tier 429s persist for the quota window, so they trip the breaker immediately
+            if (state == CircuitState.HALF_OPEN || rateLimited || consecutiveFailures >= failureThreshold) {
+                state = CircuitState.OPEN;
+                openedAt = now;
+            }
+            return !wasOpen && state == CircuitState.OPEN;
+        }
+
+        synchronized void releaseProbe() {
+            probeInFlight = false;
+        }
+
+        synchronized long rateLimitedCount() {
+            return rateLimitedCount;
+        }
+    }
+}
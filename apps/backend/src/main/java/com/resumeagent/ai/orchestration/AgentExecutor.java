@@ -1,7 +1,8 @@
 package com.resumeagent.ai.orchestration;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.resumeagent.ai.util.TokenCounter;
+import com.resumeagent.ai.llm.LlmUsageRecorder;
+import com.resumeagent.ai.util.AgentPayload;
 import com.resumeagent.entity.Resume;
 import com.resumeagent.entity.ResumeAgentLog;
 import com.resumeagent.entity.User;
@@ -9,12 +10,16 @@ import com.resumeagent.entity.enums.AgentExecutionStatus;
 import com.resumeagent.exception.FatalAgentException;
 import com.resumeagent.exception.TransientAgentException;
 import com.resumeagent.repository.ResumeAgentLogRepository;
+import com.resumeagent.service.UserAgentStatsService;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.dao.TransientDataAccessException;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.retry.support.RetryTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
@@ -29,10 +34,12 @@ import java.net.ConnectException;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class AgentExecutor {
 
     private static final int MAX_INPUT_SNAPSHOT_CHARS = 2000;
@@ -40,30 +47,123 @@ public class AgentExecutor {
     private final RetryTemplate agentRetryTemplate;
     private final ResumeAgentLogRepository resumeAgentLogRepository;
     private final PlatformTransactionManager transactionManager;
+    private final UserAgentStatsService userAgentStatsService;
+    private final ThreadPoolTaskExecutor tokenEstimationExecutor;
 
     public <T> T execute(AgentExecutionRequest<T> request) {
-        return agentRetryTemplate.execute(context -> {
-            int attempt = context.getRetryCount() + 1;
-            long start = System.nanoTime();
-            try {
-                T result = request.getAction().call();
-                int tokensOutput = countOutputTokens(request, result);
-                saveAgentLog(request, attempt, AgentExecutionStatus.SUCCESS, null, tokensOutput, start);
-                return result;
-            } catch (Exception ex) {
-                RuntimeException classified = classifyException(ex, request.getAgentName());
-                saveAgentLog(request, attempt, AgentExecutionStatus.FAILURE, classified.getMessage(), 0, start);
-                throw classified;
-            }
-        });
+        return executeForPayload(request).value();
+    }
+
+    /**
+     * Like {@link #execute}, but returns the result together with the JSON that was
+     * produced for output token counting, so the next agent can reuse it.
+     * The JSON is null when the request has no output serializer.
+     */
+    public <T> AgentPayload<T> executeForPayload(AgentExecutionRequest<T> request) {
+        // Every attempt sends the same input, so it is estimated once, while the first call runs
+        CompletableFuture<Integer> inputTokenEstimate = startInputTokenEstimate(request);
+        try {
+            return agentRetryTemplate.execute(context -> {
+                int attempt = context.getRetryCount() + 1;
+                long start = System.nanoTime();
+                LlmUsageRecorder.begin();
+                try {
+                    T result = request.getAction().call();
+                    AgentPayload<T> payload = toPayload(request, result);
+                    LlmUsageRecorder.Recording usage = LlmUsageRecorder.end();
+                    saveAgentLog(
+                            request,
+                            attempt,
+                            AgentExecutionStatus.SUCCESS,
+                            null,
+                            inputTokens(usage, inputTokenEstimate),
+                            outputTokens(payload, usage),
+                            start
+                    );
+                    return payload;
+                } catch (Exception ex) {
+                    LlmUsageRecorder.Recording usage = LlmUsageRecorder.end();
+                    RuntimeException classified = classifyException(ex, request.getAgentName());
+                    saveAgentLog(
+                            request,
+                            attempt,
+                            AgentExecutionStatus.FAILURE,
+                            classified.getMessage(),
+                            inputTokens(usage, inputTokenEstimate),
+                            0,
+                            start
+                    );
+                    throw classified;
+                }
+            });
+        } finally {
+            // Unused when every attempt had provider usage; skipped if it has not started yet
+            inputTokenEstimate.cancel(false);
+        }
+    }
+
+    /**
+     * Records a cache lookup that replaced (hit) or preceded (miss) an agent call,
+     * so cache effectiveness is visible alongside the agent runs. The rollups skip
+     * these rows (see {@link UserAgentStatsService#JD_CACHE_LOOKUP_AGENT_NAME}).
+     */
+    public void recordCacheLookup(String cacheName, User user, boolean hit, String detail, long startNanoTime) {
+        AgentExecutionRequest<Object> request = AgentExecutionRequest.builder()
+                .agentName(cacheName)
+                .user(user)
+                .inputSnapshot((hit ? "HIT " : "MISS ") + detail)
+                .build();
+        saveAgentLog(request, 1, AgentExecutionStatus.SUCCESS, null, null, 0, startNanoTime);
+    }
+
+    /**
+     * Prefers the provider-reported prompt tokens; otherwise uses the local BPE
+     * estimate, which has normally finished while the model was generating.
+     */
+    private Integer inputTokens(LlmUsageRecorder.Recording usage, CompletableFuture<Integer> inputTokenEstimate) {
+        if (usage.getPromptTokens() != null) {
+            return usage.getPromptTokens();
+        }
+        return inputTokenEstimate.join();
+    }
+
+    /**
+     * Starts the local input token estimate on the estimation pool.
+     * If the pool is saturated the estimate runs here instead, so no log loses its count.
+     */
+    private CompletableFuture<Integer> startInputTokenEstimate(AgentExecutionRequest<?> request) {
+        if (request.getInputTokenEstimator() == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> estimateInputTokens(request), tokenEstimationExecutor);
+        } catch (TaskRejectedException ex) {
+            return CompletableFuture.completedFuture(estimateInputTokens(request));
+        }
     }
 
-    private <T> int countOutputTokens(AgentExecutionRequest<T> request, T result) throws JsonProcessingException {
+    private Integer estimateInputTokens(AgentExecutionRequest<?> request) {
+        try {
+            return request.getInputTokenEstimator().estimate();
+        } catch (JsonProcessingException | RuntimeException ex) {
+            // Only the agent log's token count is lost, never the agent call
+            log.warn("Input token estimate failed: agent={}", request.getAgentName(), ex);
+            return null;
+        }
+    }
+
+    private int outputTokens(AgentPayload<?> payload, LlmUsageRecorder.Recording usage) throws JsonProcessingException {
+        if (usage.getCompletionTokens() != null) {
+            return usage.getCompletionTokens();
+        }
+        return payload.tokens();
+    }
+
+    private <T> AgentPayload<T> toPayload(AgentExecutionRequest<T> request, T result) throws JsonProcessingException {
         if (request.getOutputSerializer() == null) {
-            return 0;
+            return AgentPayload.of(result, null);
         }
-        String serialized = request.getOutputSerializer().serialize(result);
-        return TokenCounter.countTokens(serialized);
+        return AgentPayload.of(result, request.getOutputSerializer().serialize(result));
     }
 
     private ResumeAgentLog saveAgentLog(
@@ -71,6 +171,7 @@ public class AgentExecutor {
             int attempt,
             AgentExecutionStatus status,
             String errorMessage,
+            Integer tokensInput,
             int tokensOutput,
             long startNanoTime
     ) {
@@ -85,14 +186,18 @@ public class AgentExecutor {
                 .attemptNumber(attempt)
                 .executionTimeMs(executionTimeMs)
                 .errorMessage(errorMessage)
-                .tokensInput(request.getTokensInput())
+                .tokensInput(tokensInput)
                 .tokensOutput(tokensOutput)
                 .inputSnapshot(truncate(request.getInputSnapshot()))
                 .build();
 
         TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
         transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
-        ResumeAgentLog saved = transactionTemplate.execute(statusTx -> resumeAgentLogRepository.save(agentLog));
+        ResumeAgentLog saved = transactionTemplate.execute(statusTx -> {
+            ResumeAgentLog persisted = resumeAgentLogRepository.save(agentLog);
+            userAgentStatsService.recordLog(persisted);
+            return persisted;
+        });
         return saved == null ? agentLog : saved;
     }
 
@@ -170,7 +275,8 @@ public class AgentExecutor {
         private final String agentName;
         private final User user;
         private final Resume resume;
-        private final int tokensInput;
+        // Local fallback, only used when the provider does not report prompt tokens
+        private final TokenEstimator inputTokenEstimator;
         private final String inputSnapshot;
         private final AgentCall<T> action;
         private final AgentOutputSerializer<T> outputSerializer;
@@ -181,6 +287,11 @@ public class AgentExecutor {
         T call() throws Exception;
     }
 
+    @FunctionalInterface
+    public interface TokenEstimator {
+        int estimate() throws JsonProcessingException;
+    }
+
     @FunctionalInterface
     public interface AgentOutputSerializer<T> {
         String serialize(T output) throws JsonProcessingException;
@@ -0,0 +1,74 @@
+package com.resumeagent.ai.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * An agent input/output model together with its JSON form.
+ *
+ * The JSON is produced at most once and then shared by prompt rendering, token
+ * counting and agent log snapshots, instead of each of them calling
+ * writeValueAsString on the same object. Serialization and token counting are
+ * deferred until first use, so resumed generations that skip an agent pay nothing.
+ */
+public final class AgentPayload<T> {
+
+    private final T value;
+    private final ObjectMapper objectMapper;
+    private volatile String json;
+    private volatile int tokens = -1;
+
+    private AgentPayload(T value, ObjectMapper objectMapper, String json) {
+        this.value = value;
+        this.objectMapper = objectMapper;
+        this.json = json;
+    }
+
+    /**
+     * Wraps a value that is serialized with {@code objectMapper} on first use.
+     */
+    public static <T> AgentPayload<T> of(ObjectMapper objectMapper, T value) {
+        return new AgentPayload<>(value, objectMapper, null);
+    }
+
+    /**
+     * Wraps a value whose JSON form has already been produced (null means none).
+     */
+    public static <T> AgentPayload<T> of(T value, String json) {
+        return new AgentPayload<>(value, null, json);
+    }
+
+    public T value() {
+        return value;
+    }
+
+    public String json() throws JsonProcessingException {
+        String serialized = json;
+        if (serialized == null && objectMapper != null) {
+            // Benign race: concurrent callers produce the same string
+            serialized = objectMapper.writeValueAsString(value);
+            json = serialized;
+        }
+        return serialized;
+    }
+
+    /**
+     * Safe variant of {@link #json()} for log snapshots.
+     */
+    public String snapshot() {
+        try {
+            return json();
+        } catch (JsonProcessingException ex) {
+            return null;
+        }
+    }
+
+    public int tokens() throws JsonProcessingException {
+        int count = tokens;
+        if (count < 0) {
+            count = TokenCounter.countTokens(json());
+            tokens = count;
+        }
+        return count;
+    }
+}
@@ -1,27 +1,92 @@
 package com.resumeagent.ai.util;
 
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Loads and compiles the agent prompts from classpath:prompts/.
+ *
+ * All prompts are read and split into {@link PromptTemplate}s once at startup, so
+ * agent calls never touch the jar. With {@code prompts.hot-reload=true} (dev only)
+ * a template is recompiled whenever its file on disk changes.
+ */
 @Component
+@Slf4j
 public class PromptLoader {
 
-    public String load(String promptName) {
+    private static final String PROMPT_DIRECTORY = "prompts/";
+
+    private final boolean hotReload;
+    private final Map<String, LoadedTemplate> templates = new ConcurrentHashMap<>();
+
+    public PromptLoader(@Value("${prompts.hot-reload:false}") boolean hotReload) {
+        this.hotReload = hotReload;
+    }
+
+    @PostConstruct
+    void precompile() {
         try {
-            ClassPathResource resource =
-                    new ClassPathResource("prompts/" + promptName);
+            Resource[] resources = new PathMatchingResourcePatternResolver()
+                    .getResources("classpath*:" + PROMPT_DIRECTORY + "*.prompt");
+            for (Resource resource : resources) {
+                String name = resource.getFilename();
+                if (name != null) {
+                    templates.put(name, compile(name, resource));
+                }
+            }
+            log.info("Precompiled {} prompt templates (hot reload: {})", templates.size(), hotReload);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load prompts from classpath:" + PROMPT_DIRECTORY, e);
+        }
+    }
 
-            return new String(
-                    resource.getInputStream().readAllBytes(),
-                    StandardCharsets.UTF_8
-            );
+    /**
+     * Returns the compiled template for the given prompt file name.
+     */
+    public PromptTemplate template(String promptName) {
+        LoadedTemplate loaded = templates.computeIfAbsent(
+                promptName,
+                name -> compile(name, new ClassPathResource(PROMPT_DIRECTORY + name))
+        );
+        if (hotReload && lastModified(loaded.resource()) != loaded.lastModified()) {
+            loaded = compile(promptName, loaded.resource());
+            templates.put(promptName, loaded);
+            log.info("Reloaded prompt template: {}", promptName);
+        }
+        return loaded.template();
+    }
+
+    private LoadedTemplate compile(String promptName, Resource resource) {
+        try {
+            long lastModified = lastModified(resource);
+            String source = new String(resource.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            return new LoadedTemplate(PromptTemplate.compile(promptName, source), resource, lastModified);
         } catch (IOException e) {
             throw new IllegalStateException(
                     "Failed to load prompt: " + promptName, e
             );
         }
     }
+
+    private long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            // Resources inside a jar have no usable timestamp; they never change anyway
+            return -1L;
+        }
+    }
+
+    private record LoadedTemplate(PromptTemplate template, Resource resource, long lastModified) {
+    }
 }
@@ -0,0 +1,92 @@
+package com.resumeagent.ai.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A prompt pre-split into literal and {{PLACEHOLDER}} segments.
+ *
+ * Rendering writes every segment once into a presized StringBuilder, instead of
+ * chaining String.replace over the full prompt (one full copy per placeholder).
+ * Inserted values are never re-scanned, so a value containing "{{...}}" is safe.
+ */
+public final class PromptTemplate {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{([A-Z0-9_]+)}}");
+
+    private final String name;
+    // literals.length == placeholders.length + 1; literal i precedes placeholder i
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int literalLength;
+
+    private PromptTemplate(String name, String[] literals, String[] placeholders) {
+        this.name = name;
+        this.literals = literals;
+        this.placeholders = placeholders;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static PromptTemplate compile(String name, String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER.matcher(source);
+        int last = 0;
+        while (matcher.find()) {
+            literals.add(source.substring(last, matcher.start()));
+            placeholders.add(matcher.group(1));
+            last = matcher.end();
+        }
+        literals.add(source.substring(last));
+        return new PromptTemplate(
+                name,
+                literals.toArray(String[]::new),
+                placeholders.toArray(String[]::new)
+        );
+    }
+
+    /**
+     * Renders the prompt in a single pass.
+     *
+     * @param values placeholder name (without braces) to value
+     * @throws IllegalArgumentException if a placeholder has no value
+     */
+    public String render(Map<String, String> values) {
+        int capacity = literalLength;
+        String[] resolved = new String[placeholders.length];
+        for (int i = 0; i < placeholders.length; i++) {
+            String value = values.get(placeholders[i]);
+            if (value == null) {
+                throw new IllegalArgumentException(
+                        "Missing value for {{" + placeholders[i] + "}} in prompt: " + name);
+            }
+            resolved[i] = value;
+            capacity += value.length();
+        }
+
+        StringBuilder out = new StringBuilder(capacity);
+        for (int i = 0; i < placeholders.length; i++) {
+            out.append(literals[i]).append(resolved[i]);
+        }
+        out.append(literals[literals.length - 1]);
+        return out.toString();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Set<String> getPlaceholders() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(List.of(placeholders)));
+    }
+}
@@ -0,0 +1,202 @@
+package com.resumeagent.ai.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Incremental parser for streamed agent output.
+ *
+ * Feeds LLM chunks into Jackson's non-blocking parser and reports every top-level
+ * field of the JSON object as soon as its value is complete (e.g. "header", "summary").
+ * Top-level arrays additionally report each element as it completes, so the first
+ * experience block is available before the rest of the list is generated.
+ *
+ * Text before the first '{' (markdown fences, chatter) and after the root object is
+ * ignored. Malformed output only stops partial reporting; the agent still validates
+ * the complete response with ObjectMapper as before.
+ */
+public final class StreamingJsonSectionParser {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamingJsonSectionParser.class);
+
+    private final ObjectMapper objectMapper;
+    private final SectionListener listener;
+
+    private JsonParser parser;
+    private ByteArrayFeeder feeder;
+
+    // Everything fed to the parser, so completed values can be sliced out by offset
+    private byte[] buffer = new byte[8192];
+    private int length;
+    private Character pendingHighSurrogate;
+
+    private int depth;
+    private boolean finished;
+    private String currentField;
+    private boolean topLevelArray;
+    private long valueStart;
+    private long itemStart;
+    private int itemIndex;
+
+    public StreamingJsonSectionParser(ObjectMapper objectMapper, SectionListener listener) {
+        this.objectMapper = objectMapper;
+        this.listener = listener;
+    }
+
+    public void feed(String chunk) {
+        if (finished || chunk == null || chunk.isEmpty()) {
+            return;
+        }
+
+        // Half a surrogate pair cannot be encoded to UTF-8 on its own: hold it for the next chunk
+        if (pendingHighSurrogate != null) {
+            chunk = pendingHighSurrogate + chunk;
+            pendingHighSurrogate = null;
+        }
+        char last = chunk.charAt(chunk.length() - 1);
+        if (Character.isHighSurrogate(last)) {
+            pendingHighSurrogate = last;
+            chunk = chunk.substring(0, chunk.length() - 1);
+            if (chunk.isEmpty()) {
+                return;
+            }
+        }
+
+        try {
+            if (parser == null) {
+                int start = chunk.indexOf('{');
+                if (start == -1) {
+                    return;
+                }
+                chunk = chunk.substring(start);
+                parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+                feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+            }
+
+            byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+            append(bytes);
+            feeder.feedInput(bytes, 0, bytes.length);
+            drainTokens();
+        } catch (IOException | RuntimeException ex) {
+            log.debug("Streaming JSON parse stopped; falling back to full-response parsing", ex);
+            close();
+        }
+    }
+
+    private void drainTokens() throws IOException {
+        JsonToken token;
+        while (!finished && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            // Offset just past the current token; container slices are cut from the raw bytes
+            long tokenEnd = parser.currentLocation().getByteOffset();
+
+            if (token == JsonToken.FIELD_NAME) {
+                if (depth == 1) {
+                    currentField = parser.currentName();
+                }
+                continue;
+            }
+
+            if (token.isStructStart()) {
+                depth++;
+                if (depth == 2) {
+                    valueStart = tokenEnd - 1;
+                    topLevelArray = token == JsonToken.START_ARRAY;
+                    itemIndex = 0;
+                } else if (depth == 3 && topLevelArray) {
+                    itemStart = tokenEnd - 1;
+                }
+                continue;
+            }
+
+            if (token.isStructEnd()) {
+                depth--;
+                if (depth == 0) {
+                    close();
+                } else if (depth == 1) {
+                    emit(currentField, null, readContainer(valueStart, tokenEnd));
+                } else if (depth == 2 && topLevelArray) {
+                    emit(currentField, itemIndex++, readContainer(itemStart, tokenEnd));
+                }
+                continue;
+            }
+
+            if (depth == 1) {
+                emit(currentField, null, readScalar(token));
+            } else if (depth == 2 && topLevelArray) {
+                emit(currentField, itemIndex++, readScalar(token));
+            }
+        }
+    }
+
+    private JsonNode readContainer(long start, long end) throws IOException {
+        return objectMapper.readTree(buffer, (int) start, (int) (end - start));
+    }
+
+    private JsonNode readScalar(JsonToken token) throws IOException {
+        JsonNodeFactory nodes = objectMapper.getNodeFactory();
+        return switch (token) {
+            case VALUE_STRING -> nodes.textNode(parser.getText());
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> nodes.numberNode(parser.getDecimalValue());
+            case VALUE_TRUE -> nodes.booleanNode(true);
+            case VALUE_FALSE -> nodes.booleanNode(false);
+            default -> nodes.nullNode();
+        };
+    }
+
+    private void emit(String section, Integer index, JsonNode value) {
+        if (section != null) {
+            listener.onSection(section, index, value);
+        }
+    }
+
+    private void append(byte[] bytes) {
+        if (length + bytes.length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + bytes.length));
+        }
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+    }
+
+    private void close() {
+        finished = true;
+        if (parser != null) {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // Nothing to release beyond the in-memory buffer
+            }
+        }
+    }
+
+    /**
+     * Receives completed sections of a streamed agent response.
+     */
+    @FunctionalInterface
+    public interface SectionListener {
+        /**
+         * @param section top-level field name, e.g. "summary" or "experience"
+         * @param index   element index for top-level arrays, null for the whole field value
+         * @param value   the completed value
+         */
+        void onSection(String section, Integer index, JsonNode value);
+
+        /**
+         * A model is about to start streaming: every section reported so far (by a model
+         * that failed over, or by an earlier attempt of the whole call) is void and will
+         * be reported again. Called before every attempt, so a listener that reported
+         * nothing since the last reset should ignore it.
+         */
+        default void onReset() {
+        }
+    }
+}
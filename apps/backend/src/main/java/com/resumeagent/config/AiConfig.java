@@ -2,8 +2,11 @@ package com.resumeagent.config;
 
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.Map;
 
@@ -21,4 +24,35 @@ public class AiConfig {
                 )
                 .build();
     }
+
+    /**
+     * Executor for individual (possibly hedged) LLM calls.
+     * Threads only wait on HTTP, so one thread per call is fine; the
+     * concurrency limit throttles callers once the cap is reached.
+     */
+    @Bean
+    SimpleAsyncTaskExecutor llmRequestExecutor(
+            LlmProperties llmProperties,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("llm-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setConcurrencyLimit(llmProperties.getMaxConcurrentRequests());
+        return executor;
+    }
+
+    /**
+     * Bounded pool for local (BPE) prompt token estimates, so the CPU work
+     * overlaps the LLM call instead of following it on the request thread.
+     */
+    @Bean
+    ThreadPoolTaskExecutor tokenEstimationExecutor(LlmProperties llmProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(llmProperties.getTokenEstimationPoolSize());
+        executor.setMaxPoolSize(llmProperties.getTokenEstimationPoolSize());
+        executor.setQueueCapacity(llmProperties.getTokenEstimationQueueCapacity());
+        executor.setThreadNamePrefix("token-estimate-");
+        executor.initialize();
+        return executor;
+    }
 }
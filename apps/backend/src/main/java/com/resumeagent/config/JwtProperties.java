@@ -8,6 +8,7 @@ import org.springframework.validation.annotation.Validated;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 
 /**
  * JWT Configuration Properties
@@ -139,4 +140,35 @@ public class JwtProperties {
      * Set to ".yourdomain.com" for subdomain sharing
      */
     private String cookieDomain = null;
+
+    // -------------------------------------------------------------------------
+    // Authenticated Principal Cache
+    // -------------------------------------------------------------------------
+
+    /**
+     * How long a loaded UserDetails is reused by JwtAuthenticationFilter
+     * before it is loaded from the database again
+     * 
+     * Recommended: 30 seconds (30000ms)
+     * 
+     * Account changes made through this service (deactivation, password reset,
+     * email verification) evict the entry immediately; the TTL only bounds
+     * staleness for changes made elsewhere (e.g. another instance, manual SQL).
+     * Set to 0 to disable caching and load on every request.
+     */
+    @PositiveOrZero(message = "UserDetails cache TTL must not be negative")
+    private long userDetailsCacheTtlMs = 30000; // 30 seconds
+
+    /**
+     * Maximum number of cached principals
+     */
+    @Positive(message = "UserDetails cache max entries must be positive")
+    private long userDetailsCacheMaxEntries = 10000;
+
+    /**
+     * Maximum number of verified tokens kept by JwtTokenProvider
+     * Entries expire at the token's own exp claim
+     */
+    @Positive(message = "Verified token cache max entries must be positive")
+    private long verifiedTokenCacheMaxEntries = 10000;
 }
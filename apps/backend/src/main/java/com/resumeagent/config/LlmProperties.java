@@ -0,0 +1,113 @@
+package com.resumeagent.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * LLM Client Configuration Properties
+ *
+ * Tunes how LlmClient races the fallback model list ("hedged requests"):
+ * the first models start immediately, further models start whenever the
+ * in-flight ones fail, time out, or stay silent for the hedge delay.
+ * The first valid response wins and the remaining calls are cancelled.
+ *
+ * Candidate order comes from ModelHealthRegistry, which ranks models by observed
+ * latency and success rate and skips models whose circuit breaker is open.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "llm")
+@Validated
+@Getter
+@Setter
+public class LlmProperties {
+
+    /**
+     * Number of models started concurrently at the beginning of a call.
+     * 1 keeps the classic sequential fallback behaviour (plus hedging).
+     */
+    @Positive(message = "LLM initial fan-out must be positive")
+    private int initialFanOut = 1;
+
+    /**
+     * Upper bound of models racing at the same time for one call.
+     */
+    @Positive(message = "LLM max in-flight models must be positive")
+    private int maxInFlight = 3;
+
+    /**
+     * Delay after the last launch before the next model is started as a hedge
+     * while the in-flight ones are still running. 0 disables hedging.
+     */
+    @PositiveOrZero(message = "LLM hedge delay must not be negative")
+    private long hedgeDelayMs = 15000;
+
+    /**
+     * Per-model timeout; a model still running after this is cancelled
+     * and treated as failed.
+     */
+    @Positive(message = "LLM model timeout must be positive")
+    private long modelTimeoutMs = 90000;
+
+    /**
+     * Maximum number of concurrent LLM HTTP calls across all generations.
+     * Further calls wait for a free slot.
+     */
+    @Positive(message = "LLM max concurrent requests must be positive")
+    private int maxConcurrentRequests = 64;
+
+    /**
+     * Workers computing the local prompt token estimate while the model call runs.
+     * The estimate is only logged when the provider does not report usage.
+     */
+    @Positive(message = "LLM token estimation pool size must be positive")
+    private int tokenEstimationPoolSize = 2;
+
+    /**
+     * Estimates waiting for a worker; beyond this they run on the calling thread.
+     */
+    @PositiveOrZero(message = "LLM token estimation queue capacity must not be negative")
+    private int tokenEstimationQueueCapacity = 200;
+
+    /**
+     * Stream agent responses and publish completed JSON sections over WebSocket
+     * while the model is still generating. Streaming calls are not hedged.
+     */
+    private boolean streamingEnabled = false;
+
+    // -------------------------------------------------------------------------
+    // Model Health / Circuit Breaker
+    // -------------------------------------------------------------------------
+
+    /**
+     * Smoothing factor for the per-model latency and error-rate EWMAs (0..1].
+     * Higher values react faster to recent calls.
+     */
+    @Positive(message = "LLM EWMA alpha must be positive")
+    @DecimalMax(value = "1.0", message = "LLM EWMA alpha must not exceed 1.0")
+    private double ewmaAlpha = 0.3;
+
+    /**
+     * Assumed latency for models without any recorded call yet.
+     */
+    @Positive(message = "LLM default latency must be positive")
+    private long defaultLatencyMs = 20000;
+
+    /**
+     * Consecutive failures after which a model's circuit opens.
+     * A 429 (rate limited) response opens it immediately.
+     */
+    @Positive(message = "LLM circuit failure threshold must be positive")
+    private int circuitFailureThreshold = 3;
+
+    /**
+     * Cool-down before an open circuit allows a single half-open probe call.
+     */
+    @Positive(message = "LLM circuit open duration must be positive")
+    private long circuitOpenMs = 60000;
+}
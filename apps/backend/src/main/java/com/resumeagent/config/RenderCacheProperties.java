@@ -0,0 +1,40 @@
+package com.resumeagent.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Rendered Document Cache Configuration Properties
+ *
+ * Controls the two-tier (memory + disk) cache of rendered resume documents,
+ * keyed by resume id, template and resume content hash.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "render.cache")
+@Validated
+@Getter
+@Setter
+public class RenderCacheProperties {
+
+    /**
+     * Cache rendered documents. When false every download re-renders.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Upper bound on the total size of documents held in memory (default: 64 MB).
+     */
+    @Positive(message = "Render cache memory max bytes must be positive")
+    private long memoryMaxBytes = 67108864L;
+
+    /**
+     * Directory of the disk tier; blank disables it.
+     * Its rendered-documents subdirectory is cleared on startup, so documents
+     * rendered by a previous build are never served.
+     */
+    private String diskDirectory = "";
+}
@@ -0,0 +1,30 @@
+package com.resumeagent.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class RenderExecutorConfig {
+
+    private final RenderPoolProperties renderPoolProperties;
+
+    /**
+     * Bounded worker pool for document (PDF) rendering.
+     * A full queue rejects the task, which callers turn into 429.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor documentRenderExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(renderPoolProperties.getWorkerPoolSize());
+        executor.setMaxPoolSize(renderPoolProperties.getWorkerPoolSize());
+        executor.setQueueCapacity(renderPoolProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("doc-render-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
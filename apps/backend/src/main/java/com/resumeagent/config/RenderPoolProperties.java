@@ -0,0 +1,36 @@
+package com.resumeagent.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Document Render Pool Configuration Properties
+ *
+ * Controls the bounded worker pool that renders PDF resumes, so CPU-heavy
+ * layout work never runs on (or starves) the servlet request threads.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "render.pool")
+@Validated
+@Getter
+@Setter
+public class RenderPoolProperties {
+
+    /**
+     * Number of render worker threads.
+     * Rendering is CPU-bound, so keep this at or below the number of cores.
+     */
+    @Positive(message = "Render worker pool size must be positive")
+    private int workerPoolSize = 2;
+
+    /**
+     * Maximum number of renders waiting for a free worker.
+     * Requests beyond this are rejected with 429 instead of queueing without bound.
+     */
+    @Positive(message = "Render queue capacity must be positive")
+    private int queueCapacity = 20;
+}
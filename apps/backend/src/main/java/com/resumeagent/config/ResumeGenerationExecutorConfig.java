@@ -0,0 +1,35 @@
+package com.resumeagent.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class ResumeGenerationExecutorConfig {
+
+    private final ResumeGenerationProperties resumeGenerationProperties;
+
+    /**
+     * Bounded worker pool for queued resume generations.
+     * Keeps long-running LLM chains off the servlet request threads.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor resumeGenerationExecutor() {
+        // Virtual workers are cheap, so that mode gets its own (larger) concurrency limit
+        int poolSize = resumeGenerationProperties.isVirtualThreads()
+                ? resumeGenerationProperties.getVirtualThreadConcurrency()
+                : resumeGenerationProperties.getWorkerPoolSize();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(resumeGenerationProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("resume-gen-");
+        executor.setVirtualThreads(resumeGenerationProperties.isVirtualThreads());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
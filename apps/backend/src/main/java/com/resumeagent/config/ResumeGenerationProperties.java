@@ -0,0 +1,86 @@
+package com.resumeagent.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Resume Generation Configuration Properties
+ *
+ * Controls the queued (asynchronous) generation mode, where the HTTP request only
+ * persists a PENDING generation and a bounded worker pool runs the agent chain.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "resume.generation")
+@Validated
+@Getter
+@Setter
+public class ResumeGenerationProperties {
+
+    /**
+     * Number of worker threads draining the generation queue.
+     * Each worker holds one full agent chain (JD analyzer -> matching -> rewrite -> ATS).
+     */
+    @Positive(message = "Generation worker pool size must be positive")
+    private int workerPoolSize = 4;
+
+    /**
+     * Maximum number of generations waiting for a free worker.
+     * Submissions beyond this are rejected with 429 instead of piling up in memory.
+     */
+    @Positive(message = "Generation queue capacity must be positive")
+    private int queueCapacity = 100;
+
+    /**
+     * Run generation workers on virtual threads instead of platform threads.
+     *
+     * Workers spend almost all their time blocked on LLM HTTP calls and retry
+     * backoff sleeps, so virtual threads let the pool be sized in the hundreds
+     * without one OS thread per in-flight generation. Agent code never holds a
+     * monitor or a transaction across the LLM call (TransactionTemplate blocks
+     * only wrap short repository writes), so carriers are not pinned while waiting.
+     */
+    private boolean virtualThreads = false;
+
+    /**
+     * Maximum number of generations running at once when virtual threads are enabled.
+     * Replaces workerPoolSize as the concurrency limit in that mode; still bounded,
+     * since every running chain adds load on the LLM provider and the connection pool.
+     */
+    @Positive(message = "Generation virtual thread concurrency must be positive")
+    private int virtualThreadConcurrency = 64;
+
+    /**
+     * How recently an in-progress generation must have been updated to be re-queued
+     * on startup (default: 15 minutes). Older ones are marked FAILED instead: their
+     * user has long since stopped waiting, and re-running them would only compete
+     * with new submissions for the queue.
+     */
+    @Positive(message = "Generation recovery window must be positive")
+    private long recoveryWindowMs = 900000;
+
+    // -------------------------------------------------------------------------
+    // Job Description Analysis Cache
+    // -------------------------------------------------------------------------
+
+    /**
+     * Maximum number of analyzed job descriptions kept in memory.
+     */
+    @Positive(message = "JD cache max entries must be positive")
+    private long jdCacheMaxEntries = 1000;
+
+    /**
+     * Time-to-live of in-memory JD analysis entries (default: 6 hours).
+     */
+    @Positive(message = "JD cache TTL must be positive")
+    private long jdCacheTtlMs = 21600000;
+
+    /**
+     * Age after which persisted JD analyses are re-analyzed (default: 30 days).
+     */
+    @Positive(message = "JD persistent cache TTL must be positive")
+    private long jdCachePersistentTtlMs = 2592000000L;
+}
@@ -26,6 +26,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.List;
 
@@ -118,6 +119,10 @@ public class SecurityConfig {
 
                 // Authorization Rules
                 .authorizeHttpRequests(auth -> auth
+                        // Completion of an already-authorized streamed response (StreamingResponseBody);
+                        // the stateless JWT context is not carried into the async dispatch
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Public endpoints (no authentication required)
                         .requestMatchers(
                                 "/auth/login",
@@ -132,6 +137,9 @@ public class SecurityConfig {
                         // Admin endpoints (role-based)
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
 
+                        // Operational metrics (token cleanup, etc.)
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         // All other endpoints require authentication
                         .anyRequest().authenticated())
 
@@ -0,0 +1,56 @@
+package com.resumeagent.config;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Token Cleanup Configuration Properties
+ *
+ * Controls the scheduled purge of expired refresh, email verification and
+ * password reset tokens (see TokenCleanupService).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "maintenance.token-cleanup")
+@Validated
+@Getter
+@Setter
+public class TokenCleanupProperties {
+
+    /**
+     * Enable the scheduled cleanup job.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Spring cron expression for the cleanup run (default: daily at 03:00).
+     */
+    @NotBlank(message = "Token cleanup cron must not be blank")
+    private String cron = "0 0 3 * * *";
+
+    /**
+     * Maximum rows deleted per statement (and per transaction).
+     * Small batches keep row locks and WAL bursts short.
+     */
+    @Positive(message = "Token cleanup batch size must be positive")
+    private int batchSize = 1000;
+
+    /**
+     * Upper bound on batches per table per run, so a huge backlog is worked
+     * off over several runs instead of one long one.
+     */
+    @Positive(message = "Token cleanup max batches must be positive")
+    private int maxBatchesPerRun = 500;
+
+    /**
+     * How long expired tokens are kept before purging (default: 1 day), so users
+     * clicking an old link still get "expired" rather than "not found".
+     */
+    @PositiveOrZero(message = "Token cleanup grace period must not be negative")
+    private long expiredGraceMs = 86400000;
+}
@@ -0,0 +1,44 @@
+package com.resumeagent.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Spring MVC Async Request Configuration Properties
+ *
+ * Controls the bounded pool that runs async handler bodies, i.e. the
+ * StreamingResponseBody writers behind document downloads, and how long an
+ * async request may take before it is timed out.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "web.async")
+@Validated
+@Getter
+@Setter
+public class WebAsyncProperties {
+
+    /**
+     * Number of threads writing async response bodies.
+     * Each in-flight download holds one thread until the client has read it.
+     */
+    @Positive(message = "Web async worker pool size must be positive")
+    private int workerPoolSize = 8;
+
+    /**
+     * Maximum number of async bodies waiting for a free thread.
+     * Requests beyond this fail fast with 429 instead of spawning new threads.
+     */
+    @Positive(message = "Web async queue capacity must be positive")
+    private int queueCapacity = 50;
+
+    /**
+     * Async request timeout in milliseconds.
+     * Bounds how long a slow client can hold a writer thread.
+     */
+    @Positive(message = "Web async timeout must be positive")
+    private long timeoutMs = 60000;
+}
@@ -0,0 +1,40 @@
+package com.resumeagent.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcAsyncConfig implements WebMvcConfigurer {
+
+    private final WebAsyncProperties webAsyncProperties;
+
+    /**
+     * Bounded pool for MVC async handlers (StreamingResponseBody downloads).
+     * The other ThreadPoolTaskExecutor beans stop Boot from creating its
+     * applicationTaskExecutor, so without this MVC would fall back to an
+     * unbounded SimpleAsyncTaskExecutor.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor mvcAsyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(webAsyncProperties.getWorkerPoolSize());
+        executor.setMaxPoolSize(webAsyncProperties.getWorkerPoolSize());
+        executor.setQueueCapacity(webAsyncProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcAsyncExecutor());
+        configurer.setDefaultTimeout(webAsyncProperties.getTimeoutMs());
+    }
+}
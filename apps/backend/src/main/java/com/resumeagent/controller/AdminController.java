@@ -2,6 +2,7 @@ package com.resumeagent.controller;
 
 import com.resumeagent.dto.request.RegisterAdminAndUserRequest;
 import com.resumeagent.dto.response.AdminUserActivitySummaryResponse;
+import com.resumeagent.dto.response.AdminUserCursorListResponse;
 import com.resumeagent.dto.response.AdminUserListResponse;
 import com.resumeagent.dto.response.AdminUsersDashboard;
 import com.resumeagent.dto.response.CommonResponse;
@@ -67,6 +68,20 @@ public class AdminController {
         return adminService.listUsers(pageable);
     }
 
+    /**
+     * List all users with role USER/ADMIN (cursor-paginated, newest first).
+     * Endpoint: GET /api/admin/users/cursor
+     */
+    @GetMapping(value = "/users/cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public AdminUserCursorListResponse listUsersByCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal
+    ) {
+        return adminService.listUsersByCursor(cursor, size, includeTotal);
+    }
+
     /**
      * Admin users dashboard stats.
      * Endpoint: GET /api/admin/users/dashboard
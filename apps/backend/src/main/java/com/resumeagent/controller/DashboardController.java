@@ -5,14 +5,23 @@ import com.resumeagent.dto.dashboard.AnalyticsAIExecutionStatusResponse;
 import com.resumeagent.dto.dashboard.AnalyticsChartInputOutputTokensListResponse;
 import com.resumeagent.dto.dashboard.AnalyticsMetricsStatsResponse;
 import com.resumeagent.dto.dashboard.AnalyticsOverviewStatsResponse;
+import com.resumeagent.dto.dashboard.AnalyticsSummaryResponse;
+import com.resumeagent.dto.dashboard.TokenUsageGranularity;
 import com.resumeagent.service.DashboardService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/api/dashboard")
@@ -21,6 +30,28 @@ public class DashboardController {
 
     private final DashboardService dashboardService;
 
+    /**
+     * All analytics cards in one round trip. Clients revalidate with If-None-Match
+     * and get 304 without a body while the dashboard is unchanged.
+     */
+    @GetMapping("/analytics/summary")
+    public ResponseEntity<AnalyticsSummaryResponse> getAnalyticsSummary(
+            Authentication authentication,
+            WebRequest webRequest
+    ) {
+        String email = authentication.getName();
+        AnalyticsSummaryResponse summary = dashboardService.getAnalyticsSummary(email);
+        String eTag = dashboardService.summaryETag(summary);
+
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(summary);
+    }
+
     @GetMapping("/analytics/overview")
     @ResponseStatus(HttpStatus.OK)
     public AnalyticsOverviewStatsResponse getAnalyticsOverviewStats(Authentication authentication) {
@@ -37,9 +68,14 @@ public class DashboardController {
 
     @GetMapping(value = "/analytics/chart/input-output-tokens")
     @ResponseStatus(HttpStatus.OK)
-    public AnalyticsChartInputOutputTokensListResponse getInputOutputTokensChart(Authentication authentication) {
+    public AnalyticsChartInputOutputTokensListResponse getInputOutputTokensChart(
+            Authentication authentication,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "granularity", defaultValue = "DAY") TokenUsageGranularity granularity
+    ) {
         String email = authentication.getName();
-        return dashboardService.getAnalyticsChartInputOutputTokens(email);
+        return dashboardService.getAnalyticsChartInputOutputTokens(email, from, to, granularity);
     }
 
     @GetMapping(value = "/analytics/agent-execution-time")
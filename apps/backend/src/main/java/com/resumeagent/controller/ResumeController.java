@@ -4,6 +4,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.resumeagent.dto.request.CreateAndUpdateMasterResume;
 import com.resumeagent.dto.response.CommonResponse;
 import com.resumeagent.dto.response.MasterResumeResponse;
+import com.resumeagent.dto.response.ResumeCursorListResponse;
+import com.resumeagent.dto.response.ResumeGenerationStatusResponse;
 import com.resumeagent.dto.response.ResumeListResponse;
 import com.resumeagent.service.ResumeService;
 import jakarta.validation.Valid;
@@ -11,13 +13,16 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping(value = "/api/resume")
@@ -30,10 +35,38 @@ public class ResumeController {
     @ResponseStatus(HttpStatus.CREATED)
     public CommonResponse generateResume(
             Authentication authentication,
-            @RequestPart("jobDescription") String jobDescription) throws JsonProcessingException {
+            @RequestPart("jobDescription") String jobDescription,
+            @RequestParam(name = "forceFresh", defaultValue = "false") boolean forceFresh) throws JsonProcessingException {
 
         String email = authentication.getName();
-        return resumeService.generateResume(jobDescription, email);
+        return resumeService.generateResume(jobDescription, email, forceFresh);
+    }
+
+    /**
+     * Queues a resume generation and returns immediately.
+     * {@code forceFresh=true} bypasses memoized outputs and re-runs every agent.
+     * Progress is published on /topic/resume-status/{userId}; poll
+     * /generation/{id}/status for the final state.
+     */
+    @PostMapping(value = "/generate/async", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ResumeGenerationStatusResponse generateResumeAsync(
+            Authentication authentication,
+            @RequestPart("jobDescription") String jobDescription,
+            @RequestParam(name = "forceFresh", defaultValue = "false") boolean forceFresh) {
+
+        String email = authentication.getName();
+        return resumeService.enqueueResumeGeneration(jobDescription, email, forceFresh);
+    }
+
+    @GetMapping(value = "/generation/{id}/status")
+    @ResponseStatus(HttpStatus.OK)
+    public ResumeGenerationStatusResponse generationStatus(
+            Authentication authentication,
+            @PathVariable UUID id) {
+
+        String email = authentication.getName();
+        return resumeService.getGenerationStatus(email, id);
     }
 
     @GetMapping(value = "/list/all")
@@ -46,6 +79,22 @@ public class ResumeController {
         return resumeService.getResumeList(email, pageable);
     }
 
+    /**
+     * Cursor-paginated resume list (newest first). Pass nextCursor from the
+     * previous response to continue; the total is counted only with includeTotal=true.
+     */
+    @GetMapping(value = "/list")
+    @ResponseStatus(HttpStatus.OK)
+    public ResumeCursorListResponse resumeListByCursor(
+            Authentication authentication,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal
+    ) {
+        String email = authentication.getName();
+        return resumeService.getResumeListByCursor(email, cursor, size, includeTotal);
+    }
+
     @PutMapping(value = "/update/{id}")
     @ResponseStatus(HttpStatus.OK)
     public CommonResponse updateMasterResume(
@@ -82,15 +131,17 @@ public class ResumeController {
      * Resume Template: Blue
      * @param authentication The authenticated user
      * @param id             The UUID of the resume to download
-     * @return ResponseEntity containing the DOCX file bytes
+     * @param ifNoneMatch    ETag of a copy the client already has
+     * @return ResponseEntity streaming the DOCX file, or 304 if unchanged
      */
     @GetMapping("/{id}/blue/download")
-    public ResponseEntity<byte[]> downloadResumeBlue(
+    public ResponseEntity<StreamingResponseBody> downloadResumeBlue(
             Authentication authentication,
-            @PathVariable UUID id) {
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         String email = authentication.getName();
 
-        return resumeService.downloadResumeBlue(email, id);
+        return resumeService.downloadResumeBlue(email, id, ifNoneMatch);
     }
 
     /**
@@ -98,15 +149,37 @@ public class ResumeController {
      * Resume Template: Green
      * @param authentication The authenticated user
      * @param id             The UUID of the resume to download
-     * @return ResponseEntity containing the DOCX file bytes
+     * @param ifNoneMatch    ETag of a copy the client already has
+     * @return ResponseEntity streaming the DOCX file, or 304 if unchanged
      */
     @GetMapping("/{id}/green/download")
-    public ResponseEntity<byte[]> downloadResumeGreen(
+    public ResponseEntity<StreamingResponseBody> downloadResumeGreen(
             Authentication authentication,
-            @PathVariable UUID id) {
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String email = authentication.getName();
+
+        return resumeService.downloadResumeGreen(email, id, ifNoneMatch);
+    }
+
+    /**
+     * Downloads a resume as a PDF file.
+     * Rendered on the bounded render pool; 429 when the pool is saturated.
+     * @param authentication The authenticated user
+     * @param id             The UUID of the resume to download
+     * @param template       Resume template ("blue" or "green")
+     * @param ifNoneMatch    ETag of a copy the client already has
+     * @return ResponseEntity streaming the PDF file, or 304 if unchanged
+     */
+    @GetMapping("/{id}/{template}/pdf")
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> downloadResumePdf(
+            Authentication authentication,
+            @PathVariable UUID id,
+            @PathVariable String template,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         String email = authentication.getName();
 
-        return resumeService.downloadResumeGreen(email, id);
+        return resumeService.downloadResumePdf(email, id, template, ifNoneMatch);
     }
 
 }
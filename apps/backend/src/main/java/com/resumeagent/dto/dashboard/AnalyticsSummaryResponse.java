@@ -0,0 +1,18 @@
+package com.resumeagent.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AnalyticsSummaryResponse {
+    private AnalyticsOverviewStatsResponse overview;
+    private AnalyticsMetricsStatsResponse metrics;
+    private AnalyticsChartInputOutputTokensListResponse inputOutputTokens;
+    private AnalyticsAverageAgentExecutionTimeResponse agentExecutionTime;
+    private AnalyticsAIExecutionStatusResponse aiExecutionStatus;
+}
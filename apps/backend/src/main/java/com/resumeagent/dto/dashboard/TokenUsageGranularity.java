@@ -0,0 +1,43 @@
+package com.resumeagent.dto.dashboard;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Bucket size of the token usage chart. Weeks start on Monday (ISO, as date_trunc).
+ */
+public enum TokenUsageGranularity {
+    DAY("day"),
+    WEEK("week"),
+    MONTH("month");
+
+    private final String dateTruncUnit;
+
+    TokenUsageGranularity(String dateTruncUnit) {
+        this.dateTruncUnit = dateTruncUnit;
+    }
+
+    public String getDateTruncUnit() {
+        return dateTruncUnit;
+    }
+
+    /**
+     * @return the first day of the bucket containing {@code day}
+     */
+    public LocalDate bucketStart(LocalDate day) {
+        return switch (this) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    public LocalDate nextBucket(LocalDate bucketStart) {
+        return switch (this) {
+            case DAY -> bucketStart.plusDays(1);
+            case WEEK -> bucketStart.plusWeeks(1);
+            case MONTH -> bucketStart.plusMonths(1);
+        };
+    }
+}
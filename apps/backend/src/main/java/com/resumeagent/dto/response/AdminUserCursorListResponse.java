@@ -0,0 +1,26 @@
+package com.resumeagent.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminUserCursorListResponse {
+    private List<AdminUserListItemResponse> items;
+    private int size;
+    /**
+     * Opaque token for the next page; null on the last page.
+     */
+    private String nextCursor;
+    private boolean hasNext;
+    /**
+     * Only computed when requested with includeTotal=true.
+     */
+    private Long totalElements;
+}
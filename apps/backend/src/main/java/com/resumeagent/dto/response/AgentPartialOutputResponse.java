@@ -0,0 +1,19 @@
+package com.resumeagent.dto.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgentPartialOutputResponse {
+    private String agentName;
+    private String section; // top-level field, e.g. header | summary | experience
+    private Integer index;  // element index for list sections, null for the whole section
+    private JsonNode value;
+    private boolean reset;  // true: drop this agent's sections so far, a fallback model starts over
+}
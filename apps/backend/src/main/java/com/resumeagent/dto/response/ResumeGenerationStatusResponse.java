@@ -0,0 +1,22 @@
+package com.resumeagent.dto.response;
+
+import com.resumeagent.entity.enums.ResumeGenerationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeGenerationStatusResponse {
+    private String generationId;
+    private ResumeGenerationStatus status;
+    private String resumeId;
+    private String jobTitle;
+    private String companyName;
+    private String failureReason;
+    private String createdAt;
+    private String updatedAt;
+}
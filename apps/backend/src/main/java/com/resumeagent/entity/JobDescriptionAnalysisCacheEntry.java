@@ -0,0 +1,55 @@
+package com.resumeagent.entity;
+
+import com.resumeagent.entity.model.JobDescriptionAnalyzerJson;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Persistent tier of the JD analysis cache.
+ * Maps to table: job_description_analysis_cache
+ */
+@Entity
+@Table(
+        name = "job_description_analysis_cache",
+        indexes = {
+                @Index(name = "idx_jd_analysis_cache_created_at", columnList = "created_at")
+        }
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "jdHash")
+@ToString(exclude = "analysisJson")
+public class JobDescriptionAnalysisCacheEntry implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * SHA-256 (hex) of the normalized job description text.
+     */
+    @Id
+    @Column(name = "jd_hash", nullable = false, updatable = false, length = 64)
+    private String jdHash;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "analysis_json", nullable = false, columnDefinition = "jsonb")
+    private JobDescriptionAnalyzerJson analysisJson;
+
+    @Column(name = "hit_count", nullable = false)
+    private long hitCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "last_hit_at")
+    private Instant lastHitAt;
+}
@@ -85,6 +85,25 @@ public class ResumeGeneration implements Serializable {
     @Column(name = "company_targeted", length = 150)
     private String companyTargeted;
 
+    /**
+     * SHA-256 of the master resume JSON this generation was run against.
+     */
+    @Column(name = "master_resume_fingerprint", length = 64)
+    private String masterResumeFingerprint;
+
+    /**
+     * SHA-256 of the normalized job description (see JobDescriptionAnalysisCacheService#hash).
+     */
+    @Column(name = "jd_hash", length = 64)
+    private String jdHash;
+
+    /**
+     * Requested with forceFresh: bypasses the memo and the JD analysis cache,
+     * including when the generation is recovered after a restart.
+     */
+    @Column(name = "force_fresh", nullable = false)
+    private boolean forceFresh;
+
     @Column(name = "failure_reason", columnDefinition = "text")
     private String failureReason;
 
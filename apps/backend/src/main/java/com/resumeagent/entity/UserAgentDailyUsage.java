@@ -0,0 +1,69 @@
+package com.resumeagent.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Per-user, per-day, per-agent usage bucket for dashboard time series.
+ * Maps to table: user_agent_daily_usage
+ *
+ * Maintained by UserAgentStatsService on every agent log insert.
+ */
+@Entity
+@Table(name = "user_agent_daily_usage")
+@IdClass(UserAgentDailyUsage.Key.class)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = {"userId", "day", "agentName"})
+@ToString
+public class UserAgentDailyUsage implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Id
+    @Column(name = "day", nullable = false, updatable = false)
+    private LocalDate day;
+
+    @Id
+    @Column(name = "agent_name", nullable = false, updatable = false, length = 100)
+    private String agentName;
+
+    @Column(name = "input_tokens", nullable = false)
+    private long inputTokens;
+
+    @Column(name = "output_tokens", nullable = false)
+    private long outputTokens;
+
+    @Column(name = "execution_count", nullable = false)
+    private long executionCount;
+
+    @Column(name = "execution_time_sum_ms", nullable = false)
+    private long executionTimeSumMs;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private UUID userId;
+        private LocalDate day;
+        private String agentName;
+    }
+}
@@ -0,0 +1,59 @@
+package com.resumeagent.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Per-user, per-agent execution time totals for the dashboard.
+ * Maps to table: user_agent_execution_stats
+ */
+@Entity
+@Table(name = "user_agent_execution_stats")
+@IdClass(UserAgentExecutionStats.Key.class)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = {"userId", "agentName"})
+@ToString
+public class UserAgentExecutionStats implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Id
+    @Column(name = "agent_name", nullable = false, updatable = false, length = 100)
+    private String agentName;
+
+    @Column(name = "execution_count", nullable = false)
+    private long executionCount;
+
+    @Column(name = "execution_time_sum_ms", nullable = false)
+    private long executionTimeSumMs;
+
+    public double averageExecutionTimeMs() {
+        return executionCount == 0 ? 0 : (double) executionTimeSumMs / executionCount;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private UUID userId;
+        private String agentName;
+    }
+}
@@ -0,0 +1,66 @@
+package com.resumeagent.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Per-user rollup of resume_agent_logs for the dashboard.
+ * Maps to table: user_agent_stats
+ *
+ * Maintained by UserAgentStatsService on every agent log insert; never written
+ * through JPA dirty checking.
+ */
+@Entity
+@Table(name = "user_agent_stats")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "userId")
+@ToString
+public class UserAgentStats implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "total_count", nullable = false)
+    private long totalCount;
+
+    @Column(name = "success_count", nullable = false)
+    private long successCount;
+
+    @Column(name = "failure_count", nullable = false)
+    private long failureCount;
+
+    @Column(name = "partial_count", nullable = false)
+    private long partialCount;
+
+    /**
+     * Input + output tokens of non-FAILURE executions.
+     */
+    @Column(name = "total_tokens", nullable = false)
+    private long totalTokens;
+
+    /**
+     * First day of the month that {@link #monthTokens} belongs to.
+     */
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Column(name = "month_tokens", nullable = false)
+    private long monthTokens;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -4,6 +4,7 @@ import com.resumeagent.dto.response.CommonResponse;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.ValidationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -106,6 +107,16 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.CONFLICT, "Conflict", null);
     }
 
+    @ExceptionHandler(CapacityExceededException.class)
+    public ResponseEntity<CommonResponse> handleCapacityExceeded(CapacityExceededException ex) {
+        return buildResponse(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage(), null);
+    }
+
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<CommonResponse> handleTaskRejected(TaskRejectedException ex) {
+        return buildResponse(HttpStatus.TOO_MANY_REQUESTS, "Server is busy. Please try again shortly.", null);
+    }
+
     @ExceptionHandler({IllegalArgumentException.class, IllegalStateException.class})
     public ResponseEntity<CommonResponse> handleIllegalState(Exception ex) {
         return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), null);
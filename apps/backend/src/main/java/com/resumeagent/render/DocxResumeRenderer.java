@@ -0,0 +1,506 @@
+package com.resumeagent.render;
+
+import com.resumeagent.entity.model.MasterResumeJson;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.xwpf.usermodel.*;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Renders MasterResumeJson into a single-page DOCX resume for any {@link ResumeTemplate}.
+ *
+ * Each template is compiled once at startup into run (rPr) and paragraph (pPr)
+ * property prototypes. Rendering stamps a prototype onto each new run/paragraph
+ * with one XML copy instead of re-applying font, size, color and spacing setters
+ * for every run.
+ *
+ * The optional classpath resume_template.docx is resolved once at startup: its
+ * body is emptied and the package kept as an immutable byte image that each
+ * render re-opens from memory. Without it, a blank narrow-margin document is
+ * built in code, which is cheaper than re-parsing an equivalent image.
+ */
+@Service
+@Slf4j
+public class DocxResumeRenderer {
+
+    private static final String TEMPLATE_PATH = "templates/resume/resume_template.docx";
+
+    private final Map<String, CompiledTemplate> templates;
+    /** Emptied resume_template.docx package, or null to build a new document per render */
+    private final byte[] skeleton;
+
+    @Autowired
+    public DocxResumeRenderer(List<ResumeTemplate> resumeTemplates) {
+        this(resumeTemplates, new ClassPathResource(TEMPLATE_PATH));
+    }
+
+    /**
+     * @param templateResource DOCX package to use as the page skeleton; may not exist
+     */
+    DocxResumeRenderer(List<ResumeTemplate> resumeTemplates, Resource templateResource) {
+        Map<String, CompiledTemplate> compiled = new LinkedHashMap<>();
+        for (ResumeTemplate template : resumeTemplates) {
+            if (compiled.put(template.getId(), CompiledTemplate.compile(template)) != null) {
+                throw new IllegalStateException("Duplicate resume template id: " + template.getId());
+            }
+        }
+        this.templates = Map.copyOf(compiled);
+        this.skeleton = loadSkeleton(templateResource);
+    }
+
+    public Set<String> templateIds() {
+        return templates.keySet();
+    }
+
+    /**
+     * Renders {@code resumeJson} with template {@code templateId} into {@code outputStream} (left open).
+     *
+     * @throws IllegalArgumentException If no template has that id
+     * @throws IOException              If document generation fails
+     */
+    public void render(String templateId, MasterResumeJson resumeJson, OutputStream outputStream) throws IOException {
+        CompiledTemplate template = templates.get(templateId);
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown resume template: " + templateId);
+        }
+
+        try (XWPFDocument document = createDocument()) {
+            buildResumeDocument(document, template, resumeJson);
+            document.write(outputStream);
+        }
+    }
+
+    /**
+     * Opens a fresh, empty copy of the template, or a new document if there is none.
+     */
+    private XWPFDocument createDocument() throws IOException {
+        return skeleton != null ? new XWPFDocument(new ByteArrayInputStream(skeleton)) : createNewDocument();
+    }
+
+    /**
+     * Loads the template once at startup and strips its content.
+     *
+     * @return Serialized empty template, or null if the template does not exist
+     * @throws IllegalStateException If the template exists but cannot be parsed
+     */
+    private static byte[] loadSkeleton(Resource resource) {
+        if (!resource.exists()) {
+            log.info("No resume template at {}, using default page layout", resource.getDescription());
+            return null;
+        }
+
+        try (XWPFDocument document = loadTemplate(resource);
+             ByteArrayOutputStream buffer = new ByteArrayOutputStream()) {
+            // Clear existing content; renders start from an empty body
+            while (document.getParagraphs().size() > 0) {
+                document.removeBodyElement(0);
+            }
+            document.write(buffer);
+            return buffer.toByteArray();
+        } catch (IOException | RuntimeException ex) {
+            throw new IllegalStateException("Failed to load resume template " + resource.getDescription(), ex);
+        }
+    }
+
+    private static XWPFDocument loadTemplate(Resource resource) throws IOException {
+        try (InputStream templateStream = resource.getInputStream()) {
+            return new XWPFDocument(templateStream);
+        }
+    }
+
+    /**
+     * Creates a new document with proper page margins for single-page layout.
+     */
+    private static XWPFDocument createNewDocument() {
+        XWPFDocument document = new XWPFDocument();
+
+        // Set narrow margins for single-page layout (0.5 inch = 720 twips)
+        CTSectPr sectPr = document.getDocument().getBody().addNewSectPr();
+        CTPageMar pageMar = sectPr.addNewPgMar();
+        pageMar.setTop(BigInteger.valueOf(720));
+        pageMar.setBottom(BigInteger.valueOf(720));
+        pageMar.setLeft(BigInteger.valueOf(720));
+        pageMar.setRight(BigInteger.valueOf(720));
+
+        return document;
+    }
+
+    /**
+     * Builds the complete resume document: header, then the template's sections in order.
+     */
+    private void buildResumeDocument(XWPFDocument document, CompiledTemplate template, MasterResumeJson resumeJson) {
+        addHeader(document, template, resumeJson.getHeader());
+        for (ResumeTemplate.Section section : template.descriptor.getSections()) {
+            switch (section) {
+                case SUMMARY -> addSummary(document, template, resumeJson.getSummary());
+                case SKILLS -> addSkills(document, template, resumeJson.getCoreSkills());
+                case EXPERIENCE -> addExperience(document, template, resumeJson.getExperience());
+                case EDUCATION -> addEducation(document, template, resumeJson.getEducation());
+                case CERTIFICATIONS -> addCertifications(document, template, resumeJson.getCertifications());
+                case PROJECTS -> addProjects(document, template, resumeJson.getProjectsOrWork());
+            }
+        }
+    }
+
+    /**
+     * Adds the header section with name, contact info, and links.
+     */
+    private void addHeader(XWPFDocument document, CompiledTemplate t, MasterResumeJson.Header header) {
+        if (header == null)
+            return;
+
+        // Full Name - Large, Bold, Centered
+        addRun(addParagraph(document, t.namePara), t.nameRun, ResumeText.nullSafe(header.getFullName()));
+
+        // Headline
+        if (header.getHeadline() != null && !header.getHeadline().isBlank()) {
+            addRun(addParagraph(document, t.headlinePara), t.headlineRun, header.getHeadline());
+        }
+
+        // Contact Info Line
+        addRun(addParagraph(document, t.contactPara), t.contactRun, ResumeText.contactLine(header));
+    }
+
+    /**
+     * Adds the professional summary section.
+     */
+    private void addSummary(XWPFDocument document, CompiledTemplate t, String summary) {
+        if (summary == null || summary.isBlank())
+            return;
+
+        addSectionTitle(document, t, "PROFESSIONAL SUMMARY");
+        addRun(addParagraph(document, t.summaryPara), t.bodyRun, summary);
+    }
+
+    /**
+     * Adds the skills section, inline or as a table depending on the template.
+     */
+    private void addSkills(XWPFDocument document, CompiledTemplate t, MasterResumeJson.CoreSkills skills) {
+        if (skills == null)
+            return;
+
+        addSectionTitle(document, t, "SKILLS");
+
+        ResumeTemplate descriptor = t.descriptor;
+        if (descriptor.getSkillsLayout() == ResumeTemplate.SkillsLayout.TABLE) {
+            // Create a table for better visual organization
+            XWPFTable table = document.createTable();
+            table.removeBorders();
+            table.setWidth("100%");
+
+            if (ResumeText.hasItems(skills.getTechnical()))
+                addSkillRow(table, t, descriptor.getTechnicalSkillsLabel(), String.join(", ", skills.getTechnical()));
+            if (ResumeText.hasItems(skills.getTools()))
+                addSkillRow(table, t, descriptor.getToolsSkillsLabel(), String.join(", ", skills.getTools()));
+            if (ResumeText.hasItems(skills.getProfessional()))
+                addSkillRow(table, t, descriptor.getProfessionalSkillsLabel(), String.join(", ", skills.getProfessional()));
+
+            // Add spacing after skills section
+            addParagraph(document, t.skillsPara);
+            return;
+        }
+
+        String skillsText = ResumeText.inlineSkills(descriptor, skills);
+        if (!skillsText.isEmpty()) {
+            addRun(addParagraph(document, t.skillsPara), t.bodyRun, skillsText);
+        }
+    }
+
+    /**
+     * Helper method to add a skill row to the table.
+     */
+    private void addSkillRow(XWPFTable table, CompiledTemplate t, String category, String skills) {
+        XWPFTableRow row = (table.getNumberOfRows() == 1 && table.getRow(0).getTableCells().isEmpty())
+                ? table.getRow(0)
+                : table.createRow();
+
+        // Category cell (20% width)
+        XWPFTableCell categoryCell = row.getCell(0);
+        categoryCell.setWidth("20%");
+        XWPFParagraph categoryPara = categoryCell.getParagraphs().get(0);
+        applyParagraphStyle(categoryPara, t.skillRowPara);
+        addRun(categoryPara, t.skillCategoryRun, category + ":");
+
+        // Skills cell (80% width)
+        XWPFTableCell skillsCell = row.getCell(1) != null ? row.getCell(1) : row.addNewTableCell();
+        skillsCell.setWidth("80%");
+        XWPFParagraph skillsPara = skillsCell.getParagraphs().get(0);
+        applyParagraphStyle(skillsPara, t.skillRowPara);
+        addRun(skillsPara, t.bodyRun, skills);
+    }
+
+    /**
+     * Adds the work experience section.
+     */
+    private void addExperience(XWPFDocument document, CompiledTemplate t, List<MasterResumeJson.Experience> experiences) {
+        if (experiences == null || experiences.isEmpty())
+            return;
+
+        addSectionTitle(document, t, "EXPERIENCE");
+
+        for (int i = 0; i < experiences.size(); i++) {
+            MasterResumeJson.Experience exp = experiences.get(i);
+
+            // Role and Company
+            XWPFParagraph titlePara = addParagraph(document, t.itemTitlePara);
+            addRun(titlePara, t.subtitleRun, ResumeText.nullSafe(exp.getRole()));
+            addRun(titlePara, t.bodyRun, " at ");
+            addRun(titlePara, t.companyRun, ResumeText.nullSafe(exp.getOrganization()));
+
+            // Date and Location
+            addRun(addParagraph(document, t.datePara), t.metaRun, ResumeText.experienceMeta(exp));
+
+            // Responsibilities/Achievements as bullet points
+            addBullets(document, t, ResumeText.experienceBullets(exp));
+
+            // Spacing between experiences (except after the last one)
+            if (t.experienceGapPara != null && i < experiences.size() - 1) {
+                addParagraph(document, t.experienceGapPara);
+            }
+        }
+    }
+
+    /**
+     * Adds the education section.
+     */
+    private void addEducation(XWPFDocument document, CompiledTemplate t, List<MasterResumeJson.Education> educations) {
+        if (educations == null || educations.isEmpty())
+            return;
+
+        addSectionTitle(document, t, "EDUCATION");
+
+        for (MasterResumeJson.Education edu : educations) {
+            // Degree and Field
+            XWPFParagraph titlePara = addParagraph(document, t.itemTitlePara);
+            addRun(titlePara, t.subtitleRun, ResumeText.nullSafe(edu.getDegree()));
+            if (edu.getFieldOfStudy() != null) {
+                addRun(titlePara, t.bodyRun, " in " + edu.getFieldOfStudy());
+            }
+
+            // Institution, Location, Date, Grade
+            addRun(addParagraph(document, t.educationDetailPara), t.metaRun, ResumeText.educationDetails(edu));
+        }
+    }
+
+    /**
+     * Adds the certifications section.
+     */
+    private void addCertifications(XWPFDocument document, CompiledTemplate t, List<MasterResumeJson.Certification> certifications) {
+        if (certifications == null || certifications.isEmpty())
+            return;
+
+        addSectionTitle(document, t, "CERTIFICATIONS");
+
+        for (MasterResumeJson.Certification cert : certifications) {
+            XWPFParagraph para = addParagraph(document, t.certificationPara);
+            addRun(para, t.bodyBoldRun, ResumeText.nullSafe(cert.getName()));
+
+            String details = ResumeText.certificationDetails(cert);
+            if (!details.isEmpty()) {
+                addRun(para, t.bodyRun, details);
+            }
+        }
+    }
+
+    /**
+     * Adds the projects section.
+     */
+    private void addProjects(XWPFDocument document, CompiledTemplate t, List<MasterResumeJson.ProjectOrWork> projects) {
+        if (projects == null || projects.isEmpty())
+            return;
+
+        addSectionTitle(document, t, "PROJECTS");
+
+        for (MasterResumeJson.ProjectOrWork project : projects) {
+            XWPFParagraph titlePara = addParagraph(document, t.projectTitlePara);
+            addRun(titlePara, t.subtitleRun, ResumeText.nullSafe(project.getTitle()));
+            if (project.getLink() != null) {
+                addRun(titlePara, t.linkRun, " (" + project.getLink() + ")");
+            }
+
+            addBullets(document, t, project.getDescription());
+
+            if (t.projectGapPara != null) {
+                addParagraph(document, t.projectGapPara);
+            }
+        }
+    }
+
+    private void addBullets(XWPFDocument document, CompiledTemplate t, List<String> bullets) {
+        if (bullets == null)
+            return;
+
+        for (String bullet : bullets) {
+            addRun(addParagraph(document, t.bulletPara), t.bodyRun, "• " + bullet);
+        }
+    }
+
+    /**
+     * Adds a section title with formatting and separator line.
+     */
+    private void addSectionTitle(XWPFDocument document, CompiledTemplate t, String title) {
+        addRun(addParagraph(document, t.sectionTitlePara), t.sectionTitleRun, title);
+    }
+
+    private static XWPFParagraph addParagraph(XWPFDocument document, CTPPr style) {
+        XWPFParagraph paragraph = document.createParagraph();
+        applyParagraphStyle(paragraph, style);
+        return paragraph;
+    }
+
+    private static void applyParagraphStyle(XWPFParagraph paragraph, CTPPr style) {
+        paragraph.getCTP().setPPr(style);
+    }
+
+    private static void addRun(XWPFParagraph paragraph, CTRPr style, String text) {
+        XWPFRun run = paragraph.createRun();
+        run.getCTR().setRPr(style);
+        run.setText(text);
+    }
+
+    /**
+     * Run and paragraph property prototypes of one template, built once through
+     * the regular POI setters on a scratch document and then only copied.
+     */
+    private static final class CompiledTemplate {
+
+        private final ResumeTemplate descriptor;
+
+        private final CTRPr nameRun;
+        private final CTRPr headlineRun;
+        private final CTRPr contactRun;
+        private final CTRPr sectionTitleRun;
+        private final CTRPr subtitleRun;
+        private final CTRPr bodyRun;
+        private final CTRPr bodyBoldRun;
+        private final CTRPr companyRun;
+        private final CTRPr metaRun;
+        private final CTRPr linkRun;
+        private final CTRPr skillCategoryRun;
+
+        private final CTPPr namePara;
+        private final CTPPr headlinePara;
+        private final CTPPr contactPara;
+        private final CTPPr sectionTitlePara;
+        private final CTPPr summaryPara;
+        private final CTPPr skillsPara;
+        private final CTPPr skillRowPara;
+        private final CTPPr itemTitlePara;
+        private final CTPPr projectTitlePara;
+        private final CTPPr datePara;
+        private final CTPPr educationDetailPara;
+        private final CTPPr certificationPara;
+        private final CTPPr bulletPara;
+        private final CTPPr experienceGapPara;
+        private final CTPPr projectGapPara;
+
+        private CompiledTemplate(ResumeTemplate t, XWPFDocument scratch) {
+            this.descriptor = t;
+            String font = t.getFontFamily();
+
+            nameRun = runStyle(scratch, font, t.getNameSize(), true, false, t.getPrimaryColor());
+            headlineRun = runStyle(scratch, font, t.getHeadlineSize(), false, true, t.getSecondaryColor());
+            contactRun = runStyle(scratch, font, t.getSmallSize(), false, false, t.getTextColor());
+            sectionTitleRun = runStyle(scratch, font, t.getSectionTitleSize(), true, false, t.getSectionTitleColor());
+            subtitleRun = runStyle(scratch, font, t.getSubtitleSize(), true, false, t.getTextColor());
+            bodyRun = runStyle(scratch, font, t.getBodySize(), false, false, t.getTextColor());
+            bodyBoldRun = runStyle(scratch, font, t.getBodySize(), true, false, t.getTextColor());
+            companyRun = runStyle(scratch, font, t.getBodySize(), false, t.isCompanyItalic(), t.getTextColor());
+            metaRun = runStyle(scratch, font, t.getSmallSize(), false, true, t.getSecondaryColor());
+            linkRun = runStyle(scratch, font, t.getSmallSize(), false, false, t.getSecondaryColor());
+            skillCategoryRun = runStyle(scratch, font, t.getBodySize(), true, false, t.getSecondaryColor());
+
+            namePara = paragraphStyle(scratch, p -> {
+                p.setAlignment(ParagraphAlignment.CENTER);
+                p.setSpacingAfter(t.getNameSpacingAfter());
+            });
+            headlinePara = paragraphStyle(scratch, p -> {
+                p.setAlignment(ParagraphAlignment.CENTER);
+                p.setSpacingAfter(t.getHeadlineSpacingAfter());
+            });
+            contactPara = paragraphStyle(scratch, p -> {
+                p.setAlignment(ParagraphAlignment.CENTER);
+                p.setSpacingAfter(t.getContactSpacingAfter());
+            });
+            sectionTitlePara = paragraphStyle(scratch, p -> {
+                p.setSpacingBefore(t.getSectionSpacingBefore());
+                p.setSpacingAfter(t.getSectionSpacingAfter());
+                if (t.getSectionBorderColor() == null) {
+                    p.setBorderBottom(Borders.SINGLE);
+                } else {
+                    CTPPr pPr = p.getCTP().isSetPPr() ? p.getCTP().getPPr() : p.getCTP().addNewPPr();
+                    CTBorder bottomBorder = pPr.addNewPBdr().addNewBottom();
+                    bottomBorder.setVal(STBorder.SINGLE);
+                    bottomBorder.setColor(t.getSectionBorderColor());
+                    bottomBorder.setSz(BigInteger.valueOf(8));  // Border thickness
+                    bottomBorder.setSpace(BigInteger.valueOf(1));
+                }
+            });
+            summaryPara = spacingAfter(scratch, t.getSummarySpacingAfter());
+            skillsPara = spacingAfter(scratch, t.getSkillsSpacingAfter());
+            skillRowPara = spacingAfter(scratch, t.getSkillRowSpacingAfter());
+            itemTitlePara = spacingAfter(scratch, t.getItemTitleSpacingAfter());
+            projectTitlePara = spacingAfter(scratch, t.getProjectTitleSpacingAfter());
+            datePara = spacingAfter(scratch, t.getDateSpacingAfter());
+            educationDetailPara = spacingAfter(scratch, t.getEducationDetailSpacingAfter());
+            certificationPara = spacingAfter(scratch, t.getCertificationSpacingAfter());
+            bulletPara = paragraphStyle(scratch, p -> {
+                p.setSpacingAfter(0);
+                p.setIndentationLeft(t.getBulletIndentLeft());
+                if (t.getBulletIndentHanging() > 0) {
+                    p.setIndentationHanging(t.getBulletIndentHanging());
+                }
+            });
+            experienceGapPara = t.getExperienceGap() == null ? null : spacingAfter(scratch, t.getExperienceGap());
+            projectGapPara = t.getProjectGap() == null ? null : spacingAfter(scratch, t.getProjectGap());
+        }
+
+        static CompiledTemplate compile(ResumeTemplate template) {
+            try (XWPFDocument scratch = new XWPFDocument()) {
+                return new CompiledTemplate(template, scratch);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Failed to compile resume template " + template.getId(), ex);
+            }
+        }
+
+        private static CTRPr runStyle(XWPFDocument scratch, String font, int size, boolean bold, boolean italic, String color) {
+            XWPFRun run = scratch.createParagraph().createRun();
+            // Same setter order as hand-written runs, so the rPr XML is identical
+            if (bold)
+                run.setBold(true);
+            run.setFontSize(size);
+            if (italic)
+                run.setItalic(true);
+            run.setFontFamily(font);
+            if (color != null)
+                run.setColor(color);
+            return (CTRPr) run.getCTR().getRPr().copy();
+        }
+
+        private static CTPPr spacingAfter(XWPFDocument scratch, int spacingAfter) {
+            return paragraphStyle(scratch, p -> p.setSpacingAfter(spacingAfter));
+        }
+
+        private static CTPPr paragraphStyle(XWPFDocument scratch, Consumer<XWPFParagraph> setup) {
+            XWPFParagraph paragraph = scratch.createParagraph();
+            setup.accept(paragraph);
+            return (CTPPr) paragraph.getCTP().getPPr().copy();
+        }
+    }
+}
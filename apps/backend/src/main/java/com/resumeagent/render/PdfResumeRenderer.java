@@ -0,0 +1,619 @@
+package com.resumeagent.render;
+
+import com.resumeagent.entity.model.MasterResumeJson;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.pdmodel.font.encoding.GlyphList;
+import org.apache.pdfbox.pdmodel.font.encoding.WinAnsiEncoding;
+import org.springframework.stereotype.Service;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Renders MasterResumeJson into a PDF resume for any {@link ResumeTemplate}.
+ *
+ * Pure Java (PDFBox), no office install: a small flow layout that follows the
+ * DOCX renderer paragraph by paragraph, with the template's palette, sizes and
+ * spacing. Text is set in the standard Helvetica family (not embedded), so the
+ * output stays small and text-extractable for ATS parsers; characters outside
+ * WinAnsi are replaced with '?'.
+ *
+ * CPU-bound; callers run it on the bounded render pool, not request threads.
+ */
+@Service
+public class PdfResumeRenderer {
+
+    private static final PDRectangle PAGE_SIZE = PDRectangle.LETTER;
+    /** 0.5 inch, same as the DOCX page margins */
+    private static final float MARGIN = 36f;
+    private static final float CONTENT_WIDTH = PAGE_SIZE.getWidth() - 2 * MARGIN;
+    /** Single line spacing as a multiple of the font size */
+    private static final float LINE_HEIGHT = 1.2f;
+    /** Skills category column of the TABLE layout, as in the DOCX table */
+    private static final float SKILL_CATEGORY_WIDTH = CONTENT_WIDTH * 0.2f;
+    /** Gap between table columns (Word's default cell margin) */
+    private static final float CELL_PADDING = 5.4f;
+
+    private final Map<String, Styles> templates;
+
+    public PdfResumeRenderer(List<ResumeTemplate> resumeTemplates) {
+        Map<String, Styles> compiled = new LinkedHashMap<>();
+        for (ResumeTemplate template : resumeTemplates) {
+            if (compiled.put(template.getId(), new Styles(template)) != null) {
+                throw new IllegalStateException("Duplicate resume template id: " + template.getId());
+            }
+        }
+        this.templates = Map.copyOf(compiled);
+    }
+
+    public Set<String> templateIds() {
+        return templates.keySet();
+    }
+
+    /**
+     * Renders {@code resumeJson} with template {@code templateId} into {@code outputStream} (left open).
+     *
+     * @throws IllegalArgumentException If no template has that id
+     * @throws IOException              If document generation fails
+     */
+    public void render(String templateId, MasterResumeJson resumeJson, OutputStream outputStream) throws IOException {
+        Styles styles = templates.get(templateId);
+        if (styles == null) {
+            throw new IllegalArgumentException("Unknown resume template: " + templateId);
+        }
+
+        try (PDDocument document = new PDDocument()) {
+            Layout layout = new Layout(document);
+            try {
+                buildResume(layout, styles, resumeJson);
+            } finally {
+                layout.finish();
+            }
+            document.save(outputStream);
+        }
+    }
+
+    /**
+     * Header, then the template's sections in order (same structure as the DOCX).
+     */
+    private void buildResume(Layout layout, Styles s, MasterResumeJson resumeJson) throws IOException {
+        MasterResumeJson.Header header = resumeJson.getHeader();
+        if (header != null) {
+            layout.paragraph(Paragraph.centered(s.nameSpacingAfter, span(s.name, ResumeText.nullSafe(header.getFullName()))));
+            if (header.getHeadline() != null && !header.getHeadline().isBlank()) {
+                layout.paragraph(Paragraph.centered(s.headlineSpacingAfter, span(s.headline, header.getHeadline())));
+            }
+            layout.paragraph(Paragraph.centered(s.contactSpacingAfter, span(s.contact, ResumeText.contactLine(header))));
+        }
+
+        for (ResumeTemplate.Section section : s.template.getSections()) {
+            switch (section) {
+                case SUMMARY -> addSummary(layout, s, resumeJson.getSummary());
+                case SKILLS -> addSkills(layout, s, resumeJson.getCoreSkills());
+                case EXPERIENCE -> addExperience(layout, s, resumeJson.getExperience());
+                case EDUCATION -> addEducation(layout, s, resumeJson.getEducation());
+                case CERTIFICATIONS -> addCertifications(layout, s, resumeJson.getCertifications());
+                case PROJECTS -> addProjects(layout, s, resumeJson.getProjectsOrWork());
+            }
+        }
+    }
+
+    private void addSummary(Layout layout, Styles s, String summary) throws IOException {
+        if (summary == null || summary.isBlank())
+            return;
+
+        addSectionTitle(layout, s, "PROFESSIONAL SUMMARY");
+        layout.paragraph(Paragraph.of(s.summarySpacingAfter, span(s.body, summary)));
+    }
+
+    private void addSkills(Layout layout, Styles s, MasterResumeJson.CoreSkills skills) throws IOException {
+        if (skills == null)
+            return;
+
+        addSectionTitle(layout, s, "SKILLS");
+
+        ResumeTemplate template = s.template;
+        if (template.getSkillsLayout() == ResumeTemplate.SkillsLayout.TABLE) {
+            addSkillRow(layout, s, template.getTechnicalSkillsLabel(), skills.getTechnical());
+            addSkillRow(layout, s, template.getToolsSkillsLabel(), skills.getTools());
+            addSkillRow(layout, s, template.getProfessionalSkillsLabel(), skills.getProfessional());
+            // Empty paragraph after the table, as in the DOCX
+            layout.emptyParagraph(s.bodySize, s.skillsSpacingAfter);
+            return;
+        }
+
+        String skillsText = ResumeText.inlineSkills(template, skills);
+        if (!skillsText.isEmpty()) {
+            layout.paragraph(Paragraph.of(s.skillsSpacingAfter, span(s.body, skillsText)));
+        }
+    }
+
+    private void addSkillRow(Layout layout, Styles s, String category, List<String> items) throws IOException {
+        if (!ResumeText.hasItems(items))
+            return;
+
+        layout.row(
+                Paragraph.of(s.skillRowSpacingAfter, span(s.skillCategory, category + ":")),
+                Paragraph.of(s.skillRowSpacingAfter, span(s.body, String.join(", ", items))),
+                SKILL_CATEGORY_WIDTH
+        );
+    }
+
+    private void addExperience(Layout layout, Styles s, List<MasterResumeJson.Experience> experiences) throws IOException {
+        if (experiences == null || experiences.isEmpty())
+            return;
+
+        addSectionTitle(layout, s, "EXPERIENCE");
+
+        for (int i = 0; i < experiences.size(); i++) {
+            MasterResumeJson.Experience exp = experiences.get(i);
+
+            layout.paragraph(Paragraph.of(s.itemTitleSpacingAfter,
+                    span(s.subtitle, ResumeText.nullSafe(exp.getRole())),
+                    span(s.body, " at "),
+                    span(s.company, ResumeText.nullSafe(exp.getOrganization()))));
+            layout.paragraph(Paragraph.of(s.dateSpacingAfter, span(s.meta, ResumeText.experienceMeta(exp))));
+            addBullets(layout, s, ResumeText.experienceBullets(exp));
+
+            if (s.experienceGap != null && i < experiences.size() - 1) {
+                layout.emptyParagraph(s.bodySize, s.experienceGap);
+            }
+        }
+    }
+
+    private void addEducation(Layout layout, Styles s, List<MasterResumeJson.Education> educations) throws IOException {
+        if (educations == null || educations.isEmpty())
+            return;
+
+        addSectionTitle(layout, s, "EDUCATION");
+
+        for (MasterResumeJson.Education edu : educations) {
+            List<Span> title = new ArrayList<>();
+            title.add(span(s.subtitle, ResumeText.nullSafe(edu.getDegree())));
+            if (edu.getFieldOfStudy() != null) {
+                title.add(span(s.body, " in " + edu.getFieldOfStudy()));
+            }
+            layout.paragraph(new Paragraph(title, false, 0, 0, 0, s.itemTitleSpacingAfter, null));
+            layout.paragraph(Paragraph.of(s.educationDetailSpacingAfter, span(s.meta, ResumeText.educationDetails(edu))));
+        }
+    }
+
+    private void addCertifications(Layout layout, Styles s, List<MasterResumeJson.Certification> certifications) throws IOException {
+        if (certifications == null || certifications.isEmpty())
+            return;
+
+        addSectionTitle(layout, s, "CERTIFICATIONS");
+
+        for (MasterResumeJson.Certification cert : certifications) {
+            layout.paragraph(Paragraph.of(s.certificationSpacingAfter,
+                    span(s.bodyBold, ResumeText.nullSafe(cert.getName())),
+                    span(s.body, ResumeText.certificationDetails(cert))));
+        }
+    }
+
+    private void addProjects(Layout layout, Styles s, List<MasterResumeJson.ProjectOrWork> projects) throws IOException {
+        if (projects == null || projects.isEmpty())
+            return;
+
+        addSectionTitle(layout, s, "PROJECTS");
+
+        for (MasterResumeJson.ProjectOrWork project : projects) {
+            List<Span> title = new ArrayList<>();
+            title.add(span(s.subtitle, ResumeText.nullSafe(project.getTitle())));
+            if (project.getLink() != null) {
+                title.add(span(s.link, " (" + project.getLink() + ")"));
+            }
+            layout.paragraph(new Paragraph(title, false, 0, 0, 0, s.projectTitleSpacingAfter, null));
+
+            addBullets(layout, s, project.getDescription());
+
+            if (s.projectGap != null) {
+                layout.emptyParagraph(s.bodySize, s.projectGap);
+            }
+        }
+    }
+
+    private void addBullets(Layout layout, Styles s, List<String> bullets) throws IOException {
+        if (bullets == null)
+            return;
+
+        for (String bullet : bullets) {
+            layout.paragraph(new Paragraph(List.of(span(s.body, "• " + bullet)), false,
+                    s.bulletIndentLeft, s.bulletIndentHanging, 0, 0, null));
+        }
+    }
+
+    private void addSectionTitle(Layout layout, Styles s, String title) throws IOException {
+        layout.paragraph(new Paragraph(List.of(span(s.sectionTitle, title)), false, 0, 0,
+                s.sectionSpacingBefore, s.sectionSpacingAfter, s.sectionBorder));
+    }
+
+    private static Span span(Style style, String text) {
+        return new Span(style, text);
+    }
+
+    /**
+     * Replaces characters the standard fonts cannot encode (WinAnsi) with '?'
+     * and tabs/line breaks with spaces.
+     */
+    static String sanitize(String text) {
+        if (text.chars().allMatch(c -> c >= 0x20 && c < 0x7F)) {
+            return text;
+        }
+
+        StringBuilder sanitized = new StringBuilder(text.length());
+        text.codePoints().forEach(cp -> {
+            if (cp >= 0x20 && cp < 0x7F) {
+                sanitized.append((char) cp);
+            } else if (Character.isWhitespace(cp) || Character.isISOControl(cp)) {
+                sanitized.append(' ');
+            } else if (WinAnsiEncoding.INSTANCE.contains(GlyphList.getAdobeGlyphList().codePointToName(cp))) {
+                sanitized.appendCodePoint(cp);
+            } else {
+                sanitized.append('?');
+            }
+        });
+        return sanitized.toString();
+    }
+
+    private static float twipsToPoints(int twips) {
+        return twips / 20f;
+    }
+
+    private static Color color(String hex) {
+        return hex == null ? Color.BLACK : new Color(Integer.parseInt(hex, 16));
+    }
+
+    // -------------------------------------------------------------------------
+    // Layout model
+    // -------------------------------------------------------------------------
+
+    /**
+     * Font variant, size and color of a text run.
+     */
+    private record Style(boolean bold, boolean italic, float size, Color color) {
+    }
+
+    private record Span(Style style, String text) {
+    }
+
+    /**
+     * One block of wrapped text. Measurements are in points; {@code hanging} pulls
+     * the first line left of {@code indentLeft}; {@code border} draws a bottom rule.
+     */
+    private record Paragraph(
+            List<Span> spans,
+            boolean centered,
+            float indentLeft,
+            float hanging,
+            float spacingBefore,
+            float spacingAfter,
+            Color border
+    ) {
+        static Paragraph of(float spacingAfter, Span... spans) {
+            return new Paragraph(List.of(spans), false, 0, 0, 0, spacingAfter, null);
+        }
+
+        static Paragraph centered(float spacingAfter, Span... spans) {
+            return new Paragraph(List.of(spans), true, 0, 0, 0, spacingAfter, null);
+        }
+    }
+
+    private record Piece(Style style, String text, float width) {
+    }
+
+    private record Line(List<Piece> pieces, float width, float maxSize) {
+        float height() {
+            return maxSize * LINE_HEIGHT;
+        }
+    }
+
+    /**
+     * Text styles of one template, derived once from its descriptor.
+     */
+    private static final class Styles {
+
+        private final ResumeTemplate template;
+
+        private final Style name;
+        private final Style headline;
+        private final Style contact;
+        private final Style sectionTitle;
+        private final Style subtitle;
+        private final Style body;
+        private final Style bodyBold;
+        private final Style company;
+        private final Style meta;
+        private final Style link;
+        private final Style skillCategory;
+        private final Color sectionBorder;
+
+        private final float bodySize;
+        private final float nameSpacingAfter;
+        private final float headlineSpacingAfter;
+        private final float contactSpacingAfter;
+        private final float sectionSpacingBefore;
+        private final float sectionSpacingAfter;
+        private final float summarySpacingAfter;
+        private final float skillsSpacingAfter;
+        private final float skillRowSpacingAfter;
+        private final float itemTitleSpacingAfter;
+        private final float projectTitleSpacingAfter;
+        private final float dateSpacingAfter;
+        private final float educationDetailSpacingAfter;
+        private final float certificationSpacingAfter;
+        private final float bulletIndentLeft;
+        private final float bulletIndentHanging;
+        private final Float experienceGap;
+        private final Float projectGap;
+
+        private Styles(ResumeTemplate t) {
+            this.template = t;
+
+            name = new Style(true, false, t.getNameSize(), color(t.getPrimaryColor()));
+            headline = new Style(false, true, t.getHeadlineSize(), color(t.getSecondaryColor()));
+            contact = new Style(false, false, t.getSmallSize(), color(t.getTextColor()));
+            sectionTitle = new Style(true, false, t.getSectionTitleSize(), color(t.getSectionTitleColor()));
+            subtitle = new Style(true, false, t.getSubtitleSize(), color(t.getTextColor()));
+            body = new Style(false, false, t.getBodySize(), color(t.getTextColor()));
+            bodyBold = new Style(true, false, t.getBodySize(), color(t.getTextColor()));
+            company = new Style(false, t.isCompanyItalic(), t.getBodySize(), color(t.getTextColor()));
+            meta = new Style(false, true, t.getSmallSize(), color(t.getSecondaryColor()));
+            link = new Style(false, false, t.getSmallSize(), color(t.getSecondaryColor()));
+            skillCategory = new Style(true, false, t.getBodySize(), color(t.getSecondaryColor()));
+            sectionBorder = color(t.getSectionBorderColor());
+
+            bodySize = t.getBodySize();
+            nameSpacingAfter = twipsToPoints(t.getNameSpacingAfter());
+            headlineSpacingAfter = twipsToPoints(t.getHeadlineSpacingAfter());
+            contactSpacingAfter = twipsToPoints(t.getContactSpacingAfter());
+            sectionSpacingBefore = twipsToPoints(t.getSectionSpacingBefore());
+            sectionSpacingAfter = twipsToPoints(t.getSectionSpacingAfter());
+            summarySpacingAfter = twipsToPoints(t.getSummarySpacingAfter());
+            skillsSpacingAfter = twipsToPoints(t.getSkillsSpacingAfter());
+            skillRowSpacingAfter = twipsToPoints(t.getSkillRowSpacingAfter());
+            itemTitleSpacingAfter = twipsToPoints(t.getItemTitleSpacingAfter());
+            projectTitleSpacingAfter = twipsToPoints(t.getProjectTitleSpacingAfter());
+            dateSpacingAfter = twipsToPoints(t.getDateSpacingAfter());
+            educationDetailSpacingAfter = twipsToPoints(t.getEducationDetailSpacingAfter());
+            certificationSpacingAfter = twipsToPoints(t.getCertificationSpacingAfter());
+            bulletIndentLeft = twipsToPoints(t.getBulletIndentLeft());
+            bulletIndentHanging = twipsToPoints(t.getBulletIndentHanging());
+            experienceGap = t.getExperienceGap() == null ? null : twipsToPoints(t.getExperienceGap());
+            projectGap = t.getProjectGap() == null ? null : twipsToPoints(t.getProjectGap());
+        }
+    }
+
+    /**
+     * Top-to-bottom flow of paragraphs over as many pages as needed.
+     * One instance per render; not thread-safe.
+     */
+    private static final class Layout {
+
+        private final PDDocument document;
+        /** Regular, bold, italic, bold italic; loaded per document (PDFont caches are not thread-safe) */
+        private final PDFont[] fonts;
+
+        private PDPageContentStream content;
+        private float y;
+
+        Layout(PDDocument document) {
+            this.document = document;
+            this.fonts = new PDFont[]{
+                    new PDType1Font(Standard14Fonts.FontName.HELVETICA),
+                    new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD),
+                    new PDType1Font(Standard14Fonts.FontName.HELVETICA_OBLIQUE),
+                    new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD_OBLIQUE)
+            };
+        }
+
+        void paragraph(Paragraph paragraph) throws IOException {
+            if (content != null && paragraph.spacingBefore() > 0) {
+                y -= paragraph.spacingBefore();
+            }
+
+            float firstIndent = paragraph.indentLeft() - paragraph.hanging();
+            List<Line> lines = wrap(paragraph.spans(),
+                    CONTENT_WIDTH - firstIndent, CONTENT_WIDTH - paragraph.indentLeft());
+            for (int i = 0; i < lines.size(); i++) {
+                Line line = lines.get(i);
+                ensureSpace(line.height());
+                float x = MARGIN + (i == 0 ? firstIndent : paragraph.indentLeft());
+                if (paragraph.centered()) {
+                    x = MARGIN + (CONTENT_WIDTH - line.width()) / 2;
+                }
+                drawLine(line, x);
+                y -= line.height();
+            }
+
+            if (paragraph.border() != null) {
+                y -= 1f;
+                content.setStrokingColor(paragraph.border());
+                content.setLineWidth(1f);
+                content.moveTo(MARGIN, y);
+                content.lineTo(MARGIN + CONTENT_WIDTH, y);
+                content.stroke();
+                y -= 1f;
+            }
+            y -= paragraph.spacingAfter();
+        }
+
+        /**
+         * An empty paragraph: one blank line plus its spacing after.
+         */
+        void emptyParagraph(float fontSize, float spacingAfter) throws IOException {
+            ensureSpace(fontSize * LINE_HEIGHT);
+            y -= fontSize * LINE_HEIGHT + spacingAfter;
+        }
+
+        /**
+         * Two side-by-side cells; the left one {@code leftWidth} wide. Rows never split across pages.
+         */
+        void row(Paragraph left, Paragraph right, float leftWidth) throws IOException {
+            List<Line> leftLines = wrap(left.spans(), leftWidth - CELL_PADDING, leftWidth - CELL_PADDING);
+            List<Line> rightLines = wrap(right.spans(), CONTENT_WIDTH - leftWidth, CONTENT_WIDTH - leftWidth);
+            float leftHeight = height(leftLines) + left.spacingAfter();
+            float rightHeight = height(rightLines) + right.spacingAfter();
+            ensureSpace(Math.max(leftHeight, rightHeight));
+
+            float top = y;
+            for (Line line : leftLines) {
+                drawLine(line, MARGIN);
+                y -= line.height();
+            }
+            y = top;
+            for (Line line : rightLines) {
+                drawLine(line, MARGIN + leftWidth);
+                y -= line.height();
+            }
+            y = top - Math.max(leftHeight, rightHeight);
+        }
+
+        /**
+         * Closes the current page's content stream; call before saving.
+         */
+        void finish() throws IOException {
+            if (content != null) {
+                content.close();
+                content = null;
+            }
+        }
+
+        private void ensureSpace(float height) throws IOException {
+            if (content == null || y - height < MARGIN) {
+                finish();
+                PDPage page = new PDPage(PAGE_SIZE);
+                document.addPage(page);
+                content = new PDPageContentStream(document, page);
+                y = PAGE_SIZE.getHeight() - MARGIN;
+            }
+        }
+
+        private void drawLine(Line line, float x) throws IOException {
+            // Baseline one font size below the line top leaves room for ascenders
+            content.beginText();
+            content.newLineAtOffset(x, y - line.maxSize());
+            for (Piece piece : line.pieces()) {
+                Style style = piece.style();
+                content.setFont(font(style), style.size());
+                content.setNonStrokingColor(style.color());
+                content.showText(piece.text());
+            }
+            content.endText();
+        }
+
+        /**
+         * Greedy word wrap; a word wider than a whole line is broken by character.
+         */
+        private List<Line> wrap(List<Span> spans, float firstWidth, float width) throws IOException {
+            List<Line> lines = new ArrayList<>();
+            List<Piece> pieces = new ArrayList<>();
+            float lineWidth = 0;
+            float available = firstWidth;
+            float lastSize = 0;
+
+            for (Span span : spans) {
+                Style style = span.style();
+                PDFont font = font(style);
+                lastSize = style.size();
+                for (String word : splitWords(sanitize(span.text()))) {
+                    // Trailing spaces may overhang the right edge
+                    if (!pieces.isEmpty() && lineWidth + width(font, style, word.stripTrailing()) > available) {
+                        lines.add(line(pieces, lastSize));
+                        pieces = new ArrayList<>();
+                        lineWidth = 0;
+                        available = width;
+                        if (word.isBlank())
+                            continue;
+                    }
+                    while (pieces.isEmpty() && word.length() > 1
+                            && width(font, style, word.stripTrailing()) > available) {
+                        int fit = Math.max(1, fittingPrefix(font, style, word, available));
+                        String head = word.substring(0, fit);
+                        lines.add(line(List.of(new Piece(style, head, width(font, style, head))), lastSize));
+                        available = width;
+                        word = word.substring(fit);
+                    }
+                    float wordWidth = width(font, style, word);
+                    pieces.add(new Piece(style, word, wordWidth));
+                    lineWidth += wordWidth;
+                }
+            }
+            if (!pieces.isEmpty() || lines.isEmpty()) {
+                lines.add(line(pieces, lastSize));
+            }
+            return lines;
+        }
+
+        /**
+         * @param emptySize font size giving the height of a line without text
+         */
+        private Line line(List<Piece> pieces, float emptySize) throws IOException {
+            float width = 0;
+            float maxSize = pieces.isEmpty() ? emptySize : 0;
+            for (int i = 0; i < pieces.size(); i++) {
+                Piece piece = pieces.get(i);
+                maxSize = Math.max(maxSize, piece.style().size());
+                // Trailing space of the last word does not count for centering
+                width += i == pieces.size() - 1
+                        ? width(font(piece.style()), piece.style(), piece.text().stripTrailing())
+                        : piece.width();
+            }
+            return new Line(pieces, width, maxSize);
+        }
+
+        private int fittingPrefix(PDFont font, Style style, String word, float available) throws IOException {
+            int fit = 0;
+            while (fit < word.length() && width(font, style, word.substring(0, fit + 1)) <= available) {
+                fit++;
+            }
+            return fit;
+        }
+
+        private PDFont font(Style style) {
+            return fonts[(style.bold() ? 1 : 0) + (style.italic() ? 2 : 0)];
+        }
+
+        private static float width(PDFont font, Style style, String text) throws IOException {
+            return font.getStringWidth(text) / 1000f * style.size();
+        }
+
+        private static float height(List<Line> lines) {
+            float height = 0;
+            for (Line line : lines) {
+                height += line.height();
+            }
+            return height;
+        }
+
+        /**
+         * Splits into words that keep their trailing spaces, so widths add up to the whole text.
+         */
+        private static List<String> splitWords(String text) {
+            List<String> words = new ArrayList<>();
+            int start = 0;
+            for (int i = 0; i < text.length(); i++) {
+                if (text.charAt(i) == ' ' && (i + 1 == text.length() || text.charAt(i + 1) != ' ')) {
+                    words.add(text.substring(start, i + 1));
+                    start = i + 1;
+                }
+            }
+            if (start < text.length()) {
+                words.add(text.substring(start));
+            }
+            return words;
+        }
+    }
+}
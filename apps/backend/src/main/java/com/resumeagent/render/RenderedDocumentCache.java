@@ -0,0 +1,314 @@
+package com.resumeagent.render;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.resumeagent.config.RenderCacheProperties;
+import com.resumeagent.entity.model.MasterResumeJson;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Cache of rendered resume documents.
+ *
+ * Entries are keyed by (resume id, template id, SHA-256 of template id + resume
+ * JSON), so an edited resume can never be served from a stale entry; the hash
+ * doubles as the download ETag. Tier 1 is an in-process Caffeine cache bounded
+ * by total bytes, tier 2 is an optional directory of rendered files. Disk
+ * failures only cost a re-render.
+ */
+@Service
+@Slf4j
+public class RenderedDocumentCache {
+
+    private final ObjectMapper objectMapper;
+    private final RenderCacheProperties properties;
+    private final AsyncCache<String, Buffer> memoryCache;
+    private final Path diskDirectory;
+
+    public RenderedDocumentCache(ObjectMapper objectMapper, RenderCacheProperties properties) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.memoryCache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMemoryMaxBytes())
+                // Weighed once the render completes; in-flight entries weigh nothing and are never evicted
+                .weigher((String key, Buffer content) -> content.length())
+                .buildAsync();
+        this.diskDirectory = properties.getDiskDirectory() == null || properties.getDiskDirectory().isBlank()
+                ? null
+                // Own subdirectory: only this is ever cleared, never the configured directory itself
+                : Path.of(properties.getDiskDirectory()).resolve("rendered-documents");
+    }
+
+    @PostConstruct
+    void clearDiskTier() {
+        if (diskDirectory == null) {
+            return;
+        }
+        try {
+            FileSystemUtils.deleteRecursively(diskDirectory);
+            Files.createDirectories(diskDirectory);
+        } catch (IOException ex) {
+            log.warn("Render cache directory unavailable: {}", diskDirectory, ex);
+        }
+    }
+
+    /**
+     * @return quoted strong ETag of the document {@code templateId} renders for {@code resumeJson}
+     */
+    public String eTag(String templateId, MasterResumeJson resumeJson) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(resumeJson);
+            byte[] prefix = (templateId + ":").getBytes(StandardCharsets.UTF_8);
+            byte[] input = new byte[prefix.length + json.length];
+            System.arraycopy(prefix, 0, input, 0, prefix.length);
+            System.arraycopy(json, 0, input, prefix.length, json.length);
+            return "\"" + DigestUtils.sha256Hex(input) + "\"";
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize resume for rendering", ex);
+        }
+    }
+
+    /**
+     * Returns the document for {@code eTag} as something that can be streamed to
+     * the client: cached bytes, a cached file, or (cache disabled) a deferred render
+     * straight into the response. A miss renders once into a single buffer that
+     * becomes the cache entry; nothing is copied with toByteArray().
+     */
+    public RenderedDocument get(
+            UUID resumeId,
+            String templateId,
+            String eTag,
+            MasterResumeJson resumeJson,
+            Renderer renderer
+    ) throws IOException {
+        if (!properties.isEnabled()) {
+            return new RenderedDocument(-1, out -> renderer.render(resumeJson, out));
+        }
+
+        Optional<RenderedDocument> cached = find(resumeId, templateId, eTag);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        return render(resumeId, templateId, eTag, resumeJson, renderer);
+    }
+
+    /**
+     * Cache lookup only (memory, then disk); empty on a miss or when the cache is disabled.
+     */
+    public Optional<RenderedDocument> find(UUID resumeId, String templateId, String eTag) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+
+        // A render still in flight counts as a miss; find() never waits for it
+        CompletableFuture<Buffer> cached = memoryCache.getIfPresent(key(resumeId, templateId, eTag));
+        if (cached != null && cached.isDone() && !cached.isCompletedExceptionally()) {
+            return Optional.of(cached.join().document());
+        }
+
+        Path file = diskFile(resumeId, templateId, eTag);
+        if (file != null && Files.isRegularFile(file)) {
+            // Streamed from the file; never loaded onto the heap
+            try {
+                long size = Files.size(file);
+                return Optional.of(new RenderedDocument(size, out -> Files.copy(file, out)));
+            } catch (IOException ex) {
+                log.warn("Render cache read failed: {}", file, ex);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Renders now, on the calling thread, into a buffer that is cached (when
+     * enabled) and returned. For callers that must finish rendering before the
+     * response is written, e.g. render pool workers. Concurrent misses for the
+     * same key render once; the other callers wait for that result (or failure)
+     * without blocking lookups or renders of other keys.
+     */
+    public RenderedDocument render(
+            UUID resumeId,
+            String templateId,
+            String eTag,
+            MasterResumeJson resumeJson,
+            Renderer renderer
+    ) throws IOException {
+        if (!properties.isEnabled()) {
+            return renderBuffer(resumeJson, renderer).document();
+        }
+
+        // The first caller publishes a pending future and renders outside any cache
+        // lock; concurrent callers for the same key wait on that future instead
+        String key = key(resumeId, templateId, eTag);
+        CompletableFuture<Buffer> pending = new CompletableFuture<>();
+        CompletableFuture<Buffer> inFlight = memoryCache.asMap().putIfAbsent(key, pending);
+        if (inFlight != null) {
+            return await(inFlight).document();
+        }
+
+        Buffer rendered;
+        try {
+            rendered = renderBuffer(resumeJson, renderer);
+        } catch (Throwable ex) {
+            memoryCache.asMap().remove(key, pending);
+            pending.completeExceptionally(ex);
+            throw ex;
+        }
+        pending.complete(rendered);
+        Path file = diskFile(resumeId, templateId, eTag);
+        if (file != null) {
+            writeQuietly(file, rendered);
+        }
+        return rendered.document();
+    }
+
+    private static Buffer await(CompletableFuture<Buffer> inFlight) throws IOException {
+        try {
+            return inFlight.join();
+        } catch (CompletionException ex) {
+            // The rendering caller's failure, rethrown as it was
+            if (ex.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    private Buffer renderBuffer(MasterResumeJson resumeJson, Renderer renderer) throws IOException {
+        ExposedByteArrayOutputStream rendered = new ExposedByteArrayOutputStream();
+        renderer.render(resumeJson, rendered);
+        return rendered.toBuffer();
+    }
+
+    /**
+     * Drops every cached rendering of a resume (all templates, all content versions).
+     */
+    public void invalidate(UUID resumeId) {
+        String prefix = resumeId + "/";
+        memoryCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        if (diskDirectory != null) {
+            try {
+                FileSystemUtils.deleteRecursively(diskDirectory.resolve(resumeId.toString()));
+            } catch (IOException ex) {
+                log.warn("Render cache invalidation failed: resumeId={}", resumeId, ex);
+            }
+        }
+    }
+
+    /**
+     * @return true if an If-None-Match header value matches {@code eTag}
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String key(UUID resumeId, String templateId, String eTag) {
+        return resumeId + "/" + templateId + "/" + eTag;
+    }
+
+    private Path diskFile(UUID resumeId, String templateId, String eTag) {
+        if (diskDirectory == null) {
+            return null;
+        }
+        String hash = eTag.substring(1, eTag.length() - 1);
+        return diskDirectory.resolve(resumeId.toString()).resolve(templateId + "-" + hash);
+    }
+
+    private void writeQuietly(Path file, Buffer content) {
+        try {
+            Files.createDirectories(file.getParent());
+            // Write then rename, so concurrent readers never see a partial file
+            Path temp = Files.createTempFile(file.getParent(), "render-", ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                out.write(content.bytes(), 0, content.length());
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            log.warn("Render cache write failed: {}", file, ex);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Renderer {
+        void render(MasterResumeJson resumeJson, OutputStream outputStream) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+
+    /**
+     * A rendered document ready to be written to a response.
+     *
+     * @param contentLength size in bytes, or -1 when unknown until rendered
+     */
+    public record RenderedDocument(long contentLength, ContentWriter writer) {
+        public void writeTo(OutputStream outputStream) throws IOException {
+            writer.writeTo(outputStream);
+        }
+    }
+
+    /**
+     * The first {@code length} bytes of {@code bytes}; shared read-only once cached.
+     */
+    private record Buffer(byte[] bytes, int length) {
+        RenderedDocument document() {
+            return new RenderedDocument(length, out -> out.write(bytes, 0, length));
+        }
+    }
+
+    /**
+     * Hands out its internal buffer instead of copying it, unless growth left more
+     * than a quarter of it unused: entries are weighed by length, so the slack is
+     * trimmed to keep the cache's byte bound close to the memory actually held.
+     */
+    private static final class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+        ExposedByteArrayOutputStream() {
+            super(64 * 1024);
+        }
+
+        Buffer toBuffer() {
+            if (buf.length - count > count / 4) {
+                return new Buffer(Arrays.copyOf(buf, count), count);
+            }
+            return new Buffer(buf, count);
+        }
+    }
+}
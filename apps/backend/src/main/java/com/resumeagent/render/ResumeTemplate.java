@@ -0,0 +1,105 @@
+package com.resumeagent.render;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Descriptor of a DOCX resume template: palette, font sizes, spacing and
+ * section order. Rendered by {@link DocxResumeRenderer}; a new template is a
+ * new ResumeTemplate bean (see ResumeTemplateConfig), not a new renderer.
+ *
+ * Colors are hex RGB without '#', null meaning "leave unset" (document default).
+ * Sizes are in points, spacing and indentation in twips (20 twips = 1pt).
+ */
+@Value
+@Builder
+public class ResumeTemplate {
+
+    /**
+     * Identifier used in download URLs and render cache keys.
+     */
+    String id;
+
+    String fontFamily;
+
+    // Palette
+    String primaryColor;
+    String secondaryColor;
+    String textColor;
+    String sectionTitleColor;
+    /**
+     * Color of the section title underline; null draws a plain single border.
+     */
+    String sectionBorderColor;
+
+    // Font sizes (points)
+    int nameSize;
+    int headlineSize;
+    int sectionTitleSize;
+    int subtitleSize;
+    int bodySize;
+    int smallSize;
+
+    // Spacing after paragraphs (twips)
+    int nameSpacingAfter;
+    int headlineSpacingAfter;
+    int contactSpacingAfter;
+    int sectionSpacingBefore;
+    int sectionSpacingAfter;
+    int summarySpacingAfter;
+    int skillsSpacingAfter;
+    int skillRowSpacingAfter;
+    int itemTitleSpacingAfter;
+    int projectTitleSpacingAfter;
+    int dateSpacingAfter;
+    int educationDetailSpacingAfter;
+    int certificationSpacingAfter;
+
+    int bulletIndentLeft;
+    /**
+     * Hanging indent of bullet paragraphs; 0 for none.
+     */
+    int bulletIndentHanging;
+    /**
+     * Empty paragraph between consecutive experiences; null for none.
+     */
+    Integer experienceGap;
+    /**
+     * Empty paragraph after each project; null for none.
+     */
+    Integer projectGap;
+
+    boolean companyItalic;
+
+    SkillsLayout skillsLayout;
+    String technicalSkillsLabel;
+    String toolsSkillsLabel;
+    String professionalSkillsLabel;
+
+    /**
+     * Body sections after the header, in render order.
+     */
+    List<Section> sections;
+
+    public enum Section {
+        SUMMARY,
+        SKILLS,
+        EXPERIENCE,
+        EDUCATION,
+        CERTIFICATIONS,
+        PROJECTS
+    }
+
+    public enum SkillsLayout {
+        /**
+         * One paragraph: "Technical: a, b | Tools: c | ..."
+         */
+        INLINE,
+        /**
+         * Borderless two-column table, one row per category.
+         */
+        TABLE
+    }
+}
@@ -0,0 +1,105 @@
+package com.resumeagent.render;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Built-in resume templates.
+ */
+@Configuration
+public class ResumeTemplateConfig {
+
+    private static final List<ResumeTemplate.Section> DEFAULT_SECTIONS = List.of(
+            ResumeTemplate.Section.SUMMARY,
+            ResumeTemplate.Section.SKILLS,
+            ResumeTemplate.Section.EXPERIENCE,
+            ResumeTemplate.Section.EDUCATION,
+            ResumeTemplate.Section.CERTIFICATIONS,
+            ResumeTemplate.Section.PROJECTS
+    );
+
+    /**
+     * Classic single-page layout: black text, slate section titles over a plain rule.
+     */
+    @Bean
+    public ResumeTemplate blueResumeTemplate() {
+        return ResumeTemplate.builder()
+                .id("blue")
+                .fontFamily("Calibri")
+                .sectionTitleColor("2E4A62")
+                .nameSize(18)
+                .headlineSize(11)
+                .sectionTitleSize(11)
+                .subtitleSize(10)
+                .bodySize(10)
+                .smallSize(9)
+                .nameSpacingAfter(0)
+                .headlineSpacingAfter(0)
+                .contactSpacingAfter(100)
+                .sectionSpacingBefore(150)
+                .sectionSpacingAfter(50)
+                .summarySpacingAfter(100)
+                .skillsSpacingAfter(100)
+                .itemTitleSpacingAfter(0)
+                .projectTitleSpacingAfter(0)
+                .dateSpacingAfter(50)
+                .educationDetailSpacingAfter(50)
+                .certificationSpacingAfter(0)
+                .bulletIndentLeft(360)
+                .bulletIndentHanging(0)
+                .companyItalic(false)
+                .skillsLayout(ResumeTemplate.SkillsLayout.INLINE)
+                .technicalSkillsLabel("Technical")
+                .toolsSkillsLabel("Tools")
+                .professionalSkillsLabel("Professional")
+                .sections(DEFAULT_SECTIONS)
+                .build();
+    }
+
+    /**
+     * Modern layout: green palette, colored underlines, skills table.
+     */
+    @Bean
+    public ResumeTemplate greenResumeTemplate() {
+        return ResumeTemplate.builder()
+                .id("green")
+                .fontFamily("Calibri")
+                .primaryColor("1A4D2E")      // Deep green for headers
+                .secondaryColor("4F7942")    // Medium green for accents
+                .textColor("333333")         // Dark gray for body
+                .sectionTitleColor("1A4D2E")
+                .sectionBorderColor("1A4D2E")
+                .nameSize(18)
+                .headlineSize(11)
+                .sectionTitleSize(12)
+                .subtitleSize(11)
+                .bodySize(10)
+                .smallSize(9)
+                .nameSpacingAfter(40)
+                .headlineSpacingAfter(40)
+                .contactSpacingAfter(80)
+                .sectionSpacingBefore(180)
+                .sectionSpacingAfter(80)
+                .summarySpacingAfter(60)
+                .skillsSpacingAfter(60)
+                .skillRowSpacingAfter(40)
+                .itemTitleSpacingAfter(0)
+                .projectTitleSpacingAfter(40)
+                .dateSpacingAfter(40)
+                .educationDetailSpacingAfter(60)
+                .certificationSpacingAfter(40)
+                .bulletIndentLeft(360)
+                .bulletIndentHanging(260)
+                .experienceGap(60)
+                .projectGap(40)
+                .companyItalic(true)
+                .skillsLayout(ResumeTemplate.SkillsLayout.TABLE)
+                .technicalSkillsLabel("Technical")
+                .toolsSkillsLabel("Tools & Technologies")
+                .professionalSkillsLabel("Professional")
+                .sections(DEFAULT_SECTIONS)
+                .build();
+    }
+}
@@ -0,0 +1,130 @@
+package com.resumeagent.render;
+
+import com.resumeagent.entity.model.MasterResumeJson;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Text of the resume lines shared by the DOCX and PDF renderers, so both
+ * output formats always say the same thing.
+ */
+final class ResumeText {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MMM yyyy");
+
+    private ResumeText() {
+    }
+
+    /**
+     * "email | phone | location | linkedin | github | portfolio", skipping missing values.
+     */
+    static String contactLine(MasterResumeJson.Header header) {
+        StringBuilder contactLine = new StringBuilder();
+        appendContact(contactLine, header.getEmail());
+        appendContact(contactLine, header.getPhone());
+        appendContact(contactLine, header.getLocation());
+
+        MasterResumeJson.Links links = header.getLinks();
+        if (links != null) {
+            appendContact(contactLine, links.getLinkedin());
+            appendContact(contactLine, links.getGithub());
+            appendContact(contactLine, links.getPortfolio());
+        }
+        return contactLine.toString();
+    }
+
+    private static void appendContact(StringBuilder contactLine, String value) {
+        if (value == null)
+            return;
+        if (contactLine.length() > 0)
+            contactLine.append(" | ");
+        contactLine.append(value);
+    }
+
+    /**
+     * "Technical: a, b | Tools: c | ..." for the INLINE skills layout; empty if there are no skills.
+     */
+    static String inlineSkills(ResumeTemplate template, MasterResumeJson.CoreSkills skills) {
+        StringBuilder skillsText = new StringBuilder();
+        appendSkills(skillsText, template.getTechnicalSkillsLabel(), skills.getTechnical());
+        appendSkills(skillsText, template.getToolsSkillsLabel(), skills.getTools());
+        appendSkills(skillsText, template.getProfessionalSkillsLabel(), skills.getProfessional());
+        return skillsText.toString();
+    }
+
+    private static void appendSkills(StringBuilder skillsText, String label, List<String> items) {
+        if (!hasItems(items))
+            return;
+        if (skillsText.length() > 0)
+            skillsText.append(" | ");
+        skillsText.append(label).append(": ").append(String.join(", ", items));
+    }
+
+    /**
+     * Achievements if there are any, otherwise responsibilities (may be null).
+     */
+    static List<String> experienceBullets(MasterResumeJson.Experience exp) {
+        return hasItems(exp.getAchievements()) ? exp.getAchievements() : exp.getResponsibilities();
+    }
+
+    /**
+     * "dates | location" line under an experience title.
+     */
+    static String experienceMeta(MasterResumeJson.Experience exp) {
+        String dateRange = formatDateRange(exp.getStartDate(), exp.getEndDate());
+        String locationInfo = exp.getLocation() != null ? " | " + exp.getLocation() : "";
+        return dateRange + locationInfo;
+    }
+
+    /**
+     * "Institution, Location | dates | grade" line under a degree.
+     */
+    static String educationDetails(MasterResumeJson.Education edu) {
+        StringBuilder details = new StringBuilder(nullSafe(edu.getInstitution()));
+        if (edu.getLocation() != null)
+            details.append(", ").append(edu.getLocation());
+        String dateRange = formatDateRange(edu.getStartDate(), edu.getEndDate());
+        if (!dateRange.isEmpty())
+            details.append(" | ").append(dateRange);
+        if (edu.getGradeOrScore() != null)
+            details.append(" | ").append(edu.getGradeOrScore());
+        return details.toString();
+    }
+
+    /**
+     * " - Issuer (Year)" suffix of a certification name; empty if neither is known.
+     */
+    static String certificationDetails(MasterResumeJson.Certification cert) {
+        StringBuilder details = new StringBuilder();
+        if (cert.getIssuer() != null)
+            details.append(" - ").append(cert.getIssuer());
+        if (cert.getYear() != null)
+            details.append(" (").append(cert.getYear()).append(")");
+        return details.toString();
+    }
+
+    /**
+     * Formats a date range for display.
+     */
+    static String formatDateRange(LocalDate start, LocalDate end) {
+        if (start == null)
+            return "";
+
+        String startStr = start.format(DATE_FORMATTER);
+        String endStr = end != null ? end.format(DATE_FORMATTER) : "Present";
+        return startStr + " - " + endStr;
+    }
+
+    static boolean hasItems(List<String> items) {
+        return items != null && !items.isEmpty();
+    }
+
+    /**
+     * Returns empty string if value is null.
+     */
+    static String nullSafe(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,34 @@
+package com.resumeagent.repository;
+
+import com.resumeagent.entity.JobDescriptionAnalysisCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public interface JobDescriptionAnalysisCacheRepository extends JpaRepository<JobDescriptionAnalysisCacheEntry, String> {
+
+    Optional<JobDescriptionAnalysisCacheEntry> findByJdHashAndCreatedAtAfter(String jdHash, Instant createdAfter);
+
+    /**
+     * Insert or refresh an entry; concurrent analyses of the same posting simply overwrite each other.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO job_description_analysis_cache (jd_hash, analysis_json, hit_count, created_at) " +
+            "VALUES (:jdHash, CAST(:analysisJson AS jsonb), 0, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (jd_hash) DO UPDATE SET analysis_json = EXCLUDED.analysis_json, " +
+            "created_at = EXCLUDED.created_at",
+            nativeQuery = true)
+    void upsert(@Param("jdHash") String jdHash, @Param("analysisJson") String analysisJson);
+
+    @Modifying
+    @Query("update JobDescriptionAnalysisCacheEntry e " +
+            "set e.hitCount = e.hitCount + 1, e.lastHitAt = :now " +
+            "where e.jdHash = :jdHash")
+    void recordHit(@Param("jdHash") String jdHash, @Param("now") Instant now);
+}
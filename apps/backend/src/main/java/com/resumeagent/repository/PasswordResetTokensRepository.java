@@ -2,8 +2,12 @@ package com.resumeagent.repository;
 
 import com.resumeagent.entity.PasswordResetTokens;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,4 +17,18 @@ public interface PasswordResetTokensRepository extends JpaRepository<PasswordRes
     Optional<PasswordResetTokens> findByToken(String token);
     List<PasswordResetTokens> findByUserIdAndUsedFalse(UUID userId);
     void deleteByUserId(UUID userId);
+
+    /**
+     * Delete at most {@code batchSize} tokens that expired before {@code cutoff}
+     * Oldest first; rows locked by a concurrent transaction are skipped, so the
+     * cleanup job never waits on (or blocks) live auth requests for long.
+     *
+     * @return Number of deleted tokens
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM password_reset_tokens WHERE id IN (" +
+            "SELECT id FROM password_reset_tokens WHERE expires_at < :cutoff " +
+            "ORDER BY expires_at LIMIT :batchSize FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int deleteExpiredBatch(Instant cutoff, int batchSize);
 }
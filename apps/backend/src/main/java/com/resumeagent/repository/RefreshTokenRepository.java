@@ -36,6 +36,20 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID
      */
     Optional<RefreshToken> findByTokenHash(String tokenHash);
 
+    /**
+     * Find a usable (non-revoked, non-expired) refresh token by hashed value
+     * Single-row lookup on the token_hash UNIQUE index; expiry and revocation
+     * are checked in the query. The user is fetched in the same statement
+     * because every caller reads it after the transaction ends.
+     *
+     * @param tokenHash SHA-256 hash of refresh token
+     * @param now       Current timestamp
+     * @return Optional containing token if found and still valid
+     */
+    @Query("SELECT rt FROM RefreshToken rt JOIN FETCH rt.user " +
+            "WHERE rt.tokenHash = :tokenHash AND rt.revoked = false AND rt.expiresAt > :now")
+    Optional<RefreshToken> findValidByTokenHash(String tokenHash, Instant now);
+
     /**
      * Find all active (non-revoked, non-expired) refresh tokens for a user
      * Used for:
@@ -61,19 +75,6 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID
     @Modifying
     void deleteByUser(User user);
 
-    /**
-     * Delete expired refresh tokens (cleanup job)
-     * Should be run periodically (e.g., daily scheduled task)
-     * Prevents database bloat from old tokens
-     * 
-     * @param timestamp Current time (tokens expired before this are deleted)
-     * @return Number of deleted tokens
-     */
-    @Transactional
-    @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt < :timestamp")
-    int deleteExpiredTokens(Instant timestamp);
-
     /**
      * Count active tokens for a user
      * Used for:
@@ -86,4 +87,21 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID
      */
     @Query("SELECT COUNT(rt) FROM RefreshToken rt WHERE rt.user = :user AND rt.revoked = false AND rt.expiresAt > :now")
     long countActiveTokensByUser(User user, Instant now);
+
+    /**
+     * Delete at most {@code batchSize} tokens that expired, or were revoked, before {@code cutoff}
+     * A revoked token can never be used again and nothing reads it back
+     * (lookups filter on revoked = false), so it is purged without waiting for expiry.
+     * Rows locked by a concurrent transaction are skipped, so the cleanup job
+     * never waits on (or blocks) live auth requests for long.
+     *
+     * @return Number of deleted tokens
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE id IN (" +
+            "SELECT id FROM refresh_tokens " +
+            "WHERE expires_at < :cutoff OR (revoked = TRUE AND revoked_at < :cutoff) " +
+            "LIMIT :batchSize FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int deleteExpiredOrRevokedBatch(Instant cutoff, int batchSize);
 }
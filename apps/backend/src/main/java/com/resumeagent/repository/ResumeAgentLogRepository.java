@@ -9,7 +9,6 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
-import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -46,19 +45,6 @@ public interface ResumeAgentLogRepository extends JpaRepository<ResumeAgentLog,
             @Param("end") Instant end
     );
 
-    @Query(value = "select date(r.created_at) as day, " +
-            "coalesce(sum(coalesce(r.tokens_input, 0)), 0) as inputTokens, " +
-            "coalesce(sum(coalesce(r.tokens_output, 0)), 0) as outputTokens " +
-            "from resume_agent_logs r " +
-            "where r.user_id = :userId and r.created_at >= :start and r.created_at < :end " +
-            "group by day order by day",
-            nativeQuery = true)
-    List<DailyTokenUsage> findDailyTokenUsage(
-            @Param("userId") UUID userId,
-            @Param("start") Instant start,
-            @Param("end") Instant end
-    );
-
     @Query("select r.agentName as agentName, avg(r.executionTimeMs) as avgExecutionTimeMs " +
             "from ResumeAgentLog r " +
             "where r.user.id = :userId and r.executionTimeMs is not null " +
@@ -72,12 +58,4 @@ public interface ResumeAgentLogRepository extends JpaRepository<ResumeAgentLog,
 
         Double getAvgExecutionTimeMs();
     }
-
-    interface DailyTokenUsage {
-        LocalDate getDay();
-
-        long getInputTokens();
-
-        long getOutputTokens();
-    }
 }
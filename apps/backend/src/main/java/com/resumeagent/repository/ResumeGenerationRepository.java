@@ -3,8 +3,12 @@ package com.resumeagent.repository;
 import com.resumeagent.entity.ResumeGeneration;
 import com.resumeagent.entity.enums.ResumeGenerationStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -19,6 +23,42 @@ public interface ResumeGenerationRepository extends JpaRepository<ResumeGenerati
 
     Optional<ResumeGeneration> findFirstByUserIdOrderByCreatedAtDesc(UUID userId);
 
+    Optional<ResumeGeneration> findByIdAndUserId(UUID id, UUID userId);
+
+    Optional<ResumeGeneration> findFirstByUserIdAndMasterResumeFingerprintAndJdHashAndStatusOrderByCreatedAtDesc(
+            UUID userId,
+            String masterResumeFingerprint,
+            String jdHash,
+            ResumeGenerationStatus status
+    );
+
+    /**
+     * Generations in the given statuses last updated at or after the cutoff, with their
+     * user and master resume loaded so they can be handed to a worker thread outside
+     * any persistence context.
+     */
+    @Query("SELECT g FROM ResumeGeneration g JOIN FETCH g.user JOIN FETCH g.masterResume " +
+            "WHERE g.status IN :statuses AND g.updatedAt >= :cutoff")
+    List<ResumeGeneration> findAllWithOwnerByStatusInUpdatedSince(
+            @Param("statuses") Collection<ResumeGenerationStatus> statuses,
+            @Param("cutoff") Instant cutoff
+    );
+
+    /**
+     * Fails generations in the given statuses that were last updated before the cutoff.
+     * @return number of generations failed
+     */
+    @Modifying
+    @Query("UPDATE ResumeGeneration g SET g.status = :failed, g.failureReason = :reason, g.updatedAt = :now " +
+            "WHERE g.status IN :statuses AND g.updatedAt < :cutoff")
+    int failByStatusInUpdatedBefore(
+            @Param("statuses") Collection<ResumeGenerationStatus> statuses,
+            @Param("cutoff") Instant cutoff,
+            @Param("failed") ResumeGenerationStatus failed,
+            @Param("reason") String reason,
+            @Param("now") Instant now
+    );
+
     long countByUserId(UUID userId);
 
     long countByUserIdAndStatus(UUID userId, ResumeGenerationStatus status);
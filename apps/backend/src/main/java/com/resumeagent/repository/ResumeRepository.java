@@ -3,6 +3,7 @@ package com.resumeagent.repository;
 import com.resumeagent.entity.Resume;
 import com.resumeagent.entity.User;
 import com.resumeagent.entity.enums.ResumeStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -11,6 +12,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -31,8 +33,37 @@ public interface ResumeRepository extends JpaRepository<Resume, UUID> {
 
     List<Resume> findByUserAndStatusIn(User user, Collection<ResumeStatus> statuses, Sort sort);
 
+    long countByUserAndStatusIn(User user, Collection<ResumeStatus> statuses);
+
     long countByUserIdAndStatusNot(UUID userId, ResumeStatus status);
 
+    /**
+     * Keyset page: first page of a user's resumes, newest first
+     */
+    @Query("select r from Resume r " +
+            "where r.user = :user and r.status in :statuses " +
+            "order by r.createdAt desc, r.id desc")
+    List<Resume> findKeysetFirstPage(
+            @Param("user") User user,
+            @Param("statuses") Collection<ResumeStatus> statuses,
+            Limit limit
+    );
+
+    /**
+     * Keyset page: resumes strictly after (createdAt, id) in (createdAt DESC, id DESC) order
+     */
+    @Query("select r from Resume r " +
+            "where r.user = :user and r.status in :statuses " +
+            "and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id)) " +
+            "order by r.createdAt desc, r.id desc")
+    List<Resume> findKeysetPageAfter(
+            @Param("user") User user,
+            @Param("statuses") Collection<ResumeStatus> statuses,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit
+    );
+
     @Query("select count(distinct r.jobTitleTargeted) " +
             "from Resume r " +
             "where r.user.id = :userId and r.status <> :status")
@@ -0,0 +1,62 @@
+package com.resumeagent.repository;
+
+import com.resumeagent.entity.UserAgentDailyUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface UserAgentDailyUsageRepository
+        extends JpaRepository<UserAgentDailyUsage, UserAgentDailyUsage.Key> {
+
+    @Modifying
+    @Query(value = "INSERT INTO user_agent_daily_usage " +
+            "(user_id, day, agent_name, input_tokens, output_tokens, execution_count, execution_time_sum_ms) " +
+            "VALUES (:userId, :day, :agentName, :inputTokens, :outputTokens, 1, :executionTimeMs) " +
+            "ON CONFLICT (user_id, day, agent_name) DO UPDATE SET " +
+            "input_tokens = user_agent_daily_usage.input_tokens + EXCLUDED.input_tokens, " +
+            "output_tokens = user_agent_daily_usage.output_tokens + EXCLUDED.output_tokens, " +
+            "execution_count = user_agent_daily_usage.execution_count + 1, " +
+            "execution_time_sum_ms = user_agent_daily_usage.execution_time_sum_ms + EXCLUDED.execution_time_sum_ms",
+            nativeQuery = true)
+    void increment(
+            @Param("userId") UUID userId,
+            @Param("day") LocalDate day,
+            @Param("agentName") String agentName,
+            @Param("inputTokens") long inputTokens,
+            @Param("outputTokens") long outputTokens,
+            @Param("executionTimeMs") long executionTimeMs
+    );
+
+    /**
+     * Token totals per bucket in [from, to); unit is a date_trunc field (day, week, month).
+     * Buckets without usage are not returned.
+     */
+    @Query(value = "select cast(date_trunc(:unit, cast(d.day as timestamp)) as date) as bucket, " +
+            "sum(d.input_tokens) as inputTokens, " +
+            "sum(d.output_tokens) as outputTokens " +
+            "from user_agent_daily_usage d " +
+            "where d.user_id = :userId and d.day >= :from and d.day < :to " +
+            "group by bucket order by bucket",
+            nativeQuery = true)
+    List<TokenUsageBucket> findTokenUsage(
+            @Param("userId") UUID userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("unit") String unit
+    );
+
+    interface TokenUsageBucket {
+        LocalDate getBucket();
+
+        long getInputTokens();
+
+        long getOutputTokens();
+    }
+}
@@ -0,0 +1,31 @@
+package com.resumeagent.repository;
+
+import com.resumeagent.entity.UserAgentExecutionStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface UserAgentExecutionStatsRepository
+        extends JpaRepository<UserAgentExecutionStats, UserAgentExecutionStats.Key> {
+
+    List<UserAgentExecutionStats> findByUserId(UUID userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO user_agent_execution_stats (user_id, agent_name, execution_count, execution_time_sum_ms) " +
+            "VALUES (:userId, :agentName, 1, :executionTimeMs) " +
+            "ON CONFLICT (user_id, agent_name) DO UPDATE SET " +
+            "execution_count = user_agent_execution_stats.execution_count + 1, " +
+            "execution_time_sum_ms = user_agent_execution_stats.execution_time_sum_ms + EXCLUDED.execution_time_sum_ms",
+            nativeQuery = true)
+    void increment(
+            @Param("userId") UUID userId,
+            @Param("agentName") String agentName,
+            @Param("executionTimeMs") long executionTimeMs
+    );
+}
@@ -0,0 +1,45 @@
+package com.resumeagent.repository;
+
+import com.resumeagent.entity.UserAgentStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Repository
+public interface UserAgentStatsRepository extends JpaRepository<UserAgentStats, UUID> {
+
+    /**
+     * Fold one agent log into the user's rollup row (created on first log).
+     * month_tokens restarts when the log belongs to a newer month than the row.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_agent_stats (user_id, total_count, success_count, failure_count, " +
+            "partial_count, total_tokens, month_start, month_tokens, updated_at) " +
+            "VALUES (:userId, 1, :success, :failure, :partial, :tokens, :monthStart, :tokens, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (user_id) DO UPDATE SET " +
+            "total_count = user_agent_stats.total_count + 1, " +
+            "success_count = user_agent_stats.success_count + EXCLUDED.success_count, " +
+            "failure_count = user_agent_stats.failure_count + EXCLUDED.failure_count, " +
+            "partial_count = user_agent_stats.partial_count + EXCLUDED.partial_count, " +
+            "total_tokens = user_agent_stats.total_tokens + EXCLUDED.total_tokens, " +
+            "month_tokens = CASE WHEN user_agent_stats.month_start = EXCLUDED.month_start " +
+            "THEN user_agent_stats.month_tokens + EXCLUDED.month_tokens " +
+            "WHEN user_agent_stats.month_start > EXCLUDED.month_start THEN user_agent_stats.month_tokens " +
+            "ELSE EXCLUDED.month_tokens END, " +
+            "month_start = GREATEST(user_agent_stats.month_start, EXCLUDED.month_start), " +
+            "updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    void increment(
+            @Param("userId") UUID userId,
+            @Param("success") int success,
+            @Param("failure") int failure,
+            @Param("partial") int partial,
+            @Param("tokens") long tokens,
+            @Param("monthStart") LocalDate monthStart
+    );
+}
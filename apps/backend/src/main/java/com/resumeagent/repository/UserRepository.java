@@ -9,9 +9,12 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.Collection;
@@ -69,6 +72,28 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      */
     Page<User> findByUserRoleIn(Collection<UserRole> userRoles, Pageable pageable);
 
+    long countByUserRoleIn(Collection<UserRole> userRoles);
+
+    /**
+     * Keyset page: first page of users by role, newest first
+     * Used for admin user listing without OFFSET scans
+     */
+    @Query("SELECT u FROM User u WHERE u.userRole IN :userRoles ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findKeysetFirstPage(@Param("userRoles") Collection<UserRole> userRoles, Limit limit);
+
+    /**
+     * Keyset page: users strictly after (createdAt, id) in (createdAt DESC, id DESC) order
+     */
+    @Query("SELECT u FROM User u WHERE u.userRole IN :userRoles " +
+            "AND (u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.id < :id)) " +
+            "ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findKeysetPageAfter(
+            @Param("userRoles") Collection<UserRole> userRoles,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit
+    );
+
     long countByUserRole(UserRole userRole);
 
     long countByUserRoleAndPlan(UserRole userRole, UserPlan plan);
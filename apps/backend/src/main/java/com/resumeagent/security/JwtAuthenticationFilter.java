@@ -10,12 +10,12 @@ import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * JWT Authentication Filter
@@ -26,7 +26,7 @@ import java.io.IOException;
  * SECURITY ARCHITECTURE:
  * - Access token extracted from HttpOnly cookie (not Authorization header)
  * - Token signature verified with RSA public key
- * - UserDetails loaded fresh from database (stateless, no caching)
+ * - UserDetails loaded from database, reused for a short TTL (UserDetailsCache)
  * - SecurityContext populated for downstream authorization
  * NO SILENT FAILURES:
  * All validation errors are logged explicitly
@@ -35,7 +35,7 @@ import java.io.IOException;
  * THREAT MITIGATION:
  * - Token Tampering: RSA signature verification
  * - Expired Tokens: Expiry check before authentication
- * - User State Changes: Fresh UserDetails load on each request
+ * - User State Changes: Account changes evict the cached UserDetails
  * - Token Type Confusion: Validates token type is "access"
  */
 @Component
@@ -44,7 +44,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final UserDetailsCache userDetailsCache;
     private final CookieUtil cookieUtil;
 
     /**
@@ -52,10 +52,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      * FLOW:
      * 1. Extract access token from cookie
      * 2. If token exists:
-     * a. Validate signature and expiry
+     * a. Verify signature and expiry once (cached until exp)
      * b. Validate token type is "access"
-     * c. Extract username
-     * d. Load UserDetails from database
+     * c. Extract username from the verified claims
+     * d. Load UserDetails (short-lived cache, database on miss)
      * e. Create Authentication object
      * f. Set SecurityContext
      * 3. If token missing/invalid:
@@ -82,11 +82,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             if (jwt != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                // Validate token signature and expiry
-                if (jwtTokenProvider.validateToken(jwt)) {
+                // Validate token signature and expiry (verified once, claims reused below)
+                Optional<VerifiedToken> verified = jwtTokenProvider.verify(jwt);
+                if (verified.isPresent()) {
 
                     // Validate token type (must be "access", not "refresh")
-                    if (!jwtTokenProvider.validateTokenType(jwt, "access")) {
+                    if (!verified.get().isType("access")) {
                         log.warn("Token type validation failed: expected 'access'");
                         // SECURITY: Don't authenticate with refresh token
                         filterChain.doFilter(request, response);
@@ -94,11 +95,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     }
 
                     // Extract username from token
-                    String username = jwtTokenProvider.extractUsername(jwt);
+                    String username = verified.get().subject();
 
-                    // Load user details from database
-                    // FRESH LOAD: Ensures account status changes take effect immediately
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                    // Load user details (cached briefly; account changes evict the entry)
+                    UserDetails userDetails = userDetailsCache.loadUserByUsername(username);
 
                     // Create authentication token
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
@@ -3,7 +3,10 @@ package com.resumeagent.security;
 import com.resumeagent.config.JwtProperties;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.SignatureException;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.apache.commons.codec.digest.DigestUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
@@ -18,10 +21,12 @@ import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -41,20 +46,57 @@ import java.util.UUID;
  * - Replay Attacks: Short expiration for access tokens
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtTokenProvider {
 
     private final JwtProperties jwtProperties;
     private final ResourceLoader resourceLoader;
 
+    /**
+     * Verified tokens keyed by SHA-256 of the raw token, each kept until its exp
+     * The key covers the signature, so a cache hit implies the exact same signed token
+     */
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
     private PrivateKey privateKey;
     private PublicKey publicKey;
 
+    /**
+     * Parsers are immutable and thread-safe, so they are built once in init()
+     * - tokenParser: signature + issuer + audience (request authentication)
+     * - signatureParser: signature only (claim extraction helpers)
+     */
+    private JwtParser tokenParser;
+    private JwtParser signatureParser;
+
+    public JwtTokenProvider(JwtProperties jwtProperties, ResourceLoader resourceLoader) {
+        this.jwtProperties = jwtProperties;
+        this.resourceLoader = resourceLoader;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedTokenCacheMaxEntries())
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), token.expiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
     /**
      * Initialize RSA keys from configured paths
      * SECURITY NOTE:
-     * Keys are loaded once at startup to avoid repeated I/O
+     * Keys are loaded (and parsers built) once at startup to avoid repeated I/O
      * Validation errors fail fast (application won't start)
      */
     @PostConstruct
@@ -62,6 +104,14 @@ public class JwtTokenProvider {
         try {
             this.privateKey = loadPrivateKey(jwtProperties.getPrivateKeyPath());
             this.publicKey = loadPublicKey(jwtProperties.getPublicKeyPath());
+            this.tokenParser = Jwts.parser()
+                    .verifyWith(publicKey)
+                    .requireIssuer(jwtProperties.getIssuer())
+                    .requireAudience(jwtProperties.getAudience())
+                    .build();
+            this.signatureParser = Jwts.parser()
+                    .verifyWith(publicKey)
+                    .build();
             log.info("JWT RSA keys loaded successfully");
         } catch (Exception e) {
             log.error("Failed to load JWT RSA keys", e);
@@ -129,17 +179,73 @@ public class JwtTokenProvider {
                 "type", tokenType,
                 "role", role);
 
+        // JwtBuilder is mutable, so one is created per token; key and algorithm are shared
         return Jwts.builder()
-                .setClaims(claims)
-                .setSubject(userDetails.getUsername())
-                .setIssuedAt(Date.from(now))
-                .setExpiration(Date.from(expiration))
-                .setIssuer(jwtProperties.getIssuer())
-                .setAudience(jwtProperties.getAudience())
-                .signWith(privateKey, SignatureAlgorithm.RS256)
+                .claims(claims)
+                .subject(userDetails.getUsername())
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(expiration))
+                .issuer(jwtProperties.getIssuer())
+                .audience().single(jwtProperties.getAudience())
+                .signWith(privateKey, Jwts.SIG.RS256)
                 .compact();
     }
 
+    /**
+     * Verify JWT once and return its claims
+     * Replaces the validateToken / validateTokenType / extractUsername sequence,
+     * which verified the RSA signature three times per request
+     * VALIDATION STEPS (cache miss):
+     * 1. Verify RSA signature using public key
+     * 2. Check expiration timestamp
+     * 3. Validate issuer and audience claims
+     * Successfully verified tokens are cached until their exp, so repeated
+     * requests with the same token skip signature verification entirely
+     * NO SILENT FAILURES:
+     * All validation errors are logged for security auditing
+     *
+     * @param token JWT token to verify
+     * @return Verified claims, or empty if the token is invalid or expired
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        String key = DigestUtils.sha256Hex(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && !cached.isExpired(Instant.now())) {
+            return Optional.of(cached);
+        }
+
+        try {
+            Claims claims = tokenParser
+                    .parseSignedClaims(token)
+                    .getPayload();
+            VerifiedToken verified = new VerifiedToken(
+                    claims.getSubject(),
+                    claims.get("type", String.class),
+                    claims.get("role", String.class),
+                    claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant(),
+                    claims.getExpiration().toInstant()
+            );
+            verifiedTokens.put(key, verified);
+            return Optional.of(verified);
+        } catch (SignatureException e) {
+            log.error("Invalid JWT signature: {}", e.getMessage());
+        } catch (MalformedJwtException e) {
+            log.error("Invalid JWT token structure: {}", e.getMessage());
+        } catch (ExpiredJwtException e) {
+            log.warn("JWT token expired: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            log.error("Unsupported JWT token: {}", e.getMessage());
+        } catch (IncorrectClaimException | MissingClaimException e) {
+            log.error("JWT claim validation failed: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            log.error("JWT claims string is empty: {}", e.getMessage());
+        }
+        return Optional.empty();
+    }
+
     /**
      * Validate JWT token signature and expiration
      * VALIDATION STEPS:
@@ -154,12 +260,7 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(publicKey)
-                    .requireIssuer(jwtProperties.getIssuer())
-                    .requireAudience(jwtProperties.getAudience())
-                    .build()
-                    .parseSignedClaims(token);
+            tokenParser.parseSignedClaims(token);
             return true;
         } catch (SignatureException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
@@ -235,9 +336,7 @@ public class JwtTokenProvider {
      * @return Claims object containing all token data
      */
     public Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(publicKey)
-                .build()
+        return signatureParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -0,0 +1,85 @@
+package com.resumeagent.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.resumeagent.config.JwtProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Short-lived cache of authenticated principals
+ * Lets JwtAuthenticationFilter skip the users lookup on most requests
+ * SECURITY ARCHITECTURE:
+ * - Bounded size and TTL (jwt.user-details-cache-*), so entries never live long
+ * - Services that change account state call {@link #invalidate(String)}
+ * - Cached copies carry no password hash (the filter never needs it)
+ * CONSISTENCY:
+ * Invalidation evicts immediately and again after the surrounding transaction
+ * commits, so a request that reloads the user mid-transaction cannot put the
+ * old state back into the cache.
+ */
+@Component
+@Slf4j
+public class UserDetailsCache {
+
+    private final UserDetailsService userDetailsService;
+    private final Cache<String, UserDetails> cache;
+
+    public UserDetailsCache(UserDetailsService userDetailsService, JwtProperties jwtProperties) {
+        this.userDetailsService = userDetailsService;
+        this.cache = jwtProperties.getUserDetailsCacheTtlMs() > 0
+                ? Caffeine.newBuilder()
+                    .maximumSize(jwtProperties.getUserDetailsCacheMaxEntries())
+                    .expireAfterWrite(Duration.ofMillis(jwtProperties.getUserDetailsCacheTtlMs()))
+                    .build()
+                : null;
+    }
+
+    /**
+     * Load user by email, from cache when a fresh entry exists
+     *
+     * @param email User email address
+     * @return UserDetails without credentials
+     * @throws UsernameNotFoundException if user not found (never cached)
+     */
+    public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        if (cache == null) {
+            return userDetailsService.loadUserByUsername(email);
+        }
+        return cache.get(email, this::loadWithoutCredentials);
+    }
+
+    /**
+     * Evict a user after an account change (deactivation, role or password change)
+     *
+     * @param email User email address
+     */
+    public void invalidate(String email) {
+        if (cache == null || email == null) {
+            return;
+        }
+        cache.invalidate(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(email);
+                }
+            });
+        }
+        log.debug("Invalidated cached principal for user: {}", email);
+    }
+
+    private UserDetails loadWithoutCredentials(String email) {
+        UserDetails loaded = userDetailsService.loadUserByUsername(email);
+        return User.withUserDetails(loaded).password("").build();
+    }
+}
@@ -35,12 +35,10 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     /**
      * Load user by email (username)
      * Called by Spring Security during authentication
-     * User details are loaded fresh on every request (no caching)
+     * JwtAuthenticationFilter reuses the result for a short TTL (UserDetailsCache)
      * STATELESS DESIGN:
-     * No user session caching ensures:
-     * - Account changes take effect immediately
-     * - User blocking/unblocking works without delay
-     * - Role changes apply instantly
+     * No user session state; account changes still take effect immediately
+     * because the services making them evict the cached principal
      * SECURITY NOTE:
      * If user not found, throw UsernameNotFoundException
      * Error message should NOT reveal if email exists (prevents enumeration)
@@ -0,0 +1,29 @@
+package com.resumeagent.security;
+
+import java.time.Instant;
+
+/**
+ * Claims of a JWT whose signature, issuer, audience and expiry have been verified
+ * Produced once per token by {@link JwtTokenProvider#verify(String)}; immutable,
+ * so it is safe to share between requests through the verified-token cache.
+ *
+ * @param subject   User email (sub)
+ * @param type      Token type ("access" or "refresh")
+ * @param role      User role authority (e.g. ROLE_USER)
+ * @param issuedAt  Issued-at timestamp (iat)
+ * @param expiresAt Expiration timestamp (exp)
+ */
+public record VerifiedToken(String subject, String type, String role, Instant issuedAt, Instant expiresAt) {
+
+    /**
+     * PREVENTS TOKEN TYPE CONFUSION:
+     * Ensures access tokens aren't used for refresh and vice versa
+     */
+    public boolean isType(String expectedType) {
+        return expectedType.equals(type);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -2,6 +2,7 @@ package com.resumeagent.service;
 
 import com.resumeagent.dto.request.RegisterAdminAndUserRequest;
 import com.resumeagent.dto.response.AdminUserActivitySummaryResponse;
+import com.resumeagent.dto.response.AdminUserCursorListResponse;
 import com.resumeagent.dto.response.AdminUserListItemResponse;
 import com.resumeagent.dto.response.AdminUserListResponse;
 import com.resumeagent.dto.response.AdminUsersDashboard;
@@ -10,7 +11,7 @@ import com.resumeagent.entity.EmailVerificationToken;
 import com.resumeagent.entity.PasswordHistory;
 import com.resumeagent.entity.User;
 import com.resumeagent.entity.ResumeGeneration;
-import com.resumeagent.entity.enums.AgentExecutionStatus;
+import com.resumeagent.entity.UserAgentStats;
 import com.resumeagent.entity.enums.UserPlan;
 import com.resumeagent.entity.enums.UserRole;
 import com.resumeagent.exception.DuplicateResourceException;
@@ -18,16 +19,17 @@ import com.resumeagent.exception.ValueNotFoundException;
 import com.resumeagent.repository.EmailVerificationTokenRepository;
 import com.resumeagent.repository.MasterResumeRepository;
 import com.resumeagent.repository.PasswordHistoryRepository;
-import com.resumeagent.repository.ResumeAgentLogRepository;
 import com.resumeagent.repository.ResumeGenerationRepository;
 import com.resumeagent.repository.ResumeRepository;
 import com.resumeagent.repository.UserRepository;
+import com.resumeagent.security.UserDetailsCache;
 import jakarta.mail.MessagingException;
 import org.springframework.transaction.annotation.Transactional;
 import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -64,7 +66,8 @@ public class AdminService {
     private final MasterResumeRepository masterResumeRepository;
     private final ResumeRepository resumeRepository;
     private final ResumeGenerationRepository resumeGenerationRepository;
-    private final ResumeAgentLogRepository resumeAgentLogRepository;
+    private final UserAgentStatsService userAgentStatsService;
+    private final UserDetailsCache userDetailsCache;
 
     /**
      * Registers a new admin user.
@@ -179,6 +182,50 @@ public class AdminService {
                 .build();
     }
 
+    /**
+     * Keyset variant of {@link #listUsers}: seeks past the cursor instead of
+     * OFFSET, and counts the total only when asked.
+     */
+    @Transactional(readOnly = true)
+    public AdminUserCursorListResponse listUsersByCursor(String cursor, int size, boolean includeTotal) {
+        List<UserRole> roles = List.of(UserRole.ADMIN, UserRole.USER);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+        // One extra row tells whether another page exists
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<User> rows = after == null
+                ? userRepository.findKeysetFirstPage(roles, limit)
+                : userRepository.findKeysetPageAfter(roles, after.createdAt(), after.id(), limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<User> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        List<AdminUserListItemResponse> items = page.stream()
+                .map(user -> AdminUserListItemResponse.builder()
+                        .id(user.getId() == null ? null : user.getId().toString())
+                        .fullName(user.getFullName())
+                        .email(user.getEmail())
+                        .plan(user.getPlan() == null ? null : user.getPlan().name())
+                        .role(user.getUserRole() == null ? null : user.getUserRole().name())
+                        .resumeGenerationLimit(user.getResumeGenerationLimit())
+                        .resumeGenerationUsed(user.getResumeGenerationUsed())
+                        .emailActive(user.isEmailActive())
+                        .createdAt(user.getCreatedAt() == null ? null : user.getCreatedAt().toString())
+                        .build())
+                .collect(Collectors.toList());
+
+        User last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return AdminUserCursorListResponse.builder()
+                .items(items)
+                .size(pageSize)
+                .nextCursor(hasNext ? new KeysetCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .hasNext(hasNext)
+                .totalElements(includeTotal ? userRepository.countByUserRoleIn(roles) : null)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public AdminUsersDashboard getUsersDashboard() {
         long totalUsersCount = userRepository.count();
@@ -212,6 +259,7 @@ public class AdminService {
 
         user.setEmailActive(false);
         userRepository.save(user);
+        userDetailsCache.invalidate(user.getEmail());
 
         return CommonResponse.builder()
                 .message("User deactivated successfully")
@@ -230,25 +278,13 @@ public class AdminService {
                 com.resumeagent.entity.enums.ResumeStatus.DELETED
         );
         long totalResumeGenerations = resumeGenerationRepository.countByUserId(userId);
-        long totalAgentLogs = resumeAgentLogRepository.countByUserId(userId);
-
-        int agentSuccessCount = (int) resumeAgentLogRepository.countByUserIdAndStatus(
-                userId,
-                AgentExecutionStatus.SUCCESS
-        );
-        int agentFailureCount = (int) resumeAgentLogRepository.countByUserIdAndStatus(
-                userId,
-                AgentExecutionStatus.FAILURE
-        );
-        int agentPartialCount = (int) resumeAgentLogRepository.countByUserIdAndStatus(
-                userId,
-                AgentExecutionStatus.PARTIAL
-        );
-
-        long totalTokensUsed = resumeAgentLogRepository.sumTokensByUserIdAndStatusNot(
-                userId,
-                AgentExecutionStatus.FAILURE
-        );
+        // Same rollup as the user's dashboard, so cache lookup log rows are not counted
+        UserAgentStats agentStats = userAgentStatsService.getStats(userId);
+        long totalAgentLogs = agentStats.getTotalCount();
+        int agentSuccessCount = (int) agentStats.getSuccessCount();
+        int agentFailureCount = (int) agentStats.getFailureCount();
+        int agentPartialCount = (int) agentStats.getPartialCount();
+        long totalTokensUsed = agentStats.getTotalTokens();
 
         ResumeGeneration lastGeneration = resumeGenerationRepository.findFirstByUserIdOrderByCreatedAtDesc(userId)
                 .orElse(null);
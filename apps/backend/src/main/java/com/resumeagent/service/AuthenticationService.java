@@ -12,6 +12,7 @@ import com.resumeagent.repository.EmailVerificationTokenRepository;
 import com.resumeagent.repository.UserRepository;
 import com.resumeagent.security.CookieUtil;
 import com.resumeagent.security.JwtTokenProvider;
+import com.resumeagent.security.UserDetailsCache;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -53,6 +54,7 @@ public class AuthenticationService {
     private final CookieUtil cookieUtil;
     private final EmailVerificationTokenRepository emailVerificationTokenRepository;
     private final EmailService emailService;
+    private final UserDetailsCache userDetailsCache;
 
     /**
      * Authenticate user and issue tokens
@@ -244,6 +246,7 @@ public class AuthenticationService {
         User user = verificationToken.getUser();
         user.setEmailActive(true);
         userRepository.save(user);
+        userDetailsCache.invalidate(user.getEmail());
 
         // Mark token as used after successful verification
         verificationToken.setUsed(true);
@@ -344,6 +347,7 @@ public class AuthenticationService {
 
         user.setEmailActive(false);
         userRepository.save(user);
+        userDetailsCache.invalidate(user.getEmail());
 
         return CommonResponse.builder()
                 .message("Account deactivated successfully")
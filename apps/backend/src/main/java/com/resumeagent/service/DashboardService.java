@@ -1,22 +1,28 @@
 package com.resumeagent.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.resumeagent.dto.dashboard.AnalyticsChartInputOutputTokensListResponse;
 import com.resumeagent.dto.dashboard.AnalyticsChartInputOutputTokensResponse;
 import com.resumeagent.dto.dashboard.AnalyticsAIExecutionStatusResponse;
 import com.resumeagent.dto.dashboard.AnalyticsAverageAgentExecutionTimeResponse;
 import com.resumeagent.dto.dashboard.AnalyticsMetricsStatsResponse;
 import com.resumeagent.dto.dashboard.AnalyticsOverviewStatsResponse;
+import com.resumeagent.dto.dashboard.AnalyticsSummaryResponse;
+import com.resumeagent.dto.dashboard.TokenUsageGranularity;
 import com.resumeagent.entity.User;
-import com.resumeagent.entity.enums.AgentExecutionStatus;
+import com.resumeagent.entity.UserAgentExecutionStats;
+import com.resumeagent.entity.UserAgentStats;
 import com.resumeagent.entity.enums.ResumeStatus;
-import com.resumeagent.repository.ResumeAgentLogRepository;
 import com.resumeagent.repository.ResumeRepository;
+import com.resumeagent.repository.UserAgentDailyUsageRepository;
 import com.resumeagent.repository.UserRepository;
+import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
@@ -29,15 +35,103 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class DashboardService {
 
+    private static final int MAX_CHART_BUCKETS = 400;
+
     private final UserRepository userRepository;
     private final ResumeRepository resumeRepository;
-    private final ResumeAgentLogRepository resumeAgentLogRepository;
+    private final UserAgentDailyUsageRepository userAgentDailyUsageRepository;
+    private final UserAgentStatsService userAgentStatsService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * All dashboard cards in one response: the user is loaded once and the
+     * counters come from a single read of each rollup table.
+     */
+    @Transactional(readOnly = true)
+    public AnalyticsSummaryResponse getAnalyticsSummary(String email) {
+        User user = findUser(email);
+        UserAgentStats stats = userAgentStatsService.getStats(user.getId());
+
+        return AnalyticsSummaryResponse.builder()
+                .overview(overviewStats(user, stats))
+                .metrics(metricsStats(user, stats))
+                .inputOutputTokens(defaultChartInputOutputTokens(user))
+                .agentExecutionTime(averageAgentExecutionTime(user))
+                .aiExecutionStatus(aiExecutionStatus(stats))
+                .build();
+    }
+
+    /**
+     * Strong ETag over the serialized summary, so unchanged dashboards revalidate with 304.
+     */
+    public String summaryETag(AnalyticsSummaryResponse summary) {
+        try {
+            return "\"" + DigestUtils.sha256Hex(objectMapper.writeValueAsBytes(summary)) + "\"";
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize dashboard summary", ex);
+        }
+    }
 
     @Transactional(readOnly = true)
     public AnalyticsOverviewStatsResponse getAnalyticsOverviewStats(String email) {
-        User user = userRepository.findByEmail(email)
+        User user = findUser(email);
+        return overviewStats(user, userAgentStatsService.getStats(user.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public AnalyticsMetricsStatsResponse getAnalyticsMetricsStats(String email) {
+        User user = findUser(email);
+        return metricsStats(user, userAgentStatsService.getStats(user.getId()));
+    }
+
+    /**
+     * Token usage per bucket over [from, to] (inclusive). Null bounds fall back to the
+     * default three-month window; ranges are capped at MAX_CHART_BUCKETS buckets.
+     */
+    @Transactional(readOnly = true)
+    public AnalyticsChartInputOutputTokensListResponse getAnalyticsChartInputOutputTokens(
+            String email,
+            LocalDate from,
+            LocalDate to,
+            TokenUsageGranularity granularity
+    ) {
+        User user = findUser(email);
+
+        LocalDate today = LocalDate.now(ZoneId.systemDefault());
+        LocalDate end = to == null ? today.withDayOfMonth(today.lengthOfMonth()) : to;
+        LocalDate start = from == null ? end.minusMonths(2).withDayOfMonth(1) : from;
+        if (start.isAfter(end)) {
+            throw new ValidationException("'from' must not be after 'to'");
+        }
+
+        long buckets = 0;
+        for (LocalDate bucket = granularity.bucketStart(start); !bucket.isAfter(end); bucket = granularity.nextBucket(bucket)) {
+            if (++buckets > MAX_CHART_BUCKETS) {
+                throw new ValidationException("Requested range exceeds " + MAX_CHART_BUCKETS + " " +
+                        granularity.getDateTruncUnit() + " buckets");
+            }
+        }
+
+        return chartInputOutputTokens(user, start, end, granularity);
+    }
+
+    @Transactional(readOnly = true)
+    public AnalyticsAverageAgentExecutionTimeResponse getAnalyticsAverageAgentExecutionTime(String email) {
+        return averageAgentExecutionTime(findUser(email));
+    }
+
+    @Transactional(readOnly = true)
+    public AnalyticsAIExecutionStatusResponse getAnalyticsAIExecutionStatus(String email) {
+        User user = findUser(email);
+        return aiExecutionStatus(userAgentStatsService.getStats(user.getId()));
+    }
+
+    private User findUser(String email) {
+        return userRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalStateException("User not found"));
+    }
 
+    private AnalyticsOverviewStatsResponse overviewStats(User user, UserAgentStats stats) {
         UUID userId = user.getId();
 
         int monthlyResumeLimit = user.getResumeGenerationUsed();
@@ -50,91 +144,55 @@ public class DashboardService {
                 userId, ResumeStatus.DELETED
         );
 
-        long totalLogs = resumeAgentLogRepository.countByUserId(userId);
-        long successLogs = resumeAgentLogRepository.countByUserIdAndStatus(
-                userId, AgentExecutionStatus.SUCCESS
-        );
-
-        int aiSuccessRate = totalLogs == 0
-                ? 0
-                : (int) Math.round((double) successLogs * 100.0 / totalLogs);
-
         return AnalyticsOverviewStatsResponse.builder()
                 .monthlyResumeLimit(monthlyResumeLimit)
                 .totalGeneratedResumes(Math.toIntExact(totalGeneratedResumes))
                 .uniqueRolesTargeted(Math.toIntExact(uniqueRolesTargeted))
-                .aiSuccessRate(aiSuccessRate)
+                .aiSuccessRate(aiSuccessRate(stats))
                 .build();
     }
 
-    @Transactional(readOnly = true)
-    public AnalyticsMetricsStatsResponse getAnalyticsMetricsStats(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalStateException("User not found"));
-
-        UUID userId = user.getId();
+    private AnalyticsMetricsStatsResponse metricsStats(User user, UserAgentStats stats) {
         int monthlyResumeLimit = user.getResumeGenerationUsed();
-
-        ZoneId zoneId = ZoneId.systemDefault();
-        LocalDate monthStart = LocalDate.now(zoneId).withDayOfMonth(1);
-        Instant start = monthStart.atStartOfDay(zoneId).toInstant();
-        Instant end = monthStart.plusMonths(1).atStartOfDay(zoneId).toInstant();
-
-        long monthlyTokensUsed = resumeAgentLogRepository.sumTokensByUserIdAndStatusNotAndCreatedAtBetween(
-                userId, AgentExecutionStatus.FAILURE, start, end
-        );
-
-        long totalTokensUsed = resumeAgentLogRepository.sumTokensByUserIdAndStatusNot(
-                userId, AgentExecutionStatus.FAILURE
-        );
-
-        long totalLogs = resumeAgentLogRepository.countByUserId(userId);
-        long successLogs = resumeAgentLogRepository.countByUserIdAndStatus(
-                userId, AgentExecutionStatus.SUCCESS
-        );
-
-        int aiSuccessRate = totalLogs == 0
-                ? 0
-                : (int) Math.round((double) successLogs * 100.0 / totalLogs);
+        long monthlyTokensUsed = userAgentStatsService.currentMonthTokens(stats);
+        long totalTokensUsed = stats.getTotalTokens();
 
         return AnalyticsMetricsStatsResponse.builder()
-                .aiSuccessRate(aiSuccessRate)
+                .aiSuccessRate(aiSuccessRate(stats))
                 .monthlyResumeLimit(monthlyResumeLimit)
                 .monthlyTokensUsed(Math.toIntExact(monthlyTokensUsed))
                 .totalTokensUsed(Math.toIntExact(totalTokensUsed))
                 .build();
     }
 
-    @Transactional(readOnly = true)
-    public AnalyticsChartInputOutputTokensListResponse getAnalyticsChartInputOutputTokens(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalStateException("User not found"));
-
-        UUID userId = user.getId();
-        ZoneId zoneId = ZoneId.systemDefault();
-
-        LocalDate startDate = LocalDate.now(zoneId).minusMonths(2).withDayOfMonth(1);
-        LocalDate endDate = LocalDate.now(zoneId).plusMonths(1).withDayOfMonth(1);
-
-        Instant start = startDate.atStartOfDay(zoneId).toInstant();
-        Instant end = endDate.atStartOfDay(zoneId).toInstant();
-
-        List<ResumeAgentLogRepository.DailyTokenUsage> usageRows =
-                resumeAgentLogRepository.findDailyTokenUsage(userId, start, end);
-
-        Map<LocalDate, ResumeAgentLogRepository.DailyTokenUsage> usageByDay = new HashMap<>();
-        for (ResumeAgentLogRepository.DailyTokenUsage row : usageRows) {
-            usageByDay.put(row.getDay(), row);
+    private AnalyticsChartInputOutputTokensListResponse chartInputOutputTokens(
+            User user,
+            LocalDate from,
+            LocalDate to,
+            TokenUsageGranularity granularity
+    ) {
+        // Whole buckets only: widen [from, to] to the enclosing bucket boundaries
+        LocalDate startBucket = granularity.bucketStart(from);
+        LocalDate endExclusive = granularity.nextBucket(granularity.bucketStart(to));
+
+        List<UserAgentDailyUsageRepository.TokenUsageBucket> usageRows =
+                userAgentDailyUsageRepository.findTokenUsage(
+                        user.getId(), startBucket, endExclusive, granularity.getDateTruncUnit()
+                );
+
+        Map<LocalDate, UserAgentDailyUsageRepository.TokenUsageBucket> usageByBucket = new HashMap<>();
+        for (UserAgentDailyUsageRepository.TokenUsageBucket row : usageRows) {
+            usageByBucket.put(row.getBucket(), row);
         }
 
         List<AnalyticsChartInputOutputTokensResponse> items = new ArrayList<>();
-        for (LocalDate day = startDate; day.isBefore(endDate); day = day.plusDays(1)) {
-            ResumeAgentLogRepository.DailyTokenUsage row = usageByDay.get(day);
+        for (LocalDate bucket = startBucket; bucket.isBefore(endExclusive); bucket = granularity.nextBucket(bucket)) {
+            UserAgentDailyUsageRepository.TokenUsageBucket row = usageByBucket.get(bucket);
             int inputTokens = row == null ? 0 : Math.toIntExact(row.getInputTokens());
             int outputTokens = row == null ? 0 : Math.toIntExact(row.getOutputTokens());
 
             items.add(AnalyticsChartInputOutputTokensResponse.builder()
-                    .date(day)
+                    .date(bucket)
                     .inputTokens(inputTokens)
                     .outputTokens(outputTokens)
                     .build());
@@ -145,13 +203,21 @@ public class DashboardService {
                 .build();
     }
 
-    @Transactional(readOnly = true)
-    public AnalyticsAverageAgentExecutionTimeResponse getAnalyticsAverageAgentExecutionTime(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalStateException("User not found"));
+    /**
+     * Defaults to the previous two months plus the current one, day by day.
+     */
+    private AnalyticsChartInputOutputTokensListResponse defaultChartInputOutputTokens(User user) {
+        LocalDate today = LocalDate.now(ZoneId.systemDefault());
+        return chartInputOutputTokens(
+                user,
+                today.minusMonths(2).withDayOfMonth(1),
+                today.withDayOfMonth(today.lengthOfMonth()),
+                TokenUsageGranularity.DAY
+        );
+    }
 
-        List<ResumeAgentLogRepository.AgentExecutionTimeAverage> averages =
-                resumeAgentLogRepository.findAverageExecutionTimeByAgentName(user.getId());
+    private AnalyticsAverageAgentExecutionTimeResponse averageAgentExecutionTime(User user) {
+        List<UserAgentExecutionStats> averages = userAgentStatsService.getExecutionStats(user.getId());
 
         int resumeParser = 0;
         int jobDescriptionAnalyzer = 0;
@@ -159,10 +225,9 @@ public class DashboardService {
         int resumeRewriter = 0;
         int atsOptimizer = 0;
 
-        for (ResumeAgentLogRepository.AgentExecutionTimeAverage row : averages) {
+        for (UserAgentExecutionStats row : averages) {
             String agentName = row.getAgentName();
-            Double avgMs = row.getAvgExecutionTimeMs();
-            int avgRounded = avgMs == null ? 0 : (int) Math.round(avgMs);
+            int avgRounded = (int) Math.round(row.averageExecutionTimeMs());
 
             if ("ResumeParserAgent".equals(agentName)) {
                 resumeParser = avgRounded;
@@ -186,27 +251,18 @@ public class DashboardService {
                 .build();
     }
 
-    @Transactional(readOnly = true)
-    public AnalyticsAIExecutionStatusResponse getAnalyticsAIExecutionStatus(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalStateException("User not found"));
-
-        UUID userId = user.getId();
-
-        long successLogs = resumeAgentLogRepository.countByUserIdAndStatus(
-                userId, AgentExecutionStatus.SUCCESS
-        );
-        long failureLogs = resumeAgentLogRepository.countByUserIdAndStatus(
-                userId, AgentExecutionStatus.FAILURE
-        );
-        long partialLogs = resumeAgentLogRepository.countByUserIdAndStatus(
-                userId, AgentExecutionStatus.PARTIAL
-        );
-
+    private AnalyticsAIExecutionStatusResponse aiExecutionStatus(UserAgentStats stats) {
         return AnalyticsAIExecutionStatusResponse.builder()
-                .successCount(Math.toIntExact(successLogs))
-                .failureCount(Math.toIntExact(failureLogs))
-                .partialCount(Math.toIntExact(partialLogs))
+                .successCount(Math.toIntExact(stats.getSuccessCount()))
+                .failureCount(Math.toIntExact(stats.getFailureCount()))
+                .partialCount(Math.toIntExact(stats.getPartialCount()))
                 .build();
     }
+
+    private int aiSuccessRate(UserAgentStats stats) {
+        long totalLogs = stats.getTotalCount();
+        return totalLogs == 0
+                ? 0
+                : (int) Math.round((double) stats.getSuccessCount() * 100.0 / totalLogs);
+    }
 }
@@ -0,0 +1,141 @@
+package com.resumeagent.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.resumeagent.config.ResumeGenerationProperties;
+import com.resumeagent.entity.model.JobDescriptionAnalyzerJson;
+import com.resumeagent.repository.JobDescriptionAnalysisCacheRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed cache for JobDescriptionAnalyzerAgent output.
+ *
+ * Keyed by the SHA-256 of the whitespace/case-normalized job description, so the
+ * same posting pasted by different users is analyzed by the LLM once.
+ * Tier 1 is an in-process Caffeine cache (size + TTL bounded), tier 2 is the
+ * job_description_analysis_cache table. Cache failures never fail a generation.
+ *
+ * Effectiveness is published as the jd.analysis.cache.lookups counter, tagged
+ * with the tier that answered (memory, database, or none for a miss). ResumeService
+ * also logs each lookup to resume_agent_logs next to the agent runs.
+ */
+@Service
+@Slf4j
+public class JobDescriptionAnalysisCacheService {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final JobDescriptionAnalysisCacheRepository cacheRepository;
+    private final ObjectMapper objectMapper;
+    private final ResumeGenerationProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, JobDescriptionAnalyzerJson> memoryCache;
+    private final Map<Tier, Counter> lookupCounters = new EnumMap<>(Tier.class);
+
+    public JobDescriptionAnalysisCacheService(
+            JobDescriptionAnalysisCacheRepository cacheRepository,
+            ObjectMapper objectMapper,
+            ResumeGenerationProperties properties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.cacheRepository = cacheRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.memoryCache = Caffeine.newBuilder()
+                .maximumSize(properties.getJdCacheMaxEntries())
+                .expireAfterWrite(Duration.ofMillis(properties.getJdCacheTtlMs()))
+                .build();
+        for (Tier tier : Tier.values()) {
+            lookupCounters.put(tier, Counter.builder("jd.analysis.cache.lookups")
+                    .description("Job description analysis cache lookups by answering tier (none = miss)")
+                    .tag("tier", tier.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Normalizes the job description (trim, collapse whitespace, lower-case)
+     * and returns its SHA-256 hex digest.
+     */
+    public String hash(String jobDescription) {
+        String normalized = WHITESPACE.matcher(jobDescription.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        return DigestUtils.sha256Hex(normalized);
+    }
+
+    public Lookup lookup(String jdHash) {
+        Lookup lookup = find(jdHash);
+        lookupCounters.get(lookup.tier()).increment();
+        log.debug("JD analysis cache lookup: tier={}, jdHash={}", lookup.tier(), jdHash);
+        return lookup;
+    }
+
+    private Lookup find(String jdHash) {
+        JobDescriptionAnalyzerJson cached = memoryCache.getIfPresent(jdHash);
+        if (cached != null) {
+            return new Lookup(cached, Tier.MEMORY);
+        }
+
+        try {
+            Instant freshAfter = Instant.now().minusMillis(properties.getJdCachePersistentTtlMs());
+            Optional<JobDescriptionAnalyzerJson> persisted = transactionTemplate.execute(status -> {
+                Optional<JobDescriptionAnalyzerJson> found = cacheRepository
+                        .findByJdHashAndCreatedAtAfter(jdHash, freshAfter)
+                        .map(entry -> entry.getAnalysisJson());
+                if (found.isPresent()) {
+                    cacheRepository.recordHit(jdHash, Instant.now());
+                }
+                return found;
+            });
+            if (persisted != null && persisted.isPresent()) {
+                memoryCache.put(jdHash, persisted.get());
+                return new Lookup(persisted.get(), Tier.DATABASE);
+            }
+        } catch (DataAccessException ex) {
+            log.warn("JD analysis cache lookup failed: jdHash={}", jdHash, ex);
+        }
+        return new Lookup(null, Tier.NONE);
+    }
+
+    public void store(String jdHash, JobDescriptionAnalyzerJson analysis) {
+        memoryCache.put(jdHash, analysis);
+        try {
+            String json = objectMapper.writeValueAsString(analysis);
+            transactionTemplate.executeWithoutResult(status -> cacheRepository.upsert(jdHash, json));
+        } catch (JsonProcessingException | DataAccessException ex) {
+            log.warn("JD analysis cache store failed: jdHash={}", jdHash, ex);
+        }
+    }
+
+    public enum Tier {
+        MEMORY,
+        DATABASE,
+        NONE
+    }
+
+    public record Lookup(JobDescriptionAnalyzerJson analysis, Tier tier) {
+        public boolean hit() {
+            return analysis != null;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.resumeagent.service;
+
+import jakarta.validation.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a list ordered by (createdAt DESC, id DESC).
+ *
+ * Encoded as an opaque URL-safe token; clients pass back the nextCursor of the
+ * previous page and the next query seeks past it instead of using OFFSET.
+ */
+public record KeysetCursor(Instant createdAt, UUID id) {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    public String encode() {
+        String raw = createdAt.getEpochSecond() + ":" + createdAt.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the decoded cursor, or null for a null/blank token (first page)
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 3);
+            if (parts.length != 3) {
+                throw new ValidationException("Invalid cursor");
+            }
+            Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new KeysetCursor(createdAt, UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Clamps a requested page size to [1, MAX_SIZE].
+     */
+    public static int pageSize(int requested) {
+        return Math.max(1, Math.min(requested, MAX_SIZE));
+    }
+}
@@ -2,6 +2,7 @@ package com.resumeagent.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.resumeagent.ai.agents.ResumeParserAgent;
+import com.resumeagent.ai.llm.LlmUsageRecorder;
 import com.resumeagent.ai.util.TokenCounter;
 import com.resumeagent.dto.request.CreateAndUpdateMasterResume;
 import com.resumeagent.dto.response.CommonResponse;
@@ -37,6 +38,7 @@ public class MasterResumeService {
     private final ObjectMapper objectMapper;
     private final ResumeParserAgent resumeParserAgent;
     private final PlatformTransactionManager transactionManager;
+    private final UserAgentStatsService userAgentStatsService;
 
     /**
      * Creates a Master Resume for the authenticated user.
@@ -89,13 +91,20 @@ public class MasterResumeService {
 
         MasterResume existingMasterResume = masterResumeRepository.findByUser(user).orElse(null);
 
-        int tokensInput = TokenCounter.countTokens(resumeText);
         long start = System.nanoTime();
         MasterResumeJson parsedResume;
 
+        LlmUsageRecorder.begin();
         try {
             parsedResume = resumeParserAgent.run(resumeText);
-            int tokensOutput = countTokensFromJson(parsedResume);
+            LlmUsageRecorder.Recording usage = LlmUsageRecorder.end();
+            // Provider-reported usage first; local BPE counting only as a fallback
+            int tokensInput = usage.getPromptTokens() != null
+                    ? usage.getPromptTokens()
+                    : TokenCounter.countTokens(resumeText);
+            int tokensOutput = usage.getCompletionTokens() != null
+                    ? usage.getCompletionTokens()
+                    : countTokensFromJson(parsedResume);
             saveAgentLog(
                     "ResumeParserAgent",
                     user,
@@ -106,13 +115,14 @@ public class MasterResumeService {
                     start
             );
         } catch (Exception ex) {
+            LlmUsageRecorder.Recording usage = LlmUsageRecorder.end();
             String errorMessage = ex.getMessage();
             saveAgentLog(
                     "ResumeParserAgent",
                     user,
                     AgentExecutionStatus.FAILURE,
                     errorMessage,
-                    tokensInput,
+                    usage.getPromptTokens(),
                     0,
                     start
             );
@@ -274,7 +284,11 @@ public class MasterResumeService {
 
         TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
         transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
-        ResumeAgentLog saved = transactionTemplate.execute(statusTx -> agentLogRepository.save(agentLog));
+        ResumeAgentLog saved = transactionTemplate.execute(statusTx -> {
+            ResumeAgentLog persisted = agentLogRepository.save(agentLog);
+            userAgentStatsService.recordLog(persisted);
+            return persisted;
+        });
         return saved == null ? agentLog : saved;
     }
 
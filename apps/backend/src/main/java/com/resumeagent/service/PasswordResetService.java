@@ -7,6 +7,7 @@ import com.resumeagent.exception.ValueNotFoundException;
 import com.resumeagent.repository.PasswordHistoryRepository;
 import com.resumeagent.repository.PasswordResetTokensRepository;
 import com.resumeagent.repository.UserRepository;
+import com.resumeagent.security.UserDetailsCache;
 import jakarta.mail.MessagingException;
 import jakarta.transaction.Transactional;
 import jakarta.validation.ValidationException;
@@ -35,6 +36,7 @@ public class PasswordResetService {
     private final PasswordHistoryRepository passwordHistoryRepository;
     private final EmailService emailService;
     private final PasswordEncoder passwordEncoder;
+    private final UserDetailsCache userDetailsCache;
 
     /**
      * Create a password reset token and send reset email (silent if email not found)
@@ -107,6 +109,7 @@ public class PasswordResetService {
         String encoded = passwordEncoder.encode(newPassword);
         user.setPasswordHash(encoded);
         userRepository.save(user);
+        userDetailsCache.invalidate(user.getEmail());
 
         // Mark token used
         resetToken.markUsed();
@@ -80,9 +80,8 @@ public class RefreshTokenService {
      * Validate refresh token (hash matching)
      * VALIDATION PROCESS:
      * 1. Hash incoming raw token (SHA-256)
-     * 2. Query database for matching hash
-     * 3. Check expiration
-     * 4. Check revoked status
+     * 2. Look up the hash via the token_hash unique index
+     * 3. Check expiration and revoked status in the same query
      * SECURITY NOTE:
      * Uses SHA-256 hashing (fast, no 72-byte limit)
      * This method compares the deterministic hash of the raw token
@@ -96,14 +95,8 @@ public class RefreshTokenService {
         // Compute SHA-256 of incoming token
         String incomingHash = DigestUtils.sha256Hex(rawToken);
 
-        // Query all tokens to check hash match
-        // NOTE: For security we still perform application-layer checks; the repository
-        // could expose a finder by tokenHash for efficiency if desired.
-        return refreshTokenRepository.findAll().stream()
-                .filter(token -> incomingHash.equals(token.getTokenHash()))
-                .filter(token -> !token.isExpired())
-                .filter(token -> !token.isRevoked())
-                .findFirst();
+        // Indexed lookup by hash (token_hash UNIQUE); expiry and revocation checked in the query
+        return refreshTokenRepository.findValidByTokenHash(incomingHash, Instant.now());
     }
 
     /**
@@ -167,22 +160,6 @@ public class RefreshTokenService {
         log.warn("Revoked ALL refresh tokens for user: {} (security response)", user.getEmail());
     }
 
-    /**
-     * Cleanup expired tokens (scheduled maintenance)
-     * Should be called by scheduled job (e.g., daily at 2 AM)
-     * Prevents database bloat from old tokens
-     *
-     * @return Number of deleted tokens
-     */
-    @Transactional
-    public int cleanupExpiredTokens() {
-        int deleted = refreshTokenRepository.deleteExpiredTokens(Instant.now());
-        if (deleted > 0) {
-            log.info("Cleaned up {} expired refresh tokens", deleted);
-        }
-        return deleted;
-    }
-
     /**
      * Count active tokens for user
      * Used for:
@@ -1,13 +1,17 @@
 package com.resumeagent.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.resumeagent.ai.agents.ATSOptimizationAgent;
 import com.resumeagent.ai.agents.JobDescriptionAnalyzerAgent;
 import com.resumeagent.ai.agents.MatchingAgent;
 import com.resumeagent.ai.agents.ResumeRewriteAgent;
 import com.resumeagent.ai.orchestration.AgentExecutor;
+import com.resumeagent.ai.util.AgentPayload;
+import com.resumeagent.ai.util.StreamingJsonSectionParser;
 import com.resumeagent.ai.util.TokenCounter;
+import com.resumeagent.config.ResumeGenerationProperties;
 import com.resumeagent.dto.request.CreateAndUpdateMasterResume;
 import com.resumeagent.dto.response.*;
 import com.resumeagent.entity.MasterResume;
@@ -19,26 +23,39 @@ import com.resumeagent.entity.enums.ResumeStatus;
 import com.resumeagent.entity.model.JobDescriptionAnalyzerJson;
 import com.resumeagent.entity.model.MasterResumeJson;
 import com.resumeagent.entity.model.MatchingAgentJson;
+import com.resumeagent.exception.CapacityExceededException;
 import com.resumeagent.exception.DuplicateResourceException;
 import com.resumeagent.exception.FatalAgentException;
 import com.resumeagent.exception.TransientAgentException;
-import com.resumeagent.render.GreenResumeDocxService;
-import com.resumeagent.render.BlueResumeDocxService;
+import com.resumeagent.exception.ValueNotFoundException;
+import com.resumeagent.render.DocxResumeRenderer;
+import com.resumeagent.render.PdfResumeRenderer;
+import com.resumeagent.render.RenderedDocumentCache;
 import com.resumeagent.repository.MasterResumeRepository;
 import com.resumeagent.repository.ResumeGenerationRepository;
 import com.resumeagent.repository.ResumeRepository;
 import com.resumeagent.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
@@ -47,11 +64,16 @@ import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.EnumSet;
 import java.util.Optional;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 @Service
@@ -68,32 +90,57 @@ public class ResumeService {
 
     // AI Agents
     private final JobDescriptionAnalyzerAgent jobDescriptionAnalyzerAgent;
+    private final JobDescriptionAnalysisCacheService jobDescriptionAnalysisCache;
     private final ResumeRepository resumeRepository;
     private final MatchingAgent matchingAgent;
     private final ResumeRewriteAgent resumeRewriteAgent;
     private final ATSOptimizationAgent atsOptimizationAgent;
 
     // Resume Templates
-    private final BlueResumeDocxService blueResumeDocxService;
-    private final GreenResumeDocxService greenResumeDocxService;
+    private final DocxResumeRenderer docxResumeRenderer;
+    private final PdfResumeRenderer pdfResumeRenderer;
+    private final RenderedDocumentCache renderedDocumentCache;
 
     // WebSocket Messaging
     private final SimpMessagingTemplate messagingTemplate;
     private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    // Queued generation workers; a generation runs only while its id is claimed here (sync or queued)
+    private final ThreadPoolTaskExecutor resumeGenerationExecutor;
+    private final ResumeGenerationProperties resumeGenerationProperties;
+    private final Set<UUID> claimedGenerationIds = ConcurrentHashMap.newKeySet();
+
+    // PDF render workers
+    private final ThreadPoolTaskExecutor documentRenderExecutor;
 
     // Content type for DOCX files
     private static final String DOCX_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
 
+    // Generations that still have agent steps or finalization to run
+    private static final Set<ResumeGenerationStatus> IN_PROGRESS_STATUSES = EnumSet.of(
+            ResumeGenerationStatus.PENDING,
+            ResumeGenerationStatus.JD_ANALYZED,
+            ResumeGenerationStatus.MATCHED,
+            ResumeGenerationStatus.REWRITTEN,
+            ResumeGenerationStatus.OPTIMIZED
+    );
+
+    // Failure reason of generations that a restart stopped and recovery did not re-queue
+    private static final String INTERRUPTED_BY_RESTART = "Interrupted by a server restart";
+
     /**
      * Generates a tailored resume based on the provided job description
      * for the authenticated user.
      *
      * @param jobDescription The job description to tailor the resume for.
      * @param email          The email of the authenticated user.
+     * @param forceFresh     Skip the memoized chain outputs and the JD analysis cache.
      * @return A CommonResponse indicating success or failure.
-     * @throws JsonProcessingException If there is an error processing JSON.
+     * @throws JsonProcessingException    If there is an error processing JSON.
+     * @throws DuplicateResourceException If the same generation is already queued or running.
      */
-    public CommonResponse generateResume(String jobDescription, String email) throws JsonProcessingException {
+    public CommonResponse generateResume(String jobDescription, String email, boolean forceFresh) throws JsonProcessingException {
 
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
@@ -106,30 +153,174 @@ public class ResumeService {
         MasterResume masterResume = masterResumeRepository.findByUser(user)
                 .orElseThrow(() -> new IllegalStateException("Master resume not found"));
 
-        ResumeGeneration generation = findOrCreateGeneration(user, masterResume, jobDescription);
+        ResumeGeneration generation = findOrCreateGeneration(user, masterResume, jobDescription, forceFresh);
+        UUID generationId = generation.getId();
+
+        // Same claim as the queue, so a sync request never runs alongside a queued worker
+        if (!claimedGenerationIds.add(generationId)) {
+            throw new DuplicateResourceException("This resume generation is already in progress");
+        }
+
+        try {
+            runAgentChain(generation, user, masterResume, jobDescription, generation.isForceFresh());
+        } finally {
+            claimedGenerationIds.remove(generationId);
+        }
+
+        return CommonResponse.builder()
+                .message("Resume generated successfully")
+                .email(email)
+                .build();
+    }
+
+    /**
+     * Queues a tailored resume generation for the authenticated user.
+     * The generation is persisted as PENDING and drained by the bounded
+     * generation worker pool; progress is published on the
+     * /topic/resume-status/{userId} channel.
+     *
+     * @param jobDescription The job description to tailor the resume for.
+     * @param email          The email of the authenticated user.
+     * @param forceFresh     Skip the memoized chain outputs and the JD analysis cache.
+     * @return The queued generation and its current status.
+     */
+    public ResumeGenerationStatusResponse enqueueResumeGeneration(String jobDescription, String email, boolean forceFresh) {
+
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
+
+        // Fail fast on the request thread instead of queueing a doomed generation
+        refreshUsageMonthAndValidateLimit(user.getId());
+
+        MasterResume masterResume = masterResumeRepository.findByUser(user)
+                .orElseThrow(() -> new IllegalStateException("Master resume not found"));
+
+        ResumeGeneration generation = findOrCreateGeneration(user, masterResume, jobDescription, forceFresh);
+        UUID generationId = generation.getId();
 
+        // An identical in-flight generation is already queued or running
+        if (!claimedGenerationIds.add(generationId)) {
+            return toGenerationStatusResponse(generation);
+        }
+
+        sendStatusSafe(user.getId(), "ResumeGeneration", "QUEUED");
         try {
-            MasterResumeJson masterResumeJson = masterResume.getResumeJson();
+            resumeGenerationExecutor.execute(() -> processQueuedGeneration(generationId, user, masterResume));
+        } catch (TaskRejectedException ex) {
+            claimedGenerationIds.remove(generationId);
+            markGenerationFailed(generationId, "Resume generation queue is full");
+            sendStatusSafe(user.getId(), "ResumeGeneration", "FAILED");
+            throw new CapacityExceededException("Resume generation queue is full. Please try again shortly.");
+        }
+
+        return toGenerationStatusResponse(generation);
+    }
+
+    /**
+     * Returns the current status of a resume generation owned by the authenticated user.
+     *
+     * @param email        The email of the authenticated user.
+     * @param generationId The UUID of the generation.
+     * @return The generation status, plus the resume id once completed.
+     */
+    @Transactional(readOnly = true)
+    public ResumeGenerationStatusResponse getGenerationStatus(String email, UUID generationId) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
 
-            JobDescriptionAnalyzerJson jobDescriptionAnalyzerJson =
-                    ensureJobDescriptionAnalyzed(generation, user, jobDescription);
+        ResumeGeneration generation = resumeGenerationRepository.findByIdAndUserId(generationId, user.getId())
+                .orElseThrow(() -> new ValueNotFoundException("Resume generation not found"));
 
-            MatchingAgentJson matchingAgentJson =
+        return toGenerationStatusResponse(generation);
+    }
+
+    /**
+     * Re-queues generations a previous run of the application left in progress.
+     * Claims live only in memory, so nothing else would ever pick them up again.
+     * Only generations updated within the recovery window are re-queued (with the
+     * forceFresh they were submitted with); older ones are marked FAILED, as are any
+     * the queue has no room for. Each agent step persists its output, so a recovered
+     * generation resumes after its last completed step.
+     * Like the claim set itself, this assumes a single backend instance.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverInterruptedGenerations() {
+        Instant now = Instant.now();
+        Instant cutoff = now.minusMillis(resumeGenerationProperties.getRecoveryWindowMs());
+
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Integer expired = template.execute(status -> resumeGenerationRepository.failByStatusInUpdatedBefore(
+                IN_PROGRESS_STATUSES, cutoff, ResumeGenerationStatus.FAILED, INTERRUPTED_BY_RESTART, now));
+
+        List<ResumeGeneration> interrupted =
+                resumeGenerationRepository.findAllWithOwnerByStatusInUpdatedSince(IN_PROGRESS_STATUSES, cutoff);
+        int requeued = 0;
+        for (ResumeGeneration generation : interrupted) {
+            UUID generationId = generation.getId();
+            if (!claimedGenerationIds.add(generationId)) {
+                continue;
+            }
+            User user = generation.getUser();
+            MasterResume masterResume = generation.getMasterResume();
+            try {
+                resumeGenerationExecutor.execute(() -> processQueuedGeneration(generationId, user, masterResume));
+                requeued++;
+            } catch (TaskRejectedException ex) {
+                claimedGenerationIds.remove(generationId);
+                markGenerationFailed(generationId, INTERRUPTED_BY_RESTART);
+            }
+        }
+        int failed = interrupted.size() - requeued + (expired == null ? 0 : expired);
+        if (requeued > 0 || failed > 0) {
+            log.info("Recovered interrupted resume generations: requeued={}, failed={}", requeued, failed);
+        }
+    }
+
+    private void processQueuedGeneration(UUID generationId, User user, MasterResume masterResume) {
+        try {
+            ResumeGeneration generation = resumeGenerationRepository.findById(generationId)
+                    .orElseThrow(() -> new IllegalStateException("Resume generation not found"));
+            if (generation.getStatus() == ResumeGenerationStatus.FAILED
+                    || generation.getStatus() == ResumeGenerationStatus.COMPLETED) {
+                return;
+            }
+
+            sendStatusSafe(user.getId(), "ResumeGeneration", "STARTED");
+            runAgentChain(generation, user, masterResume, generation.getJobDescription(), generation.isForceFresh());
+        } catch (Exception ex) {
+            // Failure is already recorded on the generation and published over WebSocket
+            log.error("Queued resume generation failed: generationId={}, userId={}", generationId, user.getId(), ex);
+        } finally {
+            claimedGenerationIds.remove(generationId);
+        }
+    }
+
+    private void runAgentChain(
+            ResumeGeneration generation,
+            User user,
+            MasterResume masterResume,
+            String jobDescription,
+            boolean forceFresh
+    ) throws JsonProcessingException {
+        try {
+            // Each model is serialized at most once and shared by prompts, token counts and log snapshots
+            AgentPayload<MasterResumeJson> masterResumeJson = AgentPayload.of(objectMapper, masterResume.getResumeJson());
+
+            AgentPayload<JobDescriptionAnalyzerJson> jobDescriptionAnalyzerJson =
+                    ensureJobDescriptionAnalyzed(generation, user, jobDescription, forceFresh);
+
+            AgentPayload<MatchingAgentJson> matchingAgentJson =
                     ensureMatched(generation, user, masterResumeJson, jobDescriptionAnalyzerJson);
 
-            MasterResumeJson rewrittenResume =
+            AgentPayload<MasterResumeJson> rewrittenResume =
                     ensureRewritten(generation, user, masterResumeJson, jobDescriptionAnalyzerJson, matchingAgentJson);
 
             MasterResumeJson finalResume =
                     ensureOptimized(generation, user, rewrittenResume);
 
-            finalizeGeneration(generation, user.getId(), masterResume, jobDescriptionAnalyzerJson, finalResume);
+            finalizeGeneration(generation, user.getId(), masterResume, jobDescriptionAnalyzerJson.value(), finalResume);
             sendStatusSafe(user.getId(), "ResumeGeneration", "SUCCESS");
-
-            return CommonResponse.builder()
-                    .message("Resume generated successfully")
-                    .email(email)
-                    .build();
         } catch (TransientAgentException | FatalAgentException | JsonProcessingException ex) {
             markGenerationFailed(generation.getId(), ex.getMessage());
             sendStatusSafe(user.getId(), "ResumeGeneration", "FAILED");
@@ -141,33 +332,99 @@ public class ResumeService {
         }
     }
 
-    private ResumeGeneration findOrCreateGeneration(User user, MasterResume masterResume, String jobDescription) {
+    private ResumeGenerationStatusResponse toGenerationStatusResponse(ResumeGeneration generation) {
+        return ResumeGenerationStatusResponse.builder()
+                .generationId(generation.getId().toString())
+                .status(generation.getStatus())
+                .resumeId(generation.getResume() == null ? null : generation.getResume().getId().toString())
+                .jobTitle(generation.getJobTitleTargeted())
+                .companyName(generation.getCompanyTargeted())
+                .failureReason(generation.getFailureReason())
+                .createdAt(generation.getCreatedAt() == null ? null : generation.getCreatedAt().toString())
+                .updatedAt(generation.getUpdatedAt() == null ? null : generation.getUpdatedAt().toString())
+                .build();
+    }
+
+    private ResumeGeneration findOrCreateGeneration(
+            User user,
+            MasterResume masterResume,
+            String jobDescription,
+            boolean forceFresh
+    ) {
         Optional<ResumeGeneration> existing = resumeGenerationRepository
-                .findFirstByUserIdAndStatusInOrderByCreatedAtDesc(
-                        user.getId(),
-                        EnumSet.of(
-                                ResumeGenerationStatus.PENDING,
-                                ResumeGenerationStatus.JD_ANALYZED,
-                                ResumeGenerationStatus.MATCHED,
-                                ResumeGenerationStatus.REWRITTEN,
-                                ResumeGenerationStatus.OPTIMIZED
-                        )
-                );
+                .findFirstByUserIdAndStatusInOrderByCreatedAtDesc(user.getId(), IN_PROGRESS_STATUSES);
 
-        if (existing.isPresent() && jobDescription.equals(existing.get().getJobDescription())) {
+        // A forceFresh request must not join a run that reads the memo and the JD cache
+        if (existing.isPresent()
+                && jobDescription.equals(existing.get().getJobDescription())
+                && (!forceFresh || existing.get().isForceFresh())) {
             return existing.get();
         }
 
+        String jdHash = jobDescriptionAnalysisCache.hash(jobDescription);
+        String masterResumeFingerprint = fingerprint(masterResume.getResumeJson());
+        Optional<ResumeGeneration> memo = findMemoizedGeneration(user, masterResumeFingerprint, jdHash, forceFresh);
+
+        ResumeGeneration.ResumeGenerationBuilder builder = ResumeGeneration.builder()
+                .user(user)
+                .masterResume(masterResume)
+                .jobDescription(jobDescription)
+                .masterResumeFingerprint(masterResumeFingerprint)
+                .jdHash(jdHash)
+                .forceFresh(forceFresh)
+                .status(ResumeGenerationStatus.PENDING);
+
+        // Same master resume + same JD: reuse the stored agent outputs, only finalization runs again
+        memo.ifPresent(completed -> builder
+                .jobDescriptionAnalyzerJson(completed.getJobDescriptionAnalyzerJson())
+                .matchingAgentJson(completed.getMatchingAgentJson())
+                .rewrittenResumeJson(completed.getRewrittenResumeJson())
+                .optimizedResumeJson(completed.getOptimizedResumeJson())
+                .jobTitleTargeted(completed.getJobTitleTargeted())
+                .companyTargeted(completed.getCompanyTargeted())
+                .status(ResumeGenerationStatus.OPTIMIZED));
+
         TransactionTemplate template = new TransactionTemplate(transactionManager);
         template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
-        return template.execute(status -> resumeGenerationRepository.save(
-                ResumeGeneration.builder()
-                        .user(user)
-                        .masterResume(masterResume)
-                        .jobDescription(jobDescription)
-                        .status(ResumeGenerationStatus.PENDING)
-                        .build()
-        ));
+        return template.execute(status -> resumeGenerationRepository.save(builder.build()));
+    }
+
+    /**
+     * Finds a completed generation for the same master resume and job description.
+     * A hit skips every agent call, but finalization still creates a new Resume and
+     * therefore still consumes one generation from the monthly quota: the quota
+     * counts resumes produced, not LLM work performed.
+     */
+    private Optional<ResumeGeneration> findMemoizedGeneration(
+            User user,
+            String masterResumeFingerprint,
+            String jdHash,
+            boolean forceFresh
+    ) {
+        if (forceFresh || masterResumeFingerprint == null) {
+            return Optional.empty();
+        }
+
+        Optional<ResumeGeneration> memo = resumeGenerationRepository
+                .findFirstByUserIdAndMasterResumeFingerprintAndJdHashAndStatusOrderByCreatedAtDesc(
+                        user.getId(), masterResumeFingerprint, jdHash, ResumeGenerationStatus.COMPLETED
+                )
+                .filter(completed -> completed.getOptimizedResumeJson() != null
+                        && completed.getJobDescriptionAnalyzerJson() != null);
+
+        Counter.builder("resume.generation.memo.lookups")
+                .description("Resume generation memo lookups (hit = agent outputs reused)")
+                .tag("result", memo.isPresent() ? "hit" : "miss")
+                .register(meterRegistry)
+                .increment();
+        log.debug("Resume generation memo lookup: userId={}, jdHash={}, memoGenerationId={}",
+                user.getId(), jdHash, memo.map(ResumeGeneration::getId).orElse(null));
+        return memo;
+    }
+
+    private String fingerprint(MasterResumeJson masterResumeJson) {
+        String json = safeJsonSnapshot(masterResumeJson);
+        return json == null ? null : DigestUtils.sha256Hex(json);
     }
 
     private void refreshUsageMonthAndValidateLimit(UUID userId) {
@@ -188,29 +445,54 @@ public class ResumeService {
         });
     }
 
-    private JobDescriptionAnalyzerJson ensureJobDescriptionAnalyzed(
+    private AgentPayload<JobDescriptionAnalyzerJson> ensureJobDescriptionAnalyzed(
             ResumeGeneration generation,
             User user,
-            String jobDescription
+            String jobDescription,
+            boolean forceFresh
     ) throws JsonProcessingException {
         if (generation.getStatus().isAtLeast(ResumeGenerationStatus.JD_ANALYZED)
                 && generation.getJobDescriptionAnalyzerJson() != null) {
-            return generation.getJobDescriptionAnalyzerJson();
+            return AgentPayload.of(objectMapper, generation.getJobDescriptionAnalyzerJson());
         }
 
         sendStatusSafe(user.getId(), "JobDescriptionAnalyzerAgent", "STARTED");
         try {
-            JobDescriptionAnalyzerJson result = agentExecutor.execute(
-                    AgentExecutor.AgentExecutionRequest.<JobDescriptionAnalyzerJson>builder()
-                            .agentName("JobDescriptionAnalyzerAgent")
-                            .user(user)
-                            .resume(null)
-                            .tokensInput(TokenCounter.countTokens(jobDescription))
-                            .inputSnapshot(jobDescription)
-                            .outputSerializer(this::writeJson)
-                            .action(() -> jobDescriptionAnalyzerAgent.executeJobDescriptionAnalyzerAgent(jobDescription))
-                            .build()
-            );
+            String jdHash = generation.getJdHash() != null
+                    ? generation.getJdHash()
+                    : jobDescriptionAnalysisCache.hash(jobDescription);
+            JobDescriptionAnalysisCacheService.Lookup cached = new JobDescriptionAnalysisCacheService.Lookup(
+                    null, JobDescriptionAnalysisCacheService.Tier.NONE);
+            if (!forceFresh) {
+                long lookupStart = System.nanoTime();
+                cached = jobDescriptionAnalysisCache.lookup(jdHash);
+                agentExecutor.recordCacheLookup(
+                        UserAgentStatsService.JD_CACHE_LOOKUP_AGENT_NAME,
+                        user,
+                        cached.hit(),
+                        "tier=" + cached.tier() + " jdHash=" + jdHash,
+                        lookupStart
+                );
+            }
+
+            AgentPayload<JobDescriptionAnalyzerJson> payload;
+            if (cached.hit()) {
+                payload = AgentPayload.of(objectMapper, cached.analysis());
+            } else {
+                payload = agentExecutor.executeForPayload(
+                        AgentExecutor.AgentExecutionRequest.<JobDescriptionAnalyzerJson>builder()
+                                .agentName("JobDescriptionAnalyzerAgent")
+                                .user(user)
+                                .resume(null)
+                                .inputTokenEstimator(() -> TokenCounter.countTokens(jobDescription))
+                                .inputSnapshot(jobDescription)
+                                .outputSerializer(this::writeJson)
+                                .action(() -> jobDescriptionAnalyzerAgent.executeJobDescriptionAnalyzerAgent(jobDescription))
+                                .build()
+                );
+                jobDescriptionAnalysisCache.store(jdHash, payload.value());
+            }
+            JobDescriptionAnalyzerJson result = payload.value();
 
             String jobTitle = result.getJobIdentity() == null ? null : result.getJobIdentity().getJobTitle();
             String company = result.getJobIdentity() == null ? null : result.getJobIdentity().getCompanyName();
@@ -228,39 +510,42 @@ public class ResumeService {
             });
 
             sendStatusSafe(user.getId(), "JobDescriptionAnalyzerAgent", "SUCCESS");
-            return result;
+            return payload;
         } catch (RuntimeException ex) {
             sendStatusSafe(user.getId(), "JobDescriptionAnalyzerAgent", "FAILED");
             throw ex;
         }
     }
 
-    private MatchingAgentJson ensureMatched(
+    private AgentPayload<MatchingAgentJson> ensureMatched(
             ResumeGeneration generation,
             User user,
-            MasterResumeJson masterResumeJson,
-            JobDescriptionAnalyzerJson jobDescriptionAnalyzerJson
+            AgentPayload<MasterResumeJson> masterResumeJson,
+            AgentPayload<JobDescriptionAnalyzerJson> jobDescriptionAnalyzerJson
     ) throws JsonProcessingException {
         if (generation.getStatus().isAtLeast(ResumeGenerationStatus.MATCHED)
                 && generation.getMatchingAgentJson() != null) {
-            return generation.getMatchingAgentJson();
+            return AgentPayload.of(objectMapper, generation.getMatchingAgentJson());
         }
 
         sendStatusSafe(user.getId(), "MatchingAgent", "STARTED");
+        StreamingJsonSectionParser.SectionListener partialOutput = partialOutputListener(user.getId(), "MatchingAgent");
         try {
-            int tokensInput = countTokensFromJson(masterResumeJson) + countTokensFromJson(jobDescriptionAnalyzerJson);
-            MatchingAgentJson result = agentExecutor.execute(
+            AgentPayload<MatchingAgentJson> payload = agentExecutor.executeForPayload(
                     AgentExecutor.AgentExecutionRequest.<MatchingAgentJson>builder()
                             .agentName("MatchingAgent")
                             .user(user)
                             .resume(null)
-                            .tokensInput(tokensInput)
-                            .inputSnapshot(safeJsonSnapshot(jobDescriptionAnalyzerJson))
+                            .inputTokenEstimator(() -> masterResumeJson.tokens() + jobDescriptionAnalyzerJson.tokens())
+                            .inputSnapshot(jobDescriptionAnalyzerJson.snapshot())
                             .outputSerializer(this::writeJson)
-                            .action(() -> matchingAgent.executeMatchingAgent(masterResumeJson, jobDescriptionAnalyzerJson))
+                            .action(() -> matchingAgent.executeMatchingAgent(
+                                    masterResumeJson, jobDescriptionAnalyzerJson,
+                                    partialOutput))
                             .build()
             );
 
+            MatchingAgentJson result = payload.value();
             generation.setMatchingAgentJson(result);
             generation.setStatus(ResumeGenerationStatus.MATCHED);
 
@@ -271,43 +556,45 @@ public class ResumeService {
             });
 
             sendStatusSafe(user.getId(), "MatchingAgent", "SUCCESS");
-            return result;
+            return payload;
         } catch (RuntimeException ex) {
             sendStatusSafe(user.getId(), "MatchingAgent", "FAILED");
             throw ex;
         }
     }
 
-    private MasterResumeJson ensureRewritten(
+    private AgentPayload<MasterResumeJson> ensureRewritten(
             ResumeGeneration generation,
             User user,
-            MasterResumeJson masterResumeJson,
-            JobDescriptionAnalyzerJson jobDescriptionAnalyzerJson,
-            MatchingAgentJson matchingAgentJson
+            AgentPayload<MasterResumeJson> masterResumeJson,
+            AgentPayload<JobDescriptionAnalyzerJson> jobDescriptionAnalyzerJson,
+            AgentPayload<MatchingAgentJson> matchingAgentJson
     ) throws JsonProcessingException {
         if (generation.getStatus().isAtLeast(ResumeGenerationStatus.REWRITTEN)
                 && generation.getRewrittenResumeJson() != null) {
-            return generation.getRewrittenResumeJson();
+            return AgentPayload.of(objectMapper, generation.getRewrittenResumeJson());
         }
 
         sendStatusSafe(user.getId(), "ResumeRewriteAgent", "STARTED");
+        StreamingJsonSectionParser.SectionListener partialOutput = partialOutputListener(user.getId(), "ResumeRewriteAgent");
         try {
-            int tokensInput = countTokensFromJson(masterResumeJson)
-                    + countTokensFromJson(jobDescriptionAnalyzerJson)
-                    + countTokensFromJson(matchingAgentJson);
-            MasterResumeJson result = agentExecutor.execute(
+            AgentPayload<MasterResumeJson> payload = agentExecutor.executeForPayload(
                     AgentExecutor.AgentExecutionRequest.<MasterResumeJson>builder()
                             .agentName("ResumeRewriteAgent")
                             .user(user)
                             .resume(null)
-                            .tokensInput(tokensInput)
-                            .inputSnapshot(safeJsonSnapshot(matchingAgentJson))
+                            .inputTokenEstimator(() -> masterResumeJson.tokens()
+                                    + jobDescriptionAnalyzerJson.tokens()
+                                    + matchingAgentJson.tokens())
+                            .inputSnapshot(matchingAgentJson.snapshot())
                             .outputSerializer(this::writeJson)
                             .action(() -> resumeRewriteAgent.executeResumeRewriteAgent(
-                                    masterResumeJson, jobDescriptionAnalyzerJson, matchingAgentJson))
+                                    masterResumeJson, jobDescriptionAnalyzerJson, matchingAgentJson,
+                                    partialOutput))
                             .build()
             );
 
+            MasterResumeJson result = payload.value();
             generation.setRewrittenResumeJson(result);
             generation.setStatus(ResumeGenerationStatus.REWRITTEN);
 
@@ -318,7 +605,7 @@ public class ResumeService {
             });
 
             sendStatusSafe(user.getId(), "ResumeRewriteAgent", "SUCCESS");
-            return result;
+            return payload;
         } catch (RuntimeException ex) {
             sendStatusSafe(user.getId(), "ResumeRewriteAgent", "FAILED");
             throw ex;
@@ -328,7 +615,7 @@ public class ResumeService {
     private MasterResumeJson ensureOptimized(
             ResumeGeneration generation,
             User user,
-            MasterResumeJson rewrittenResume
+            AgentPayload<MasterResumeJson> rewrittenResume
     ) throws JsonProcessingException {
         if (generation.getStatus().isAtLeast(ResumeGenerationStatus.OPTIMIZED)
                 && generation.getOptimizedResumeJson() != null) {
@@ -336,17 +623,18 @@ public class ResumeService {
         }
 
         sendStatusSafe(user.getId(), "ATSOptimizationAgent", "STARTED");
+        StreamingJsonSectionParser.SectionListener partialOutput = partialOutputListener(user.getId(), "ATSOptimizationAgent");
         try {
-            int tokensInput = countTokensFromJson(rewrittenResume);
             MasterResumeJson result = agentExecutor.execute(
                     AgentExecutor.AgentExecutionRequest.<MasterResumeJson>builder()
                             .agentName("ATSOptimizationAgent")
                             .user(user)
                             .resume(null)
-                            .tokensInput(tokensInput)
-                            .inputSnapshot(safeJsonSnapshot(rewrittenResume))
+                            .inputTokenEstimator(rewrittenResume::tokens)
+                            .inputSnapshot(rewrittenResume.snapshot())
                             .outputSerializer(this::writeJson)
-                            .action(() -> atsOptimizationAgent.executeATSOptimizationAgent(rewrittenResume))
+                            .action(() -> atsOptimizationAgent.executeATSOptimizationAgent(
+                                    rewrittenResume, partialOutput))
                             .build()
             );
 
@@ -367,6 +655,11 @@ public class ResumeService {
         }
     }
 
+    /**
+     * Persists the final Resume and charges one generation against the monthly quota.
+     * Runs for memo hits too (see findMemoizedGeneration), so a reused result is
+     * charged the same as a freshly generated one.
+     */
     private void finalizeGeneration(
             ResumeGeneration generation,
             UUID userId,
@@ -475,6 +768,52 @@ public class ResumeService {
         }
     }
 
+    /**
+     * Publishes completed sections of a streamed agent response on
+     * /topic/resume-partial/{userId} as soon as they are parsed, plus a reset
+     * message when a failover model restarts the agent's output.
+     */
+    /**
+     * Publishes an agent's streamed sections. Create it once per agent step, outside the
+     * executor's retry: resets from the LLM client then also void the sections of a
+     * failed earlier attempt, and are only sent when something was published.
+     */
+    private StreamingJsonSectionParser.SectionListener partialOutputListener(UUID userId, String agentName) {
+        AtomicBoolean published = new AtomicBoolean();
+        return new StreamingJsonSectionParser.SectionListener() {
+            @Override
+            public void onSection(String section, Integer index, JsonNode value) {
+                published.set(true);
+                sendPartialOutputSafe(userId, AgentPartialOutputResponse.builder()
+                        .agentName(agentName)
+                        .section(section)
+                        .index(index)
+                        .value(value)
+                        .build());
+            }
+
+            @Override
+            public void onReset() {
+                if (!published.getAndSet(false)) {
+                    return;
+                }
+                sendPartialOutputSafe(userId, AgentPartialOutputResponse.builder()
+                        .agentName(agentName)
+                        .reset(true)
+                        .build());
+            }
+        };
+    }
+
+    private void sendPartialOutputSafe(UUID userId, AgentPartialOutputResponse partialOutput) {
+        try {
+            messagingTemplate.convertAndSend("/topic/resume-partial/" + userId, partialOutput);
+        } catch (RuntimeException ex) {
+            log.warn("WebSocket partial output send failed: agent={}, section={}, reset={}, userId={}",
+                    partialOutput.getAgentName(), partialOutput.getSection(), partialOutput.isReset(), userId, ex);
+        }
+    }
+
     private String safeJsonSnapshot(Object value) {
         try {
             return writeJson(value);
@@ -483,76 +822,163 @@ public class ResumeService {
         }
     }
 
-    private int countTokensFromJson(Object value) throws JsonProcessingException {
-        return TokenCounter.countTokens(writeJson(value));
-    }
-
     private String writeJson(Object value) throws JsonProcessingException {
         return objectMapper.writeValueAsString(value);
     }
 
-    public ResponseEntity<byte[]> downloadResumeGreen(String email, UUID id) {
-        // Get user from email
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalStateException("User not found"));
+    public ResponseEntity<StreamingResponseBody> downloadResumeGreen(String email, UUID id, String ifNoneMatch) {
+        return downloadResume(email, id, "green", ifNoneMatch);
+    }
 
-        // Find resume by ID ensuring it belongs to the authenticated user
-        Resume resume = resumeRepository.findByIdAndUserId(id, user.getId())
-                .orElseThrow(() -> new IllegalStateException("Resume not found or access denied"));
+    public ResponseEntity<StreamingResponseBody> downloadResumeBlue(String email, UUID id, String ifNoneMatch) {
+        return downloadResume(email, id, "blue", ifNoneMatch);
+    }
+
+    /**
+     * Serves a rendered DOCX from the render cache, or 304 when the client's
+     * If-None-Match already names the current rendering.
+     */
+    private ResponseEntity<StreamingResponseBody> downloadResume(
+            String email,
+            UUID id,
+            String templateId,
+            String ifNoneMatch
+    ) {
+        Resume resume = findResumeForDownload(email, id);
+
+        String eTag = renderedDocumentCache.eTag(templateId, resume.getResumeJson());
+        if (RenderedDocumentCache.matches(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
 
         try {
-            // Generate DOCX from resume JSON
-            ByteArrayOutputStream docxStream = greenResumeDocxService.generateResume(resume.getResumeJson());
-            byte[] docxBytes = docxStream.toByteArray();
+            // Generate DOCX from resume JSON (or reuse the cached rendering)
+            RenderedDocumentCache.RenderedDocument document = renderedDocumentCache.get(
+                    resume.getId(), templateId, eTag, resume.getResumeJson(),
+                    (resumeJson, out) -> docxResumeRenderer.render(templateId, resumeJson, out)
+            );
 
             // Build filename from job title and company if available
-            String filename = buildFilename(resume);
+            return documentResponse(document, DOCX_CONTENT_TYPE, buildFilename(resume, ".docx"), eTag);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to generate resume document", e);
+        }
+    }
 
-            // Return the file as attachment
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType(DOCX_CONTENT_TYPE));
-            headers.setContentDispositionFormData("attachment", filename);
-            headers.setContentLength(docxBytes.length);
+    /**
+     * Serves a resume as PDF. Cached renderings (and 304s) are answered right away;
+     * otherwise the render runs on the bounded render pool and the request thread
+     * is released until it completes.
+     *
+     * @param email       The email of the authenticated user.
+     * @param id          The UUID of the resume.
+     * @param templateId  Resume template, e.g. "blue" or "green".
+     * @param ifNoneMatch ETag of a copy the client already has.
+     * @throws ValueNotFoundException     If there is no such template.
+     * @throws CapacityExceededException If the render queue is full.
+     */
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> downloadResumePdf(
+            String email,
+            UUID id,
+            String templateId,
+            String ifNoneMatch
+    ) {
+        if (!pdfResumeRenderer.templateIds().contains(templateId)) {
+            throw new ValueNotFoundException("Resume template not found: " + templateId);
+        }
+
+        Resume resume = findResumeForDownload(email, id);
 
-            return new ResponseEntity<>(docxBytes, headers, HttpStatus.OK);
+        // Own cache entry and ETag, separate from the DOCX of the same template
+        String cacheTemplateId = templateId + ".pdf";
+        String eTag = renderedDocumentCache.eTag(cacheTemplateId, resume.getResumeJson());
+        if (RenderedDocumentCache.matches(ifNoneMatch, eTag)) {
+            return CompletableFuture.completedFuture(notModified(eTag));
+        }
+
+        String filename = buildFilename(resume, ".pdf");
+        Optional<RenderedDocumentCache.RenderedDocument> cached =
+                renderedDocumentCache.find(resume.getId(), cacheTemplateId, eTag);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(
+                    documentResponse(cached.get(), MediaType.APPLICATION_PDF_VALUE, filename, eTag));
+        }
+
+        UUID resumeId = resume.getId();
+        MasterResumeJson resumeJson = resume.getResumeJson();
+        try {
+            return documentRenderExecutor.submitCompletable(() -> renderPdf(resumeId, templateId, cacheTemplateId, eTag, resumeJson))
+                    .thenApply(document -> documentResponse(document, MediaType.APPLICATION_PDF_VALUE, filename, eTag));
+        } catch (TaskRejectedException ex) {
+            throw new CapacityExceededException("PDF rendering is busy. Please try again shortly.");
+        }
+    }
+
+    /**
+     * Runs on a render pool worker: renders the whole PDF before the response is written.
+     */
+    private RenderedDocumentCache.RenderedDocument renderPdf(
+            UUID resumeId,
+            String templateId,
+            String cacheTemplateId,
+            String eTag,
+            MasterResumeJson resumeJson
+    ) {
+        try {
+            return renderedDocumentCache.render(resumeId, cacheTemplateId, eTag, resumeJson,
+                    (json, out) -> pdfResumeRenderer.render(templateId, json, out));
         } catch (IOException e) {
             throw new RuntimeException("Failed to generate resume document", e);
         }
     }
 
-    public ResponseEntity<byte[]> downloadResumeBlue(String email, UUID id) {
+    /**
+     * Loads a resume of the authenticated user for download.
+     */
+    private Resume findResumeForDownload(String email, UUID id) {
         // Get user from email
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalStateException("User not found"));
 
         // Find resume by ID ensuring it belongs to the authenticated user
-        Resume resume = resumeRepository.findByIdAndUserId(id, user.getId())
+        return resumeRepository.findByIdAndUserId(id, user.getId())
                 .orElseThrow(() -> new IllegalStateException("Resume not found or access denied"));
+    }
 
-        try {
-            // Generate DOCX from resume JSON
-            ByteArrayOutputStream docxStream = blueResumeDocxService.generateResume(resume.getResumeJson());
-            byte[] docxBytes = docxStream.toByteArray();
-
-            // Build filename from job title and company if available
-            String filename = buildFilename(resume);
-
-            // Return the file as attachment
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType(DOCX_CONTENT_TYPE));
-            headers.setContentDispositionFormData("attachment", filename);
-            headers.setContentLength(docxBytes.length);
+    private ResponseEntity<StreamingResponseBody> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .build();
+    }
 
-            return new ResponseEntity<>(docxBytes, headers, HttpStatus.OK);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to generate resume document", e);
+    /**
+     * Returns a rendered document as attachment, streamed to the servlet output stream.
+     */
+    private ResponseEntity<StreamingResponseBody> documentResponse(
+            RenderedDocumentCache.RenderedDocument document,
+            String contentType,
+            String filename,
+            String eTag
+    ) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(contentType));
+        headers.setContentDispositionFormData("attachment", filename);
+        if (document.contentLength() >= 0) {
+            headers.setContentLength(document.contentLength());
         }
+        headers.setETag(eTag);
+        headers.setCacheControl(CacheControl.noCache().cachePrivate());
+
+        // Written straight to the servlet output stream
+        StreamingResponseBody body = document::writeTo;
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
     }
 
     /**
      * Builds a descriptive filename for the resume download.
      */
-    private String buildFilename(Resume resume) {
+    private String buildFilename(Resume resume, String extension) {
         StringBuilder filename = new StringBuilder("Resume");
 
         String jobTitle = firstNonBlank(
@@ -577,7 +1003,7 @@ public class ResumeService {
             filename.append("_").append(safeCompany);
         }
 
-        filename.append(".docx");
+        filename.append(extension);
         return filename.toString();
     }
 
@@ -643,6 +1069,50 @@ public class ResumeService {
                 .build();
     }
 
+    /**
+     * Keyset variant of {@link #getResumeList}: seeks past the cursor instead of
+     * OFFSET, and counts the total only when asked.
+     */
+    @Transactional(readOnly = true)
+    public ResumeCursorListResponse getResumeListByCursor(String email, String cursor, int size, boolean includeTotal) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
+
+        EnumSet<ResumeStatus> statuses = EnumSet.of(ResumeStatus.ACTIVE, ResumeStatus.ARCHIVED);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+        // One extra row tells whether another page exists
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Resume> rows = after == null
+                ? resumeRepository.findKeysetFirstPage(user, statuses, limit)
+                : resumeRepository.findKeysetPageAfter(user, statuses, after.createdAt(), after.id(), limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Resume> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        List<ResumeListItemResponse> items = page.stream()
+                .map(resume -> ResumeListItemResponse.builder()
+                        .id(resume.getId().toString())
+                        .jobTitle(resume.getJobTitleTargeted())
+                        .companyName(resume.getCompanyTargeted())
+                        .status(resume.getStatus())
+                        .createdAt(resume.getCreatedAt() == null ? null : resume.getCreatedAt().toString())
+                        .updatedAt(resume.getUpdatedAt() == null ? null : resume.getUpdatedAt().toString())
+                        .build())
+                .collect(Collectors.toList());
+
+        Resume last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return ResumeCursorListResponse.builder()
+                .items(items)
+                .size(pageSize)
+                .nextCursor(hasNext ? new KeysetCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .hasNext(hasNext)
+                .totalElements(includeTotal ? resumeRepository.countByUserAndStatusIn(user, statuses) : null)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public MasterResumeResponse getResumeById(String email, UUID id) {
 
@@ -684,6 +1154,9 @@ public class ResumeService {
             throw new DuplicateResourceException("Resume does not exist. Create one before updating.");
         }
 
+        // Renderings of the previous content can no longer be requested
+        renderedDocumentCache.invalidate(resume.getId());
+
         return CommonResponse.builder()
                 .message("Resume updated successfully")
                 .email(email)
@@ -710,6 +1183,8 @@ public class ResumeService {
             throw new DuplicateResourceException("Resume does not exist");
         }
 
+        renderedDocumentCache.invalidate(resume.getId());
+
         return CommonResponse.builder()
                 .message("Resume deleted successfully")
                 .email(email)
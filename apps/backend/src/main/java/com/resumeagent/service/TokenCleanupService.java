@@ -0,0 +1,95 @@
+package com.resumeagent.service;
+
+import com.resumeagent.config.TokenCleanupProperties;
+import com.resumeagent.repository.EmailVerificationTokenRepository;
+import com.resumeagent.repository.PasswordResetTokensRepository;
+import com.resumeagent.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+
+/**
+ * Scheduled purge of expired tokens from all token tables
+ * (refresh_tokens, email_verification_tokens, password_reset_tokens).
+ * Revoked refresh tokens are purged as well, once revoked longer than the grace period.
+ *
+ * Deletes in bounded batches, one short transaction per batch, using the
+ * expires_at indexes. Per table it publishes:
+ * - token.cleanup.purged (counter): rows deleted
+ * - token.cleanup.duration (timer): time spent purging
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenCleanupService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final EmailVerificationTokenRepository emailVerificationTokenRepository;
+    private final PasswordResetTokensRepository passwordResetTokensRepository;
+    private final TokenCleanupProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(cron = "${maintenance.token-cleanup.cron:0 0 3 * * *}")
+    public void scheduledCleanup() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        purgeExpiredTokens();
+    }
+
+    /**
+     * Purges expired tokens from every token table.
+     *
+     * @return Total number of deleted tokens
+     */
+    public long purgeExpiredTokens() {
+        Instant cutoff = Instant.now().minusMillis(properties.getExpiredGraceMs());
+        return purge("refresh_tokens", cutoff, refreshTokenRepository::deleteExpiredOrRevokedBatch)
+                + purge("email_verification_tokens", cutoff, emailVerificationTokenRepository::deleteExpiredBatch)
+                + purge("password_reset_tokens", cutoff, passwordResetTokensRepository::deleteExpiredBatch);
+    }
+
+    private long purge(String table, Instant cutoff, BatchDelete batchDelete) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long total = 0;
+        int batches = 0;
+        try {
+            int deleted;
+            do {
+                deleted = batchDelete.delete(cutoff, properties.getBatchSize());
+                total += deleted;
+                batches++;
+            } while (deleted == properties.getBatchSize() && batches < properties.getMaxBatchesPerRun());
+        } catch (DataAccessException ex) {
+            // One failing table must not stop the others; the next run picks up the rest
+            log.error("Token cleanup failed: table={}, purgedBeforeFailure={}", table, total, ex);
+        } finally {
+            long durationNanos = sample.stop(Timer.builder("token.cleanup.duration")
+                    .description("Time spent purging expired tokens")
+                    .tag("table", table)
+                    .register(meterRegistry));
+            Counter.builder("token.cleanup.purged")
+                    .description("Expired tokens deleted by the cleanup job")
+                    .tag("table", table)
+                    .register(meterRegistry)
+                    .increment(total);
+            if (total > 0) {
+                log.info("Cleaned up {} expired tokens: table={}, batches={}, durationMs={}",
+                        total, table, batches, durationNanos / 1_000_000L);
+            }
+        }
+        return total;
+    }
+
+    @FunctionalInterface
+    private interface BatchDelete {
+        int delete(Instant cutoff, int batchSize);
+    }
+}
@@ -0,0 +1,115 @@
+package com.resumeagent.service;
+
+import com.resumeagent.entity.ResumeAgentLog;
+import com.resumeagent.entity.UserAgentExecutionStats;
+import com.resumeagent.entity.UserAgentStats;
+import com.resumeagent.entity.enums.AgentExecutionStatus;
+import com.resumeagent.repository.UserAgentDailyUsageRepository;
+import com.resumeagent.repository.UserAgentExecutionStatsRepository;
+import com.resumeagent.repository.UserAgentStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Maintains the user_agent_stats / user_agent_execution_stats / user_agent_daily_usage rollups.
+ *
+ * Every resume_agent_logs insert is folded in by {@link #recordLog} inside the
+ * same transaction, so the rollups never drift from the log table and the
+ * dashboard reads one row per card instead of aggregating the log history.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserAgentStatsService {
+
+    /**
+     * Agent name of the resume_agent_logs rows that record JD analysis cache lookups.
+     * They are not agent executions, so they never reach the rollups (the V4/V5
+     * backfills skip them too).
+     */
+    public static final String JD_CACHE_LOOKUP_AGENT_NAME = "JobDescriptionAnalyzerCache";
+
+    private final UserAgentStatsRepository userAgentStatsRepository;
+    private final UserAgentExecutionStatsRepository userAgentExecutionStatsRepository;
+    private final UserAgentDailyUsageRepository userAgentDailyUsageRepository;
+
+    /**
+     * Folds a freshly saved agent log into the rollups; cache lookup rows are skipped.
+     * Must be called in the transaction that inserted the log.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordLog(ResumeAgentLog agentLog) {
+        if (JD_CACHE_LOOKUP_AGENT_NAME.equals(agentLog.getAgentName())) {
+            return;
+        }
+
+        UUID userId = agentLog.getUser().getId();
+        AgentExecutionStatus status = agentLog.getStatus();
+
+        // Same definition as the dashboard: tokens of failed executions are not counted
+        long tokens = status == AgentExecutionStatus.FAILURE
+                ? 0
+                : (long) valueOrZero(agentLog.getTokensInput()) + valueOrZero(agentLog.getTokensOutput());
+
+        userAgentStatsRepository.increment(
+                userId,
+                status == AgentExecutionStatus.SUCCESS ? 1 : 0,
+                status == AgentExecutionStatus.FAILURE ? 1 : 0,
+                status == AgentExecutionStatus.PARTIAL ? 1 : 0,
+                tokens,
+                currentMonthStart()
+        );
+
+        if (agentLog.getExecutionTimeMs() != null) {
+            userAgentExecutionStatsRepository.increment(userId, agentLog.getAgentName(), agentLog.getExecutionTimeMs());
+        }
+
+        // Chart buckets keep the previous date(created_at) semantics: every status counts
+        userAgentDailyUsageRepository.increment(
+                userId,
+                LocalDate.ofInstant(agentLog.getCreatedAt(), ZoneId.systemDefault()),
+                agentLog.getAgentName(),
+                valueOrZero(agentLog.getTokensInput()),
+                valueOrZero(agentLog.getTokensOutput()),
+                agentLog.getExecutionTimeMs() == null ? 0 : agentLog.getExecutionTimeMs()
+        );
+    }
+
+    /**
+     * @return the user's rollup, or an all-zero rollup if the user has no agent logs yet
+     */
+    @Transactional(readOnly = true)
+    public UserAgentStats getStats(UUID userId) {
+        return userAgentStatsRepository.findById(userId)
+                .orElseGet(() -> UserAgentStats.builder()
+                        .userId(userId)
+                        .monthStart(currentMonthStart())
+                        .build());
+    }
+
+    /**
+     * @return tokens used in the current month (0 if the rollup's month has passed)
+     */
+    public long currentMonthTokens(UserAgentStats stats) {
+        return currentMonthStart().equals(stats.getMonthStart()) ? stats.getMonthTokens() : 0;
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserAgentExecutionStats> getExecutionStats(UUID userId) {
+        return userAgentExecutionStatsRepository.findByUserId(userId);
+    }
+
+    private LocalDate currentMonthStart() {
+        return LocalDate.now(ZoneId.systemDefault()).withDayOfMonth(1);
+    }
+
+    private int valueOrZero(Integer value) {
+        return value == null ? 0 : value;
+    }
+}
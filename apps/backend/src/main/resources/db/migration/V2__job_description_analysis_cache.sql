@@ -0,0 +1,20 @@
+-- ============================================================================
+-- Flyway Migration V2: Job Description Analysis Cache
+-- ============================================================================
+-- Description: Persistent, content-addressed cache of JobDescriptionAnalyzerAgent
+--              output so identical job postings are analyzed by the LLM only once
+-- ============================================================================
+
+CREATE TABLE job_description_analysis_cache (
+    -- SHA-256 (hex) of the whitespace/case-normalized job description text
+    jd_hash VARCHAR(64) PRIMARY KEY,
+    analysis_json JSONB NOT NULL,
+    hit_count BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_hit_at TIMESTAMP
+);
+
+CREATE INDEX idx_jd_analysis_cache_created_at ON job_description_analysis_cache(created_at);
+
+COMMENT ON TABLE job_description_analysis_cache IS 'Content-addressed cache of analyzed job descriptions shared across users';
+COMMENT ON COLUMN job_description_analysis_cache.jd_hash IS 'SHA-256 of the normalized job description; raw text is never stored here';
@@ -0,0 +1,20 @@
+-- ============================================================================
+-- Flyway Migration V3: Resume Generation Memoization Keys
+-- ============================================================================
+-- Description: Fingerprints each generation by (master resume content, normalized
+--              job description) so completed agent-chain outputs can be reused
+-- ============================================================================
+
+ALTER TABLE resume_generations
+    ADD COLUMN master_resume_fingerprint VARCHAR(64),
+    ADD COLUMN jd_hash VARCHAR(64),
+    ADD COLUMN force_fresh BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- Memo lookups only ever target completed generations of one user
+CREATE INDEX idx_resume_generations_memo
+    ON resume_generations(user_id, master_resume_fingerprint, jd_hash, created_at DESC)
+    WHERE status = 'COMPLETED';
+
+COMMENT ON COLUMN resume_generations.master_resume_fingerprint IS 'SHA-256 of the master resume JSON used as agent input';
+COMMENT ON COLUMN resume_generations.jd_hash IS 'SHA-256 of the whitespace/case-normalized job description';
+COMMENT ON COLUMN resume_generations.force_fresh IS 'Requested with forceFresh (memo and JD cache bypassed); kept so recovery honors it';
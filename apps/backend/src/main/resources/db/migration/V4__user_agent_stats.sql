@@ -0,0 +1,61 @@
+-- ============================================================================
+-- Flyway Migration V4: Per-User Agent Analytics Rollups
+-- ============================================================================
+-- Description: Incrementally maintained counters over resume_agent_logs so the
+--              dashboard cards read one row per user instead of aggregating the
+--              full log history on every request
+-- ============================================================================
+
+CREATE TABLE user_agent_stats (
+    user_id UUID PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    total_count BIGINT NOT NULL DEFAULT 0,
+    success_count BIGINT NOT NULL DEFAULT 0,
+    failure_count BIGINT NOT NULL DEFAULT 0,
+    partial_count BIGINT NOT NULL DEFAULT 0,
+    -- Input + output tokens of non-FAILURE executions
+    total_tokens BIGINT NOT NULL DEFAULT 0,
+    -- Calendar month that month_tokens belongs to (first day of month)
+    month_start DATE NOT NULL,
+    month_tokens BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE user_agent_execution_stats (
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    agent_name VARCHAR(100) NOT NULL,
+    execution_count BIGINT NOT NULL DEFAULT 0,
+    execution_time_sum_ms BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, agent_name)
+);
+
+-- Backfill from existing history. JobDescriptionAnalyzerCache rows record cache
+-- lookups, not agent executions, and are kept out of every rollup
+INSERT INTO user_agent_stats (
+    user_id, total_count, success_count, failure_count, partial_count,
+    total_tokens, month_start, month_tokens
+)
+SELECT r.user_id,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE r.status = 'SUCCESS'),
+       COUNT(*) FILTER (WHERE r.status = 'FAILURE'),
+       COUNT(*) FILTER (WHERE r.status = 'PARTIAL'),
+       COALESCE(SUM(COALESCE(r.tokens_input, 0) + COALESCE(r.tokens_output, 0))
+                FILTER (WHERE r.status IS DISTINCT FROM 'FAILURE'), 0),
+       CAST(date_trunc('month', CURRENT_DATE) AS DATE),
+       COALESCE(SUM(COALESCE(r.tokens_input, 0) + COALESCE(r.tokens_output, 0))
+                FILTER (WHERE r.status IS DISTINCT FROM 'FAILURE'
+                        AND r.created_at >= date_trunc('month', CURRENT_DATE)), 0)
+FROM resume_agent_logs r
+WHERE r.agent_name <> 'JobDescriptionAnalyzerCache'
+GROUP BY r.user_id;
+
+INSERT INTO user_agent_execution_stats (user_id, agent_name, execution_count, execution_time_sum_ms)
+SELECT r.user_id, r.agent_name, COUNT(*), SUM(r.execution_time_ms)
+FROM resume_agent_logs r
+WHERE r.execution_time_ms IS NOT NULL
+  AND r.agent_name <> 'JobDescriptionAnalyzerCache'
+GROUP BY r.user_id, r.agent_name;
+
+COMMENT ON TABLE user_agent_stats IS 'Per-user rollup of resume_agent_logs, updated in the same transaction as each log insert';
+COMMENT ON COLUMN user_agent_stats.month_tokens IS 'Non-FAILURE tokens in month_start; stale when month_start is not the current month';
+COMMENT ON TABLE user_agent_execution_stats IS 'Per-user, per-agent execution time totals for average execution time';
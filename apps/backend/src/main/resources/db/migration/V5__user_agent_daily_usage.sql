@@ -0,0 +1,37 @@
+-- ============================================================================
+-- Flyway Migration V5: Daily Agent Usage Time Series
+-- ============================================================================
+-- Description: Per-user, per-day, per-agent buckets over resume_agent_logs so
+--              token charts read pre-aggregated days instead of grouping raw
+--              logs by date(created_at) on every request
+-- ============================================================================
+
+CREATE TABLE user_agent_daily_usage (
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    day DATE NOT NULL,
+    agent_name VARCHAR(100) NOT NULL,
+    input_tokens BIGINT NOT NULL DEFAULT 0,
+    output_tokens BIGINT NOT NULL DEFAULT 0,
+    execution_count BIGINT NOT NULL DEFAULT 0,
+    execution_time_sum_ms BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, day, agent_name)
+);
+
+-- Backfill from existing history (same day boundaries as date(created_at)),
+-- skipping the JobDescriptionAnalyzerCache lookup rows like user_agent_stats does
+INSERT INTO user_agent_daily_usage (
+    user_id, day, agent_name, input_tokens, output_tokens, execution_count, execution_time_sum_ms
+)
+SELECT r.user_id,
+       CAST(r.created_at AS DATE),
+       r.agent_name,
+       COALESCE(SUM(COALESCE(r.tokens_input, 0)), 0),
+       COALESCE(SUM(COALESCE(r.tokens_output, 0)), 0),
+       COUNT(*),
+       COALESCE(SUM(r.execution_time_ms), 0)
+FROM resume_agent_logs r
+WHERE r.agent_name <> 'JobDescriptionAnalyzerCache'
+GROUP BY r.user_id, CAST(r.created_at AS DATE), r.agent_name;
+
+COMMENT ON TABLE user_agent_daily_usage IS 'Daily token/latency buckets of resume_agent_logs, updated in the same transaction as each log insert';
+COMMENT ON COLUMN user_agent_daily_usage.execution_time_sum_ms IS 'Sum of execution_time_ms over logs that recorded one';
@@ -0,0 +1,44 @@
+-- ============================================================================
+-- Flyway Migration V6: Composite Indexes for Per-User Query Shapes
+-- ============================================================================
+-- Description: Replaces single-column user_id indexes with composites matching
+--              how the repositories actually filter and sort: every hot query is
+--              scoped to one user, then filtered by status and/or ordered by
+--              created_at
+-- ============================================================================
+
+-- resume_generations: findFirstByUserIdAndStatusInOrderByCreatedAtDesc and
+-- findFirstByUserIdOrderByCreatedAtDesc walk one user's rows newest first and
+-- stop at the first match. Not partial on the active status set: Hibernate binds
+-- the IN list as parameters, which a generic plan cannot match to a partial index.
+CREATE INDEX idx_resume_generations_user_created
+    ON resume_generations(user_id, created_at DESC);
+-- countByUserIdAndStatus
+CREATE INDEX idx_resume_generations_user_status
+    ON resume_generations(user_id, status);
+DROP INDEX idx_resume_generations_user_id;
+
+-- resumes: findByUserAndStatusIn(..., createdAt DESC) for the paged resume list
+CREATE INDEX idx_resumes_user_created
+    ON resumes(user_id, created_at DESC);
+-- countByUserIdAndStatusNot / countDistinctJobTitleTargetedByUserIdAndStatusNot,
+-- answered from the index alone
+CREATE INDEX idx_resumes_user_status
+    ON resumes(user_id, status) INCLUDE (job_title_targeted);
+DROP INDEX idx_resumes_user_id;
+
+-- resume_agent_logs: per-user counts by status (admin user detail) and
+-- per-user time ranges
+CREATE INDEX idx_agent_logs_user_status
+    ON resume_agent_logs(user_id, status);
+CREATE INDEX idx_agent_logs_user_created
+    ON resume_agent_logs(user_id, created_at DESC);
+DROP INDEX idx_agent_logs_user_id;
+
+-- refresh_tokens: findActiveTokensByUser / countActiveTokensByUser
+-- (revoked = false is a literal in the JPQL, so the partial index always applies)
+CREATE INDEX idx_refresh_tokens_user_active
+    ON refresh_tokens(user_id, expires_at)
+    WHERE revoked = FALSE;
+-- Boolean with two values; never selective enough to be chosen
+DROP INDEX idx_refresh_tokens_revoked;
@@ -0,0 +1,12 @@
+-- ============================================================================
+-- Flyway Migration V7: Revoked Refresh Token Cleanup Index
+-- ============================================================================
+-- Description: The token cleanup job also purges revoked refresh tokens
+--              (expires_at < cutoff OR (revoked AND revoked_at < cutoff)).
+--              The expires_at index serves the first branch; this partial index
+--              serves the second, so the planner can BitmapOr the two
+-- ============================================================================
+
+CREATE INDEX idx_refresh_tokens_revoked_at
+    ON refresh_tokens(revoked_at)
+    WHERE revoked = TRUE;
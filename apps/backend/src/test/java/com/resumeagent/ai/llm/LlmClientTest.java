@@ -0,0 +1,136 @@
+package com.resumeagent.ai.llm;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeagent.config.LlmProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LlmClientTest {
+
+    private static final String ANSWER = "{\"ok\":true}";
+
+    private final LlmProperties llmProperties = new LlmProperties();
+    private final ModelHealthRegistry modelHealthRegistry = spy(new ModelHealthRegistry(llmProperties));
+    // Released by each test once generate() has returned; the first call ignores interrupts until then
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch firstCallFinished = new CountDownLatch(1);
+
+    @AfterEach
+    void releaseStuckCall() {
+        release.countDown();
+    }
+
+    @Test
+    void timedOutCallThatFailsLaterIsCountedOnce() throws InterruptedException {
+        llmProperties.setModelTimeoutMs(100);
+        llmProperties.setHedgeDelayMs(0);
+        LlmClient llmClient = llmClient(new RuntimeException("Read timed out"));
+
+        assertThat(llmClient.generate("prompt")).isEqualTo(ANSWER);
+        finishFirstCall();
+
+        // Only the coordinator's timeout is recorded, not the late HTTP failure as well
+        verify(modelHealthRegistry, times(1)).recordFailure(anyString(), anyLong(), anyBoolean());
+        verify(modelHealthRegistry, times(1)).recordSuccess(anyString(), anyLong());
+    }
+
+    @Test
+    void timedOutCallThatSucceedsLaterStaysAFailure() throws InterruptedException {
+        llmProperties.setModelTimeoutMs(100);
+        llmProperties.setHedgeDelayMs(0);
+        LlmClient llmClient = llmClient(null);
+
+        assertThat(llmClient.generate("prompt")).isEqualTo(ANSWER);
+        finishFirstCall();
+
+        verify(modelHealthRegistry, times(1)).recordFailure(anyString(), anyLong(), anyBoolean());
+        // Only the replacement model's success
+        verify(modelHealthRegistry, times(1)).recordSuccess(anyString(), anyLong());
+    }
+
+    @Test
+    void losingHedgeIsNotRecordedWhenItFinishesAfterCancellation() throws InterruptedException {
+        llmProperties.setHedgeDelayMs(20);
+        LlmClient llmClient = llmClient(new RuntimeException("Read timed out"));
+
+        assertThat(llmClient.generate("prompt")).isEqualTo(ANSWER);
+        finishFirstCall();
+
+        verify(modelHealthRegistry, never()).recordFailure(anyString(), anyLong(), anyBoolean());
+        verify(modelHealthRegistry, times(1)).recordSuccess(anyString(), anyLong());
+    }
+
+    private void finishFirstCall() throws InterruptedException {
+        release.countDown();
+        assertThat(firstCallFinished.await(5, TimeUnit.SECONDS)).isTrue();
+        // Let callModel record (or skip) the outcome after the HTTP call returned
+        Thread.sleep(50);
+    }
+
+    /**
+     * The first call blocks like an HTTP exchange that ignores interrupts, then ends
+     * with {@code lateFailure} (or succeeds when null); every later call answers at once.
+     */
+    private LlmClient llmClient(RuntimeException lateFailure) {
+        AtomicInteger calls = new AtomicInteger();
+        ChatClient chatClient = mock(ChatClient.class);
+        ChatClient.ChatClientRequestSpec request = mock(ChatClient.ChatClientRequestSpec.class);
+        ChatClient.CallResponseSpec call = mock(ChatClient.CallResponseSpec.class);
+        when(chatClient.prompt(anyString())).thenReturn(request);
+        when(request.options(any())).thenReturn(request);
+        when(request.call()).thenReturn(call);
+        when(call.chatResponse()).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() > 1) {
+                return response();
+            }
+            try {
+                awaitIgnoringInterrupts(release);
+                if (lateFailure != null) {
+                    throw lateFailure;
+                }
+                return response();
+            } finally {
+                firstCallFinished.countDown();
+            }
+        });
+        return new LlmClient(chatClient, llmProperties, new SimpleAsyncTaskExecutor("llm-"),
+                modelHealthRegistry, new ObjectMapper());
+    }
+
+    private static ChatResponse response() {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(ANSWER))));
+    }
+
+    private static void awaitIgnoringInterrupts(CountDownLatch latch) {
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException ignored) {
+                // cancel(true) does not abort a blocking HTTP exchange either
+            }
+        }
+    }
+}
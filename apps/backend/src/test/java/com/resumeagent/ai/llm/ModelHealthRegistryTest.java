@@ -0,0 +1,148 @@
+package com.resumeagent.ai.llm;
+
+import com.resumeagent.config.LlmProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ModelHealthRegistryTest {
+
+    private static final List<String> MODELS = List.of("a", "b", "c");
+
+    @Test
+    void unknownModelsKeepConfiguredOrder() {
+        ModelHealthRegistry registry = registry(60_000);
+
+        assertThat(registry.rank(MODELS)).containsExactly("a", "b", "c");
+        assertThat(registry.tryAcquire("a")).isEqualTo(ModelHealthRegistry.Admission.CLOSED);
+    }
+
+    @Test
+    void rankPrefersFasterAndMoreReliableModels() {
+        ModelHealthRegistry registry = registry(60_000);
+        registry.recordSuccess("a", 9_000);
+        registry.recordSuccess("b", 1_000);
+        registry.recordSuccess("c", 1_000);
+        registry.recordFailure("c", 1_000, false);
+
+        assertThat(registry.rank(MODELS)).containsExactly("b", "c", "a");
+    }
+
+    @Test
+    void circuitOpensAfterConsecutiveFailureThreshold() {
+        ModelHealthRegistry registry = registry(60_000);
+
+        registry.recordFailure("a", 100, false);
+        registry.recordFailure("a", 100, false);
+        assertThat(registry.rank(MODELS)).contains("a");
+
+        registry.recordFailure("a", 100, false);
+        assertThat(registry.rank(MODELS)).containsExactly("b", "c");
+        assertThat(registry.tryAcquire("a")).isEqualTo(ModelHealthRegistry.Admission.REJECTED);
+    }
+
+    @Test
+    void successResetsConsecutiveFailures() {
+        ModelHealthRegistry registry = registry(60_000);
+
+        registry.recordFailure("a", 100, false);
+        registry.recordFailure("a", 100, false);
+        registry.recordSuccess("a", 100);
+        registry.recordFailure("a", 100, false);
+
+        assertThat(registry.tryAcquire("a")).isEqualTo(ModelHealthRegistry.Admission.CLOSED);
+    }
+
+    @Test
+    void rateLimitOpensCircuitImmediately() {
+        ModelHealthRegistry registry = registry(60_000);
+
+        registry.recordFailure("a", 100, true);
+
+        assertThat(registry.rank(MODELS)).containsExactly("b", "c");
+    }
+
+    @Test
+    void cooledDownCircuitAdmitsSingleProbe() {
+        ModelHealthRegistry registry = registry(0);
+        registry.recordFailure("a", 100, true);
+
+        assertThat(registry.rank(MODELS)).contains("a");
+        assertThat(registry.tryAcquire("a")).isEqualTo(ModelHealthRegistry.Admission.PROBE);
+        assertThat(registry.tryAcquire("a")).isEqualTo(ModelHealthRegistry.Admission.REJECTED);
+        assertThat(registry.rank(MODELS)).containsExactly("b", "c");
+    }
+
+    @Test
+    void rankingDoesNotReserveProbeSlot() {
+        ModelHealthRegistry registry = registry(0);
+        registry.recordFailure("a", 100, true);
+
+        registry.rank(MODELS);
+        registry.rank(MODELS);
+
+        assertThat(registry.tryAcquire("a")).isEqualTo(ModelHealthRegistry.Admission.PROBE);
+    }
+
+    @Test
+    void probeSuccessClosesCircuit() {
+        ModelHealthRegistry registry = registry(0);
+        registry.recordFailure("a", 100, true);
+        registry.tryAcquire("a");
+
+        registry.recordSuccess("a", 100);
+
+        assertThat(registry.tryAcquire("a")).isEqualTo(ModelHealthRegistry.Admission.CLOSED);
+        assertThat(registry.tryAcquire("a")).isEqualTo(ModelHealthRegistry.Admission.CLOSED);
+    }
+
+    @Test
+    void probeFailureReopensCircuit() {
+        ModelHealthRegistry registry = registry(60_000);
+        registry.recordFailure("a", 100, true);
+        // Jump the cool-down through the last-resort path: every circuit open
+        registry.recordFailure("b", 100, true);
+        registry.recordFailure("c", 100, true);
+        registry.rank(MODELS);
+        assertThat(registry.tryAcquire("a")).isEqualTo(ModelHealthRegistry.Admission.PROBE);
+
+        registry.recordFailure("a", 100, false);
+
+        assertThat(registry.tryAcquire("a")).isEqualTo(ModelHealthRegistry.Admission.REJECTED);
+        assertThat(registry.rank(MODELS)).containsExactly("b", "c");
+    }
+
+    @Test
+    void cancelledProbeReleasesSlotWithoutChangingState() {
+        ModelHealthRegistry registry = registry(0);
+        registry.recordFailure("a", 100, true);
+        assertThat(registry.tryAcquire("a")).isEqualTo(ModelHealthRegistry.Admission.PROBE);
+
+        registry.recordCancelled("a");
+
+        assertThat(registry.tryAcquire("a")).isEqualTo(ModelHealthRegistry.Admission.PROBE);
+    }
+
+    @Test
+    void allCircuitsOpenFallsBackToOneProbePerModel() {
+        ModelHealthRegistry registry = registry(60_000);
+        MODELS.forEach(model -> registry.recordFailure(model, 100, true));
+
+        assertThat(registry.rank(MODELS)).containsExactlyElementsOf(MODELS);
+        for (String model : MODELS) {
+            assertThat(registry.tryAcquire(model)).isEqualTo(ModelHealthRegistry.Admission.PROBE);
+            assertThat(registry.tryAcquire(model)).isEqualTo(ModelHealthRegistry.Admission.REJECTED);
+        }
+    }
+
+    private static ModelHealthRegistry registry(long circuitOpenMs) {
+        LlmProperties properties = new LlmProperties();
+        properties.setCircuitOpenMs(circuitOpenMs);
+        properties.setCircuitFailureThreshold(3);
+        properties.setEwmaAlpha(0.3);
+        properties.setDefaultLatencyMs(20_000);
+        return new ModelHealthRegistry(properties);
+    }
+}
@@ -0,0 +1,193 @@
+package com.resumeagent.ai.orchestration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeagent.ai.llm.LlmClient;
+import com.resumeagent.ai.llm.ModelHealthRegistry;
+import com.resumeagent.config.AgentRetryConfig;
+import com.resumeagent.config.LlmProperties;
+import com.resumeagent.entity.ResumeAgentLog;
+import com.resumeagent.entity.enums.AgentExecutionStatus;
+import com.resumeagent.exception.FatalAgentException;
+import com.resumeagent.exception.TransientAgentException;
+import com.resumeagent.repository.ResumeAgentLogRepository;
+import com.resumeagent.service.UserAgentStatsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.retry.backoff.FixedBackOffPolicy;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AgentExecutorTest {
+
+    private final ResumeAgentLogRepository resumeAgentLogRepository = mock(ResumeAgentLogRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final ThreadPoolTaskExecutor tokenEstimationExecutor = tokenEstimationExecutor();
+    private final AgentExecutor agentExecutor = agentExecutor(tokenEstimationExecutor);
+
+    @AfterEach
+    void shutDown() {
+        tokenEstimationExecutor.shutdown();
+    }
+
+    @Test
+    void estimateRunsOnTheEstimationPoolWhileTheCallIsInFlight() {
+        CountDownLatch estimated = new CountDownLatch(1);
+        AtomicReference<String> estimatorThread = new AtomicReference<>();
+        AtomicInteger estimates = new AtomicInteger();
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = agentExecutor.execute(request(() -> {
+            estimatorThread.set(Thread.currentThread().getName());
+            estimates.incrementAndGet();
+            estimated.countDown();
+            return 42;
+        }, () -> {
+            // Would time out if the estimate only started after the call returned
+            assertThat(estimated.await(5, TimeUnit.SECONDS)).isTrue();
+            if (attempts.incrementAndGet() == 1) {
+                throw new TransientAgentException("upstream busy");
+            }
+            return "ok";
+        }));
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(estimatorThread.get()).startsWith("token-estimate-");
+        // Estimated once for both attempts
+        assertThat(estimates).hasValue(1);
+        assertThat(savedLogs()).extracting(ResumeAgentLog::getStatus, ResumeAgentLog::getTokensInput)
+                .containsExactly(
+                        tuple(AgentExecutionStatus.FAILURE, 42),
+                        tuple(AgentExecutionStatus.SUCCESS, 42)
+                );
+    }
+
+    @Test
+    void failedAttemptWithoutProviderUsageRecordsTheEstimate() {
+        assertThatThrownBy(() -> agentExecutor.execute(request(() -> 42, () -> {
+            throw new FatalAgentException("bad output");
+        }))).isInstanceOf(FatalAgentException.class);
+
+        assertThat(savedLogs()).extracting(ResumeAgentLog::getStatus, ResumeAgentLog::getTokensInput)
+                .containsExactly(tuple(AgentExecutionStatus.FAILURE, 42));
+    }
+
+    @Test
+    void providerReportedUsageWinsOverTheEstimate() {
+        LlmClient llmClient = llmClient(new ChatResponse(
+                List.of(new Generation(new AssistantMessage("{\"ok\":true}"))),
+                ChatResponseMetadata.builder().usage(new DefaultUsage(120, 30)).build()
+        ));
+
+        agentExecutor.execute(request(() -> 42, () -> llmClient.generate("prompt")));
+
+        assertThat(savedLogs()).extracting(ResumeAgentLog::getTokensInput, ResumeAgentLog::getTokensOutput)
+                .containsExactly(tuple(120, 30));
+    }
+
+    @Test
+    void failedEstimateOnlyLosesTheCount() {
+        String result = agentExecutor.execute(request(() -> {
+            throw new JsonProcessingException("cannot serialize") {
+            };
+        }, () -> "ok"));
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(savedLogs()).extracting(ResumeAgentLog::getTokensInput).containsExactly((Integer) null);
+    }
+
+    @Test
+    void saturatedEstimationPoolEstimatesOnTheCallingThread() {
+        ThreadPoolTaskExecutor saturated = mock(ThreadPoolTaskExecutor.class);
+        doThrow(new TaskRejectedException("full")).when(saturated).execute(any(Runnable.class));
+        AtomicReference<Thread> estimatorThread = new AtomicReference<>();
+
+        agentExecutor(saturated).execute(request(() -> {
+            estimatorThread.set(Thread.currentThread());
+            return 42;
+        }, () -> "ok"));
+
+        assertThat(estimatorThread.get()).isSameAs(Thread.currentThread());
+        assertThat(savedLogs()).extracting(ResumeAgentLog::getTokensInput).containsExactly(42);
+    }
+
+    private static AgentExecutor.AgentExecutionRequest<String> request(
+            AgentExecutor.TokenEstimator estimator,
+            AgentExecutor.AgentCall<String> action
+    ) {
+        return AgentExecutor.AgentExecutionRequest.<String>builder()
+                .agentName("MatchingAgent")
+                .inputSnapshot("resume")
+                .inputTokenEstimator(estimator)
+                .action(action)
+                .outputSerializer(output -> output)
+                .build();
+    }
+
+    private List<ResumeAgentLog> savedLogs() {
+        ArgumentCaptor<ResumeAgentLog> saved = ArgumentCaptor.forClass(ResumeAgentLog.class);
+        verify(resumeAgentLogRepository, atLeastOnce()).save(saved.capture());
+        return saved.getAllValues();
+    }
+
+    private AgentExecutor agentExecutor(ThreadPoolTaskExecutor estimationExecutor) {
+        RetryTemplate retryTemplate = new AgentRetryConfig().agentRetryTemplate();
+        FixedBackOffPolicy backOff = new FixedBackOffPolicy();
+        backOff.setBackOffPeriod(1);
+        retryTemplate.setBackOffPolicy(backOff);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(resumeAgentLogRepository.save(any(ResumeAgentLog.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        return new AgentExecutor(retryTemplate, resumeAgentLogRepository, transactionManager,
+                mock(UserAgentStatsService.class), estimationExecutor);
+    }
+
+    private static ThreadPoolTaskExecutor tokenEstimationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("token-estimate-");
+        executor.initialize();
+        return executor;
+    }
+
+    private static LlmClient llmClient(ChatResponse response) {
+        ChatClient chatClient = mock(ChatClient.class);
+        ChatClient.ChatClientRequestSpec request = mock(ChatClient.ChatClientRequestSpec.class);
+        ChatClient.CallResponseSpec call = mock(ChatClient.CallResponseSpec.class);
+        when(chatClient.prompt(anyString())).thenReturn(request);
+        when(request.options(any())).thenReturn(request);
+        when(request.call()).thenReturn(call);
+        when(call.chatResponse()).thenReturn(response);
+        LlmProperties llmProperties = new LlmProperties();
+        return new LlmClient(chatClient, llmProperties, new SimpleAsyncTaskExecutor("llm-"),
+                new ModelHealthRegistry(llmProperties), new ObjectMapper());
+    }
+}
@@ -0,0 +1,185 @@
+package com.resumeagent.ai.orchestration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeagent.ai.llm.LlmClient;
+import com.resumeagent.ai.llm.ModelHealthRegistry;
+import com.resumeagent.config.AgentRetryConfig;
+import com.resumeagent.config.LlmProperties;
+import com.resumeagent.entity.ResumeAgentLog;
+import com.resumeagent.exception.TransientAgentException;
+import com.resumeagent.repository.ResumeAgentLogRepository;
+import com.resumeagent.service.UserAgentStatsService;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.retry.backoff.FixedBackOffPolicy;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs agent chains on virtual threads under JFR and fails on any
+ * jdk.VirtualThreadPinned event, i.e. a virtual thread that blocked while
+ * holding a monitor and so kept its carrier thread.
+ * Covers the retry backoff, the hedged LLM race (throttle, completion queue,
+ * cancellation, ModelHealthRegistry) and the TransactionTemplate log writes.
+ * The JDBC driver and the HTTP client are not covered; they are mocked here.
+ */
+class VirtualThreadPinningTest {
+
+    private static final String PINNED = "jdk.VirtualThreadPinned";
+    private static final int CHAINS = 200;
+
+    @Test
+    void blockingInsideAMonitorIsDetected() throws Exception {
+        Object monitor = new Object();
+
+        List<RecordedEvent> pinned = recordPinning(() -> {
+            Thread.ofVirtual().start(() -> {
+                synchronized (monitor) {
+                    sleep(20);
+                }
+            }).join();
+            return null;
+        });
+
+        assertThat(pinned).isNotEmpty();
+    }
+
+    @Test
+    void agentChainsOnVirtualThreadsNeverPinTheirCarrier() throws Exception {
+        LlmClient llmClient = llmClient(blockingChatClient(50));
+        AgentExecutor agentExecutor = agentExecutor();
+
+        List<RecordedEvent> pinned = recordPinning(() -> {
+            List<Future<String>> results = new ArrayList<>();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < CHAINS; i++) {
+                    AtomicInteger attempts = new AtomicInteger();
+                    results.add(executor.submit(() -> agentExecutor.execute(
+                            AgentExecutor.AgentExecutionRequest.<String>builder()
+                                    .agentName("MatchingAgent")
+                                    .inputSnapshot("resume")
+                                    .action(() -> {
+                                        // First attempt fails so every chain also sleeps in the retry backoff
+                                        if (attempts.incrementAndGet() == 1) {
+                                            throw new TransientAgentException("upstream busy");
+                                        }
+                                        return llmClient.generate("prompt");
+                                    })
+                                    .build()
+                    )));
+                }
+            }
+            for (Future<String> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS)).isEqualTo("{\"ok\":true}");
+            }
+            return null;
+        });
+
+        assertThat(pinned).as(describe(pinned)).isEmpty();
+    }
+
+    private static List<RecordedEvent> recordPinning(Callable<Void> workload) throws Exception {
+        List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable(PINNED).withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent(PINNED, pinned::add);
+            recording.startAsync();
+            workload.call();
+            // Flushes and dispatches everything recorded so far
+            recording.stop();
+        }
+        return pinned;
+    }
+
+    private static LlmClient llmClient(ChatClient chatClient) {
+        LlmProperties llmProperties = new LlmProperties();
+        // Hedge before the first model answers, so losers get cancelled mid-call
+        llmProperties.setHedgeDelayMs(20);
+        llmProperties.setMaxInFlight(2);
+        llmProperties.setMaxConcurrentRequests(CHAINS);
+        SimpleAsyncTaskExecutor llmRequestExecutor = new SimpleAsyncTaskExecutor("llm-");
+        llmRequestExecutor.setVirtualThreads(true);
+        llmRequestExecutor.setConcurrencyLimit(llmProperties.getMaxConcurrentRequests());
+        return new LlmClient(chatClient, llmProperties, llmRequestExecutor,
+                new ModelHealthRegistry(llmProperties), new ObjectMapper());
+    }
+
+    private static AgentExecutor agentExecutor() {
+        RetryTemplate retryTemplate = new AgentRetryConfig().agentRetryTemplate();
+        FixedBackOffPolicy backOff = new FixedBackOffPolicy();
+        backOff.setBackOffPeriod(10);
+        retryTemplate.setBackOffPolicy(backOff);
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        ResumeAgentLogRepository resumeAgentLogRepository = mock(ResumeAgentLogRepository.class);
+        when(resumeAgentLogRepository.save(any(ResumeAgentLog.class))).thenAnswer(invocation -> {
+            // Stands in for the JDBC round trip inside the log transaction
+            sleep(1);
+            return invocation.getArgument(0);
+        });
+        ThreadPoolTaskExecutor tokenEstimationExecutor = new ThreadPoolTaskExecutor();
+        tokenEstimationExecutor.initialize();
+        return new AgentExecutor(retryTemplate, resumeAgentLogRepository, transactionManager,
+                mock(UserAgentStatsService.class), tokenEstimationExecutor);
+    }
+
+    private static ChatClient blockingChatClient(long latencyMs) {
+        ChatClient chatClient = mock(ChatClient.class);
+        ChatClient.ChatClientRequestSpec request = mock(ChatClient.ChatClientRequestSpec.class);
+        ChatClient.CallResponseSpec call = mock(ChatClient.CallResponseSpec.class);
+        when(chatClient.prompt(anyString())).thenReturn(request);
+        when(request.options(any())).thenReturn(request);
+        when(request.call()).thenReturn(call);
+        when(call.chatResponse()).thenAnswer(invocation -> {
+            // Blocking HTTP call; a cancelled hedge is interrupted here
+            Thread.sleep(latencyMs);
+            return new ChatResponse(List.of(new Generation(new AssistantMessage("{\"ok\":true}"))));
+        });
+        return chatClient;
+    }
+
+    private static String describe(List<RecordedEvent> pinned) {
+        return pinned.stream()
+                .map(event -> event.getStackTrace() == null ? "<no stack>" : event.getStackTrace().getFrames().stream()
+                        .limit(12)
+                        .map(RecordedFrame::toString)
+                        .collect(Collectors.joining("\n  ")))
+                .collect(Collectors.joining("\n---\n", "pinned virtual threads:\n", ""));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.resumeagent.ai.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.resumeagent.entity.model.MasterResumeJson;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class AgentPayloadTest {
+
+    private final ObjectMapper objectMapper = spy(JsonMapper.builder().findAndAddModules().build());
+
+    @Test
+    void serializesOnceForPromptTokensAndSnapshot() throws JsonProcessingException {
+        MasterResumeJson resume = resume(3);
+        AgentPayload<MasterResumeJson> payload = AgentPayload.of(objectMapper, resume);
+
+        String json = payload.json();
+        int tokens = payload.tokens();
+
+        assertThat(payload.snapshot()).isSameAs(json);
+        assertThat(payload.json()).isSameAs(json);
+        assertThat(payload.tokens()).isEqualTo(tokens).isEqualTo(TokenCounter.countTokens(json));
+        assertThat(json).isEqualTo(JsonMapper.builder().findAndAddModules().build().writeValueAsString(resume));
+        verify(objectMapper, times(1)).writeValueAsString(any());
+    }
+
+    @Test
+    void serializesNothingUntilFirstUse() throws JsonProcessingException {
+        AgentPayload<MasterResumeJson> payload = AgentPayload.of(objectMapper, resume(1));
+
+        assertThat(payload.value()).isNotNull();
+        verify(objectMapper, never()).writeValueAsString(any());
+    }
+
+    @Test
+    void reusesJsonProducedElsewhere() throws JsonProcessingException {
+        AgentPayload<String> payload = AgentPayload.of("value", "{\"summary\":\"reused\"}");
+
+        assertThat(payload.json()).isEqualTo("{\"summary\":\"reused\"}");
+        assertThat(payload.tokens()).isEqualTo(TokenCounter.countTokens("{\"summary\":\"reused\"}"));
+        assertThat(AgentPayload.of("value", null).tokens()).isZero();
+    }
+
+    @Test
+    void snapshotIsNullWhenSerializationFails() throws JsonProcessingException {
+        doThrow(new JsonProcessingException("boom") {
+        }).when(objectMapper).writeValueAsString(any());
+
+        assertThat(AgentPayload.of(objectMapper, resume(1)).snapshot()).isNull();
+    }
+
+    /**
+     * Rough stand-in for an allocation benchmark: the shared payload must allocate less
+     * than serializing separately for the token count, the log snapshot and the prompt.
+     */
+    @Test
+    void sharedPayloadAllocatesLessThanSerializingPerUse() throws JsonProcessingException {
+        MasterResumeJson resume = resume(20);
+        ObjectMapper mapper = JsonMapper.builder().findAndAddModules().build();
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        // Warm up Jackson and the BPE encoder
+        for (int i = 0; i < 50; i++) {
+            serializePerUse(mapper, resume);
+            sharePayload(mapper, resume);
+        }
+
+        long start = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 50; i++) {
+            serializePerUse(mapper, resume);
+        }
+        long perUse = threads.getThreadAllocatedBytes(threadId) - start;
+
+        start = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 50; i++) {
+            sharePayload(mapper, resume);
+        }
+        long shared = threads.getThreadAllocatedBytes(threadId) - start;
+
+        assertThat(shared).isLessThan(perUse);
+    }
+
+    private static int serializePerUse(ObjectMapper mapper, MasterResumeJson resume) throws JsonProcessingException {
+        int tokens = TokenCounter.countTokens(mapper.writeValueAsString(resume));
+        String snapshot = mapper.writeValueAsString(resume);
+        String prompt = mapper.writeValueAsString(resume);
+        return tokens + snapshot.length() + prompt.length();
+    }
+
+    private static int sharePayload(ObjectMapper mapper, MasterResumeJson resume) throws JsonProcessingException {
+        AgentPayload<MasterResumeJson> payload = AgentPayload.of(mapper, resume);
+        return payload.tokens() + payload.snapshot().length() + payload.json().length();
+    }
+
+    private static MasterResumeJson resume(int experiences) {
+        MasterResumeJson resume = new MasterResumeJson();
+        resume.setSummary("Backend engineer building high-throughput Java services.");
+        List<MasterResumeJson.Experience> experience = new ArrayList<>();
+        for (int i = 0; i < experiences; i++) {
+            MasterResumeJson.Experience entry = new MasterResumeJson.Experience();
+            entry.setRole("Engineer " + i);
+            entry.setOrganization("Company " + i);
+            entry.setAchievements(List.of("Cut p99 latency by 40% with keyset pagination and composite indexes."));
+            experience.add(entry);
+        }
+        resume.setExperience(experience);
+        return resume;
+    }
+}
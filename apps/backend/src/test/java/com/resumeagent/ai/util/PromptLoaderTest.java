@@ -0,0 +1,111 @@
+package com.resumeagent.ai.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PromptLoaderTest {
+
+    @Test
+    void compilesEveryAgentPromptWithItsPlaceholders() {
+        PromptLoader loader = new PromptLoader(false);
+        loader.precompile();
+
+        assertThat(loader.template("job_description_analyzer.prompt").getPlaceholders())
+                .containsExactly("JOB_DESCRIPTION");
+        assertThat(loader.template("matching_agent.prompt").getPlaceholders())
+                .containsExactlyInAnyOrder("RESUME_TEXT", "JOB_DESCRIPTION");
+        assertThat(loader.template("resume_rewrite_agent.prompt").getPlaceholders())
+                .containsExactlyInAnyOrder("MASTER_RESUME_JSON", "JOB_DESCRIPTION_ANALYSIS_JSON", "MATCHING_AGENT_JSON");
+        assertThat(loader.template("ats_optimization_agent.prompt").getPlaceholders())
+                .containsExactly("REWRITTEN_RESUME_JSON");
+        assertThat(loader.template("resume_parser.prompt").getPlaceholders())
+                .containsExactly("RESUME_TEXT");
+    }
+
+    @Test
+    void returnsTheCompiledTemplateWithoutReloading() {
+        PromptLoader loader = new PromptLoader(false);
+        loader.precompile();
+
+        assertThat(loader.template("matching_agent.prompt")).isSameAs(loader.template("matching_agent.prompt"));
+    }
+
+    @Test
+    void unknownPromptFails() {
+        PromptLoader loader = new PromptLoader(false);
+
+        assertThatThrownBy(() -> loader.template("missing.prompt"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("missing.prompt");
+    }
+
+    @Test
+    void hotReloadRecompilesChangedPrompt(@TempDir Path classpathRoot) throws Exception {
+        Path prompt = writePrompt(classpathRoot, "Hello {{NAME}}");
+
+        withClasspath(classpathRoot, () -> {
+            PromptLoader loader = new PromptLoader(true);
+            loader.precompile();
+            assertThat(loader.template("greeting.prompt").render(Map.of("NAME", "Jane"))).isEqualTo("Hello Jane");
+
+            rewrite(prompt, "Bye {{NAME}}");
+
+            assertThat(loader.template("greeting.prompt").render(Map.of("NAME", "Jane"))).isEqualTo("Bye Jane");
+            return null;
+        });
+    }
+
+    @Test
+    void withoutHotReloadChangesAreIgnored(@TempDir Path classpathRoot) throws Exception {
+        Path prompt = writePrompt(classpathRoot, "Hello {{NAME}}");
+
+        withClasspath(classpathRoot, () -> {
+            PromptLoader loader = new PromptLoader(false);
+            loader.precompile();
+
+            rewrite(prompt, "Bye {{NAME}}");
+
+            assertThat(loader.template("greeting.prompt").render(Map.of("NAME", "Jane"))).isEqualTo("Hello Jane");
+            return null;
+        });
+    }
+
+    private static Path writePrompt(Path classpathRoot, String content) throws IOException {
+        Path prompt = classpathRoot.resolve("prompts/greeting.prompt");
+        Files.createDirectories(prompt.getParent());
+        return Files.writeString(prompt, content, StandardCharsets.UTF_8);
+    }
+
+    private static void rewrite(Path prompt, String content) throws IOException {
+        long previous = Files.getLastModifiedTime(prompt).toMillis();
+        Files.writeString(prompt, content, StandardCharsets.UTF_8);
+        // Coarse file system timestamps could otherwise hide the change
+        prompt.toFile().setLastModified(previous + 2000);
+    }
+
+    /**
+     * Runs the action with only {@code classpathRoot} (plus the parent loader) on the context classpath.
+     */
+    private static void withClasspath(Path classpathRoot, Callable<Void> action) throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classpathRoot.toUri().toURL()}, null)) {
+            thread.setContextClassLoader(loader);
+            action.call();
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.resumeagent.ai.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PromptTemplateTest {
+
+    @Test
+    void rendersLikeChainedReplace() {
+        String source = "Resume:\n{{RESUME_TEXT}}\n\nJob:\n{{JOB_DESCRIPTION}}\nReturn JSON {\"a\": 1}";
+        Map<String, String> values = Map.of("RESUME_TEXT", "Jane, Java", "JOB_DESCRIPTION", "Backend role");
+
+        String rendered = PromptTemplate.compile("matching_agent.prompt", source).render(values);
+
+        assertThat(rendered).isEqualTo(source
+                .replace("{{RESUME_TEXT}}", "Jane, Java")
+                .replace("{{JOB_DESCRIPTION}}", "Backend role"));
+    }
+
+    @Test
+    void handlesRepeatedAdjacentAndEdgePlaceholders() {
+        PromptTemplate template = PromptTemplate.compile("t", "{{A}}{{B}} and {{A}}");
+
+        assertThat(template.render(Map.of("A", "x", "B", "y"))).isEqualTo("xy and x");
+        assertThat(template.getPlaceholders()).containsExactly("A", "B");
+    }
+
+    @Test
+    void insertedValuesAreNotScannedForPlaceholders() {
+        PromptTemplate template = PromptTemplate.compile("t", "{{FIRST}} / {{SECOND}}");
+
+        assertThat(template.render(Map.of("FIRST", "{{SECOND}}", "SECOND", "$1 \\n")))
+                .isEqualTo("{{SECOND}} / $1 \\n");
+    }
+
+    @Test
+    void leavesNonPlaceholderBracesAlone() {
+        String source = "{{lower}} {{ SPACED }} {single} {{}}";
+
+        PromptTemplate template = PromptTemplate.compile("t", source);
+
+        assertThat(template.getPlaceholders()).isEmpty();
+        assertThat(template.render(Map.of())).isEqualTo(source);
+    }
+
+    @Test
+    void missingValueNamesThePlaceholderAndPrompt() {
+        PromptTemplate template = PromptTemplate.compile("resume_parser.prompt", "Parse {{RESUME_TEXT}}");
+
+        assertThatThrownBy(() -> template.render(Map.of("OTHER", "x")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("{{RESUME_TEXT}}")
+                .hasMessageContaining("resume_parser.prompt");
+    }
+}
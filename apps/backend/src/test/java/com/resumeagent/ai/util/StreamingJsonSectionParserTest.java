@@ -0,0 +1,117 @@
+package com.resumeagent.ai.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingJsonSectionParserTest {
+
+    private static final String RESUME = """
+            {
+              "header": {"fullName": "Zoë \\"Z\\" Ødegård", "title": "Backend \\\\ Platform"},
+              "summary": "Builds {streaming} APIs, 10\\u00b0 faster \\ud83d\\ude80 and \\n more",
+              "experience": [
+                {"company": "Acme", "bullets": ["Cut p99 by 40%", "Led [migration]"]},
+                {"company": "Globex", "bullets": [], "tags": [["java", "go"], []]}
+              ],
+              "skills": ["Java", "Kafka 🚀"],
+              "years": 7,
+              "remote": true,
+              "manager": null
+            }
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void reportsEveryTopLevelSectionAndArrayElement() throws Exception {
+        List<Section> sections = parse(List.of(RESUME));
+
+        assertThat(sections).extracting(Section::name).containsExactly(
+                "header", "summary",
+                "experience[0]", "experience[1]", "experience",
+                "skills[0]", "skills[1]", "skills",
+                "years", "remote", "manager"
+        );
+        JsonNode expected = objectMapper.readTree(RESUME);
+        assertThat(value(sections, "header")).isEqualTo(expected.get("header"));
+        assertThat(value(sections, "summary").asText()).isEqualTo("Builds {streaming} APIs, 10° faster 🚀 and \n more");
+        assertThat(value(sections, "experience[1]")).isEqualTo(expected.get("experience").get(1));
+        assertThat(value(sections, "experience")).isEqualTo(expected.get("experience"));
+        assertThat(value(sections, "years").asInt()).isEqualTo(7);
+        assertThat(value(sections, "remote").asBoolean()).isTrue();
+        assertThat(value(sections, "manager").isNull()).isTrue();
+    }
+
+    @Test
+    void chunkBoundaryAnywhereGivesTheSameSections() {
+        List<Section> whole = parse(List.of(RESUME));
+
+        // Every split size cuts strings, escape sequences, \\u escapes and nested arrays somewhere
+        for (int size = 1; size <= 16; size++) {
+            assertThat(parse(split(RESUME, size))).as("chunk size %d", size).isEqualTo(whole);
+        }
+    }
+
+    @Test
+    void splitInsideEscapesAndUnicodeKeepsTheText() {
+        List<Section> sections = parse(List.of(
+                "{\"summary\": \"quote \\", "\" backslash \\\\", " unicode \\u00", "e9 surrogate \\ud83d", "\\ude80 Zo", "ë\"}"
+        ));
+
+        assertThat(value(sections, "summary").asText()).isEqualTo("quote \" backslash \\ unicode é surrogate 🚀 Zoë");
+    }
+
+    @Test
+    void ignoresMarkdownFenceAndChatterAroundTheObject() {
+        List<Section> sections = parse(List.of(
+                "Sure! Here is the JSON:\n```js", "on\n{\"summary\": \"ok\"}", "\n```\nLet me know {if} that helps"
+        ));
+
+        assertThat(sections).containsExactly(new Section("summary", objectMapper.getNodeFactory().textNode("ok")));
+    }
+
+    @Test
+    void truncatedInputReportsOnlyCompletedSections() {
+        String truncated = RESUME.substring(0, RESUME.indexOf("\"Globex\""));
+
+        List<Section> sections = parse(split(truncated, 7));
+
+        assertThat(sections).extracting(Section::name).containsExactly("header", "summary", "experience[0]");
+    }
+
+    @Test
+    void malformedInputStopsReportingWithoutThrowing() {
+        List<Section> sections = parse(List.of("{\"summary\": \"ok\", \"skills\": [\"Java\",, ]", ", \"years\": 7}"));
+
+        assertThat(sections).extracting(Section::name).containsExactly("summary", "skills[0]");
+    }
+
+    private List<Section> parse(List<String> chunks) {
+        List<Section> sections = new ArrayList<>();
+        StreamingJsonSectionParser parser = new StreamingJsonSectionParser(objectMapper, (section, index, value) ->
+                sections.add(new Section(index == null ? section : section + "[" + index + "]", value)));
+        chunks.forEach(parser::feed);
+        return sections;
+    }
+
+    private static List<String> split(String text, int size) {
+        List<String> chunks = new ArrayList<>();
+        for (int start = 0; start < text.length(); start += size) {
+            chunks.add(text.substring(start, Math.min(text.length(), start + size)));
+        }
+        return chunks;
+    }
+
+    private static JsonNode value(List<Section> sections, String name) {
+        return sections.stream().filter(section -> section.name().equals(name)).findFirst().orElseThrow().value();
+    }
+
+    private record Section(String name, JsonNode value) {
+    }
+}
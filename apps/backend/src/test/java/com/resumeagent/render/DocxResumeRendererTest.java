@@ -0,0 +1,147 @@
+package com.resumeagent.render;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.resumeagent.entity.model.MasterResumeJson;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTPageMar;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DocxResumeRendererTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    private final ResumeTemplateConfig templates = new ResumeTemplateConfig();
+    private final DocxResumeRenderer renderer = new DocxResumeRenderer(
+            List.of(templates.blueResumeTemplate(), templates.greenResumeTemplate()));
+
+    /**
+     * The golden files are word/document.xml as rendered by the per-template services
+     * (BlueResumeDocxService / GreenResumeDocxService) that DocxResumeRenderer replaced.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"blue", "green"})
+    void rendersTheSameDocumentXmlAsThePerTemplateServices(String templateId) throws IOException {
+        String documentXml = documentXml(render(templateId));
+
+        assertThat(documentXml).isEqualTo(resource("render/" + templateId + "-document.xml"));
+    }
+
+    @Test
+    void rendersAreRepeatable() throws IOException {
+        assertThat(documentXml(render("green"))).isEqualTo(documentXml(render("green")));
+    }
+
+    @Test
+    void rejectsUnknownTemplate() {
+        assertThatThrownBy(() -> renderer.render("purple", masterResume(), new ByteArrayOutputStream()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("purple");
+    }
+
+    @Test
+    void rejectsDuplicateTemplateIds() {
+        assertThatThrownBy(() -> new DocxResumeRenderer(
+                List.of(templates.blueResumeTemplate(), templates.blueResumeTemplate())))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void rendersIntoAnEmptiedCopyOfTheTemplatePackage() throws IOException {
+        DocxResumeRenderer fromTemplate = new DocxResumeRenderer(
+                List.of(templates.blueResumeTemplate()), new ByteArrayResource(templateDocx()));
+
+        String first = documentXml(render(fromTemplate, "blue"));
+
+        assertThat(first).contains("w:top=\"1440\"", "Jane Doe").doesNotContain("Template placeholder");
+        // The skeleton is re-opened per render, so one render cannot leak into the next
+        assertThat(documentXml(render(fromTemplate, "blue"))).isEqualTo(first);
+    }
+
+    @Test
+    void missingTemplateFallsBackToTheDefaultPageLayout() throws IOException {
+        DocxResumeRenderer withoutTemplate = new DocxResumeRenderer(
+                List.of(templates.blueResumeTemplate()), new ClassPathResource("templates/resume/missing.docx"));
+
+        assertThat(documentXml(render(withoutTemplate, "blue"))).isEqualTo(resource("render/blue-document.xml"));
+    }
+
+    @Test
+    void unreadableTemplateFailsAtConstruction() {
+        assertThatThrownBy(() -> new DocxResumeRenderer(
+                List.of(templates.blueResumeTemplate()),
+                new ByteArrayResource("not a docx".getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Failed to load resume template");
+    }
+
+    private byte[] render(String templateId) throws IOException {
+        return render(renderer, templateId);
+    }
+
+    private static byte[] render(DocxResumeRenderer renderer, String templateId) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        renderer.render(templateId, masterResume(), output);
+        return output.toByteArray();
+    }
+
+    private static byte[] templateDocx() throws IOException {
+        try (XWPFDocument document = new XWPFDocument();
+             ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+            document.createParagraph().createRun().setText("Template placeholder");
+            document.createParagraph().createRun().setText("Template placeholder 2");
+            CTPageMar pageMar = document.getDocument().getBody().addNewSectPr().addNewPgMar();
+            pageMar.setTop(BigInteger.valueOf(1440));
+            pageMar.setBottom(BigInteger.valueOf(1440));
+            document.write(output);
+            return output.toByteArray();
+        }
+    }
+
+    static MasterResumeJson masterResume() throws IOException {
+        try (InputStream input = resourceStream("render/master-resume.json")) {
+            return OBJECT_MAPPER.readValue(input, MasterResumeJson.class);
+        }
+    }
+
+    private static String documentXml(byte[] docx) throws IOException {
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(docx))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.getName().equals("word/document.xml")) {
+                    return new String(zip.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            }
+        }
+        throw new AssertionError("word/document.xml missing from rendered DOCX");
+    }
+
+    private static String resource(String path) throws IOException {
+        try (InputStream input = resourceStream(path)) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static InputStream resourceStream(String path) {
+        InputStream input = DocxResumeRendererTest.class.getClassLoader().getResourceAsStream(path);
+        assertThat(input).as(path).isNotNull();
+        return input;
+    }
+}
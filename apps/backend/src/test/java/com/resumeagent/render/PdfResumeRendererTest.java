@@ -0,0 +1,94 @@
+package com.resumeagent.render;
+
+import com.resumeagent.entity.model.MasterResumeJson;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PdfResumeRendererTest {
+
+    private final ResumeTemplateConfig templates = new ResumeTemplateConfig();
+    private final PdfResumeRenderer renderer = new PdfResumeRenderer(
+            List.of(templates.blueResumeTemplate(), templates.greenResumeTemplate()));
+
+    @Test
+    void replacesCharactersOutsideWinAnsiAndKeepsLatinAccents() throws IOException {
+        MasterResumeJson resume = DocxResumeRendererTest.masterResume();
+
+        try (PDDocument pdf = Loader.loadPDF(render("blue", resume))) {
+            String text = new PDFTextStripper().getText(pdf);
+
+            assertThat(text).contains("Jane Doe", "café, naïve", "Senior Software Engineer — Distributed Systems");
+            assertThat(text).contains("Ünïcödé test: café, naïve, ??.");
+            assertThat(text).doesNotContain("中", "文");
+        }
+    }
+
+    @Test
+    void shortResumeFitsOnOnePage() throws IOException {
+        try (PDDocument pdf = Loader.loadPDF(render("green", DocxResumeRendererTest.masterResume()))) {
+            assertThat(pdf.getNumberOfPages()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void longResumeBreaksOntoMorePagesWithoutLosingText() throws IOException {
+        MasterResumeJson resume = DocxResumeRendererTest.masterResume();
+        List<MasterResumeJson.Experience> experience = new ArrayList<>();
+        for (int i = 1; i <= 40; i++) {
+            MasterResumeJson.Experience entry = new MasterResumeJson.Experience();
+            entry.setRole("Engineer " + i);
+            entry.setOrganization("Company " + i);
+            entry.setStartDate(LocalDate.of(2000 + i % 20, 1, 1));
+            entry.setAchievements(List.of(
+                    "Delivered milestone " + i + " of a long-running platform migration across several teams.",
+                    "Kept the service within its latency budget while traffic grew quarter over quarter."
+            ));
+            experience.add(entry);
+        }
+        resume.setExperience(experience);
+
+        for (String templateId : renderer.templateIds()) {
+            try (PDDocument pdf = Loader.loadPDF(render(templateId, resume))) {
+                assertThat(pdf.getNumberOfPages()).as(templateId).isGreaterThan(1);
+
+                PDFTextStripper stripper = new PDFTextStripper();
+                String text = stripper.getText(pdf);
+                for (int i = 1; i <= 40; i++) {
+                    assertThat(text).as(templateId).contains("Delivered milestone " + i + " of");
+                }
+
+                // Header on the first page, the trailing projects section on the last one
+                stripper.setStartPage(1);
+                stripper.setEndPage(1);
+                assertThat(stripper.getText(pdf)).as(templateId).contains("Jane Doe").doesNotContain("kv-store");
+                stripper.setStartPage(pdf.getNumberOfPages());
+                stripper.setEndPage(pdf.getNumberOfPages());
+                assertThat(stripper.getText(pdf)).as(templateId).contains("kv-store").doesNotContain("Jane Doe");
+            }
+        }
+    }
+
+    @Test
+    void rejectsUnknownTemplate() {
+        assertThatThrownBy(() -> render("purple", new MasterResumeJson()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("purple");
+    }
+
+    private byte[] render(String templateId, MasterResumeJson resume) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        renderer.render(templateId, resume, output);
+        return output.toByteArray();
+    }
+}
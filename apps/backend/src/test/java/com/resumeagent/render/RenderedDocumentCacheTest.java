@@ -0,0 +1,286 @@
+package com.resumeagent.render;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeagent.config.RenderCacheProperties;
+import com.resumeagent.entity.model.MasterResumeJson;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RenderedDocumentCacheTest {
+
+    private static final String ETAG = "\"0123abcd\"";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void matchesHandlesListsWeakValidatorsAndWildcard() {
+        assertThat(RenderedDocumentCache.matches(null, ETAG)).isFalse();
+        assertThat(RenderedDocumentCache.matches(" ", ETAG)).isFalse();
+        assertThat(RenderedDocumentCache.matches(ETAG, ETAG)).isTrue();
+        assertThat(RenderedDocumentCache.matches("\"other\", " + ETAG, ETAG)).isTrue();
+        assertThat(RenderedDocumentCache.matches("W/" + ETAG, ETAG)).isTrue();
+        assertThat(RenderedDocumentCache.matches("*", ETAG)).isTrue();
+        assertThat(RenderedDocumentCache.matches("\"other\"", ETAG)).isFalse();
+        assertThat(RenderedDocumentCache.matches("0123abcd", ETAG)).isFalse();
+    }
+
+    @Test
+    void eTagDependsOnTemplateAndContent() {
+        RenderedDocumentCache cache = cache(true, null);
+        MasterResumeJson resume = resume("Summary");
+
+        assertThat(cache.eTag("green", resume)).isEqualTo(cache.eTag("green", resume("Summary")));
+        assertThat(cache.eTag("green", resume)).isNotEqualTo(cache.eTag("blue", resume));
+        assertThat(cache.eTag("green", resume)).isNotEqualTo(cache.eTag("green", resume("Edited")));
+    }
+
+    @Test
+    void findMissesUntilRenderedThenServesCachedBytes() throws IOException {
+        RenderedDocumentCache cache = cache(true, null);
+        UUID resumeId = UUID.randomUUID();
+        AtomicInteger renders = new AtomicInteger();
+
+        assertThat(cache.find(resumeId, "green", ETAG)).isEmpty();
+
+        RenderedDocumentCache.RenderedDocument rendered =
+                cache.render(resumeId, "green", ETAG, resume("Summary"), countingRenderer(renders, "docx-bytes"));
+
+        assertThat(rendered.contentLength()).isEqualTo("docx-bytes".length());
+        assertThat(write(rendered)).isEqualTo("docx-bytes");
+        assertThat(cache.find(resumeId, "green", ETAG)).hasValueSatisfying(found ->
+                assertThat(write(found)).isEqualTo("docx-bytes"));
+        assertThat(cache.find(resumeId, "blue", ETAG)).isEmpty();
+
+        cache.get(resumeId, "green", ETAG, resume("Summary"), countingRenderer(renders, "other"));
+        assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    void findServesDiskTierWithoutMemoryEntry() throws IOException {
+        RenderedDocumentCache writer = cache(true, tempDir);
+        writer.clearDiskTier();
+        UUID resumeId = UUID.randomUUID();
+        writer.render(resumeId, "green", ETAG, resume("Summary"), countingRenderer(new AtomicInteger(), "from-disk"));
+
+        // Fresh instance: empty memory tier, same directory
+        RenderedDocumentCache reader = cache(true, tempDir);
+
+        assertThat(reader.find(resumeId, "green", ETAG)).hasValueSatisfying(found -> {
+            assertThat(found.contentLength()).isEqualTo("from-disk".length());
+            assertThat(write(found)).isEqualTo("from-disk");
+        });
+    }
+
+    @Test
+    void invalidateDropsEveryRenderingOfThatResumeOnly() throws IOException {
+        RenderedDocumentCache cache = cache(true, tempDir);
+        cache.clearDiskTier();
+        UUID resumeId = UUID.randomUUID();
+        UUID otherResumeId = UUID.randomUUID();
+        AtomicInteger renders = new AtomicInteger();
+        cache.render(resumeId, "green", ETAG, resume("Summary"), countingRenderer(renders, "green"));
+        cache.render(resumeId, "blue", ETAG, resume("Summary"), countingRenderer(renders, "blue"));
+        cache.render(otherResumeId, "green", ETAG, resume("Summary"), countingRenderer(renders, "other"));
+
+        cache.invalidate(resumeId);
+
+        assertThat(cache.find(resumeId, "green", ETAG)).isEmpty();
+        assertThat(cache.find(resumeId, "blue", ETAG)).isEmpty();
+        assertThat(cache.find(otherResumeId, "green", ETAG)).isPresent();
+    }
+
+    @Test
+    void disabledCacheNeverStoresAndRendersLazily() throws IOException {
+        RenderedDocumentCache cache = cache(false, null);
+        UUID resumeId = UUID.randomUUID();
+        AtomicInteger renders = new AtomicInteger();
+
+        RenderedDocumentCache.RenderedDocument deferred =
+                cache.get(resumeId, "green", ETAG, resume("Summary"), countingRenderer(renders, "lazy"));
+
+        assertThat(deferred.contentLength()).isEqualTo(-1);
+        assertThat(renders).hasValue(0);
+        assertThat(write(deferred)).isEqualTo("lazy");
+        assertThat(renders).hasValue(1);
+        assertThat(cache.find(resumeId, "green", ETAG)).isEmpty();
+    }
+
+    @Test
+    void concurrentMissesForSameKeyRenderOnce() throws Exception {
+        RenderedDocumentCache cache = cache(true, null);
+        UUID resumeId = UUID.randomUUID();
+        AtomicInteger renders = new AtomicInteger();
+        CountDownLatch rendering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RenderedDocumentCache.Renderer slowRenderer = (resumeJson, out) -> {
+            renders.incrementAndGet();
+            rendering.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            out.write("slow".getBytes(StandardCharsets.UTF_8));
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<RenderedDocumentCache.RenderedDocument> first =
+                    executor.submit(() -> cache.render(resumeId, "green", ETAG, resume("Summary"), slowRenderer));
+            assertThat(rendering.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<RenderedDocumentCache.RenderedDocument> second =
+                    executor.submit(() -> cache.render(resumeId, "green", ETAG, resume("Summary"), slowRenderer));
+            release.countDown();
+
+            assertThat(write(first.get(5, TimeUnit.SECONDS))).isEqualTo("slow");
+            assertThat(write(second.get(5, TimeUnit.SECONDS))).isEqualTo("slow");
+            assertThat(renders).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void renderInFlightBlocksNeitherLookupsNorOtherKeys() throws Exception {
+        RenderedDocumentCache cache = cache(true, null);
+        UUID resumeId = UUID.randomUUID();
+        UUID otherResumeId = UUID.randomUUID();
+        AtomicInteger renders = new AtomicInteger();
+        CountDownLatch rendering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<RenderedDocumentCache.RenderedDocument> slow = executor.submit(() -> cache.render(
+                    resumeId, "green", ETAG, resume("Summary"), blockingRenderer(rendering, release, "slow")));
+            assertThat(rendering.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Both would wait for the slow render if it held a cache lock
+            Future<RenderedDocumentCache.RenderedDocument> other = executor.submit(() -> cache.render(
+                    otherResumeId, "green", ETAG, resume("Summary"), countingRenderer(renders, "other")));
+            assertThat(write(other.get(5, TimeUnit.SECONDS))).isEqualTo("other");
+            assertThat(cache.find(resumeId, "green", ETAG)).isEmpty();
+
+            release.countDown();
+            assertThat(write(slow.get(5, TimeUnit.SECONDS))).isEqualTo("slow");
+            assertThat(cache.find(resumeId, "green", ETAG)).isPresent();
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentMissesShareARenderFailureThenRetry() throws Exception {
+        RenderedDocumentCache cache = cache(true, null);
+        UUID resumeId = UUID.randomUUID();
+        AtomicInteger renders = new AtomicInteger();
+        CountDownLatch rendering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RenderedDocumentCache.Renderer failingRenderer = (resumeJson, out) -> {
+            renders.incrementAndGet();
+            rendering.countDown();
+            await(release);
+            throw new IOException("template broken");
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<RenderedDocumentCache.RenderedDocument> first =
+                    executor.submit(() -> cache.render(resumeId, "green", ETAG, resume("Summary"), failingRenderer));
+            assertThat(rendering.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<RenderedDocumentCache.RenderedDocument> second =
+                    executor.submit(() -> cache.render(resumeId, "green", ETAG, resume("Summary"), failingRenderer));
+            release.countDown();
+
+            assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("template broken");
+            assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("template broken");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // The failure was not cached: the next miss renders again
+        RenderedDocumentCache.RenderedDocument retried =
+                cache.render(resumeId, "green", ETAG, resume("Summary"), countingRenderer(renders, "fixed"));
+        assertThat(write(retried)).isEqualTo("fixed");
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    void renderFailurePropagatesAndCachesNothing() {
+        RenderedDocumentCache cache = cache(true, null);
+        UUID resumeId = UUID.randomUUID();
+
+        assertThatThrownBy(() -> cache.render(resumeId, "green", ETAG, resume("Summary"), (resumeJson, out) -> {
+            throw new IOException("template broken");
+        })).isInstanceOf(IOException.class).hasMessage("template broken");
+        assertThat(cache.find(resumeId, "green", ETAG)).isEmpty();
+    }
+
+    private RenderedDocumentCache cache(boolean enabled, Path diskDirectory) {
+        RenderCacheProperties properties = new RenderCacheProperties();
+        properties.setEnabled(enabled);
+        properties.setMemoryMaxBytes(1024 * 1024);
+        properties.setDiskDirectory(diskDirectory == null ? "" : diskDirectory.toString());
+        return new RenderedDocumentCache(new ObjectMapper(), properties);
+    }
+
+    private static MasterResumeJson resume(String summary) {
+        MasterResumeJson resume = new MasterResumeJson();
+        resume.setSummary(summary);
+        return resume;
+    }
+
+    private static RenderedDocumentCache.Renderer countingRenderer(AtomicInteger renders, String content) {
+        return (resumeJson, out) -> {
+            renders.incrementAndGet();
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private static RenderedDocumentCache.Renderer blockingRenderer(
+            CountDownLatch rendering,
+            CountDownLatch release,
+            String content
+    ) {
+        return (resumeJson, out) -> {
+            rendering.countDown();
+            await(release);
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String write(RenderedDocumentCache.RenderedDocument document) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            document.writeTo(out);
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.resumeagent.security;
+
+import com.resumeagent.config.JwtProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class JwtTokenProviderTest {
+
+    private static final UserDetails USER = User.withUsername("user@example.com")
+            .password("unused")
+            .roles("ADMIN")
+            .build();
+
+    private final JwtProperties jwtProperties = jwtProperties();
+    private final JwtTokenProvider jwtTokenProvider = jwtTokenProvider(jwtProperties);
+
+    @Test
+    void verifyReturnsTypedClaimsForAnIssuedToken() {
+        String token = jwtTokenProvider.generateAccessToken(USER);
+
+        VerifiedToken verified = jwtTokenProvider.verify(token).orElseThrow();
+
+        assertThat(verified.subject()).isEqualTo("user@example.com");
+        assertThat(verified.role()).isEqualTo("ROLE_ADMIN");
+        assertThat(verified.isType("access")).isTrue();
+        assertThat(verified.isType("refresh")).isFalse();
+        assertThat(verified.expiresAt()).isCloseTo(
+                Instant.now().plusMillis(jwtProperties.getAccessTokenExpirationMs()), within(2, ChronoUnit.SECONDS));
+        assertThat(jwtTokenProvider.verify(jwtTokenProvider.generateRefreshToken(USER)))
+                .hasValueSatisfying(refresh -> assertThat(refresh.isType("refresh")).isTrue());
+    }
+
+    @Test
+    void repeatedVerificationIsServedFromTheCache() {
+        String token = jwtTokenProvider.generateAccessToken(USER);
+
+        VerifiedToken first = jwtTokenProvider.verify(token).orElseThrow();
+
+        // A fresh parse builds a new record, so the same instance means no second signature check
+        assertThat(jwtTokenProvider.verify(token)).containsSame(first);
+        assertThat(jwtTokenProvider.verify(new String(token.toCharArray()))).containsSame(first);
+    }
+
+    @Test
+    void cachedTokenIsRejectedOnceItExpires() throws InterruptedException {
+        jwtProperties.setAccessTokenExpirationMs(1000);
+        String token = jwtTokenProvider.generateAccessToken(USER);
+        VerifiedToken verified = jwtTokenProvider.verify(token).orElseThrow();
+
+        Thread.sleep(Math.max(0, verified.expiresAt().toEpochMilli() - System.currentTimeMillis()) + 50);
+
+        assertThat(jwtTokenProvider.verify(token)).isEmpty();
+    }
+
+    @Test
+    void rejectsExpiredTamperedAndForeignTokens() {
+        String token = jwtTokenProvider.generateAccessToken(USER);
+        jwtTokenProvider.verify(token).orElseThrow();
+        String[] parts = token.split("\\.");
+        String otherPayload = jwtTokenProvider.generateRefreshToken(USER).split("\\.")[1];
+
+        // Valid payload of another token under this token's signature: cached entry must not leak
+        assertThat(jwtTokenProvider.verify(parts[0] + "." + otherPayload + "." + parts[2])).isEmpty();
+        assertThat(jwtTokenProvider.verify(token.substring(0, token.length() - 2))).isEmpty();
+        assertThat(jwtTokenProvider.verify("not.a.jwt")).isEmpty();
+        assertThat(jwtTokenProvider.verify(" ")).isEmpty();
+        assertThat(jwtTokenProvider.verify(null)).isEmpty();
+
+        jwtProperties.setAccessTokenExpirationMs(-60_000);
+        assertThat(jwtTokenProvider.verify(jwtTokenProvider.generateAccessToken(USER))).isEmpty();
+
+        JwtProperties otherIssuer = jwtProperties();
+        otherIssuer.setIssuer("someone-else");
+        assertThat(jwtTokenProvider.verify(jwtTokenProvider(otherIssuer).generateAccessToken(USER))).isEmpty();
+    }
+
+    @Test
+    void claimHelpersShareTheParsersBuiltInInit() {
+        String access = jwtTokenProvider.generateAccessToken(USER);
+        String refresh = jwtTokenProvider.generateRefreshToken(USER);
+
+        assertThat(jwtTokenProvider.validateToken(access)).isTrue();
+        assertThat(jwtTokenProvider.validateTokenType(access, "access")).isTrue();
+        assertThat(jwtTokenProvider.validateTokenType(refresh, "access")).isFalse();
+        assertThat(jwtTokenProvider.extractUsername(refresh)).isEqualTo("user@example.com");
+        assertThat(jwtTokenProvider.extractRole(access)).isEqualTo("ROLE_ADMIN");
+        assertThat(jwtTokenProvider.isTokenExpired(access)).isFalse();
+        assertThat(jwtTokenProvider.validateToken(access.substring(0, access.length() - 2))).isFalse();
+    }
+
+    @Test
+    void sharedParserAndKeysAreSafeAcrossThreads() throws Exception {
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                UserDetails user = User.withUsername("user" + i + "@example.com").password("unused").roles("USER").build();
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int verified = 0;
+                    for (int round = 0; round < 25; round++) {
+                        String token = jwtTokenProvider.generateAccessToken(user);
+                        if (jwtTokenProvider.validateToken(token)
+                                && jwtTokenProvider.extractUsername(token).equals(user.getUsername())
+                                && jwtTokenProvider.verify(token).map(VerifiedToken::subject)
+                                        .filter(user.getUsername()::equals).isPresent()) {
+                            verified++;
+                        }
+                    }
+                    return verified;
+                }));
+            }
+            start.countDown();
+
+            for (Future<Integer> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS)).isEqualTo(25);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static JwtProperties jwtProperties() {
+        JwtProperties properties = new JwtProperties();
+        properties.setPrivateKeyPath("classpath:keys/private_key.pem");
+        properties.setPublicKeyPath("classpath:keys/public_key.pem");
+        return properties;
+    }
+
+    private static JwtTokenProvider jwtTokenProvider(JwtProperties properties) {
+        JwtTokenProvider provider = new JwtTokenProvider(properties, new DefaultResourceLoader());
+        provider.init();
+        return provider;
+    }
+}
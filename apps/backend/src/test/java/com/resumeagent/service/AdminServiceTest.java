@@ -0,0 +1,112 @@
+package com.resumeagent.service;
+
+import com.resumeagent.dto.response.AdminUserCursorListResponse;
+import com.resumeagent.dto.response.AdminUserListItemResponse;
+import com.resumeagent.entity.User;
+import com.resumeagent.entity.enums.UserRole;
+import com.resumeagent.repository.EmailVerificationTokenRepository;
+import com.resumeagent.repository.MasterResumeRepository;
+import com.resumeagent.repository.PasswordHistoryRepository;
+import com.resumeagent.repository.ResumeGenerationRepository;
+import com.resumeagent.repository.ResumeRepository;
+import com.resumeagent.repository.UserRepository;
+import com.resumeagent.security.UserDetailsCache;
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AdminServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final AdminService adminService = new AdminService(
+            userRepository,
+            mock(PasswordEncoder.class),
+            mock(EmailVerificationTokenRepository.class),
+            mock(PasswordHistoryRepository.class),
+            mock(EmailService.class),
+            mock(MasterResumeRepository.class),
+            mock(ResumeRepository.class),
+            mock(ResumeGenerationRepository.class),
+            mock(UserAgentStatsService.class),
+            mock(UserDetailsCache.class)
+    );
+
+    @Test
+    void userCursorPagesSeekPastTheLastRowWithoutCounting() {
+        List<User> rows = users(4);
+        when(userRepository.findKeysetFirstPage(anyCollection(), eq(Limit.of(3)))).thenReturn(rows.subList(0, 3));
+
+        AdminUserCursorListResponse first = adminService.listUsersByCursor(null, 2, false);
+
+        assertThat(first.getItems()).extracting(AdminUserListItemResponse::getEmail)
+                .containsExactly("user0@example.com", "user1@example.com");
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getTotalElements()).isNull();
+
+        when(userRepository.findKeysetPageAfter(
+                anyCollection(), eq(rows.get(1).getCreatedAt()), eq(rows.get(1).getId()), eq(Limit.of(3))))
+                .thenReturn(rows.subList(2, 4));
+
+        AdminUserCursorListResponse last = adminService.listUsersByCursor(first.getNextCursor(), 2, false);
+
+        assertThat(last.getItems()).extracting(AdminUserListItemResponse::getEmail)
+                .containsExactly("user2@example.com", "user3@example.com");
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+        verify(userRepository, never()).countByUserRoleIn(any());
+        verify(userRepository, never()).findByUserRoleIn(any(), any(Pageable.class));
+    }
+
+    @Test
+    void userCursorPageCountsOnlyWhenAsked() {
+        when(userRepository.findKeysetFirstPage(anyCollection(), any())).thenReturn(users(1));
+        when(userRepository.countByUserRoleIn(List.of(UserRole.ADMIN, UserRole.USER))).thenReturn(1L);
+
+        AdminUserCursorListResponse page = adminService.listUsersByCursor(null, 0, true);
+
+        assertThat(page.getSize()).isEqualTo(1);
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getTotalElements()).isEqualTo(1L);
+        verify(userRepository).findKeysetFirstPage(List.of(UserRole.ADMIN, UserRole.USER), Limit.of(2));
+    }
+
+    @Test
+    void malformedCursorIsRejectedBeforeQuerying() {
+        assertThatThrownBy(() -> adminService.listUsersByCursor("not a cursor", 20, false))
+                .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(userRepository);
+    }
+
+    private static List<User> users(int count) {
+        Instant newest = Instant.parse("2026-03-14T09:26:53.589793Z");
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder()
+                    .id(UUID.randomUUID())
+                    .email("user" + i + "@example.com")
+                    .userRole(UserRole.USER)
+                    .createdAt(newest.minusSeconds(i))
+                    .build());
+        }
+        return users;
+    }
+}
@@ -0,0 +1,60 @@
+package com.resumeagent.service;
+
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodeDecodeRoundTripKeepsNanosAndId() {
+        KeysetCursor cursor = new KeysetCursor(Instant.parse("2026-03-14T09:26:53.589793238Z"), UUID.randomUUID());
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("=", "+", "/");
+        assertThat(KeysetCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void decodeReturnsNullForFirstPage() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode("")).isNull();
+        assertThat(KeysetCursor.decode("   ")).isNull();
+    }
+
+    @Test
+    void decodeRejectsMalformedTokens() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not base64!"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> KeysetCursor.decode(token("1700000000:0")))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> KeysetCursor.decode(token("abc:0:" + UUID.randomUUID())))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> KeysetCursor.decode(token("1700000000:0:not-a-uuid")))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void pageSizeIsClampedToAllowedRange() {
+        assertThat(KeysetCursor.pageSize(0)).isEqualTo(1);
+        assertThat(KeysetCursor.pageSize(-5)).isEqualTo(1);
+        assertThat(KeysetCursor.pageSize(KeysetCursor.DEFAULT_SIZE)).isEqualTo(KeysetCursor.DEFAULT_SIZE);
+        assertThat(KeysetCursor.pageSize(1000)).isEqualTo(KeysetCursor.MAX_SIZE);
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
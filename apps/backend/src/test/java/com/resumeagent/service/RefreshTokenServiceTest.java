@@ -0,0 +1,76 @@
+package com.resumeagent.service;
+
+import com.resumeagent.config.JwtProperties;
+import com.resumeagent.entity.RefreshToken;
+import com.resumeagent.entity.User;
+import com.resumeagent.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenServiceTest {
+
+    private static final String RAW_TOKEN = "eyJhbGciOiJSUzI1NiJ9.refresh.signature";
+
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final RefreshTokenService refreshTokenService =
+            new RefreshTokenService(refreshTokenRepository, new JwtProperties());
+
+    @Test
+    void validationLooksUpTheStoredHashInsteadOfScanningAllTokens() {
+        User user = User.builder().id(UUID.randomUUID()).email("user@example.com").build();
+        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Forwarded-For", "203.0.113.7, 10.0.0.1");
+        refreshTokenService.createRefreshToken(user, RAW_TOKEN, request);
+
+        ArgumentCaptor<RefreshToken> stored = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(stored.capture());
+        assertThat(stored.getValue().getTokenHash()).hasSize(64).doesNotContain(RAW_TOKEN);
+        assertThat(stored.getValue().getIpAddress()).isEqualTo("203.0.113.7");
+        when(refreshTokenRepository.findValidByTokenHash(eq(stored.getValue().getTokenHash()), any()))
+                .thenReturn(Optional.of(stored.getValue()));
+
+        Optional<RefreshToken> validated = refreshTokenService.validateRefreshToken(RAW_TOKEN);
+
+        assertThat(validated).containsSame(stored.getValue());
+        verify(refreshTokenRepository, never()).findAll();
+    }
+
+    @Test
+    void validationChecksExpiryAgainstTheCurrentTime() {
+        ArgumentCaptor<Instant> now = ArgumentCaptor.forClass(Instant.class);
+        when(refreshTokenRepository.findValidByTokenHash(any(), now.capture())).thenReturn(Optional.empty());
+
+        assertThat(refreshTokenService.validateRefreshToken("unknown-token")).isEmpty();
+        assertThat(now.getValue()).isCloseTo(Instant.now(), within(5, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void differentTokensNeverShareAHash() {
+        ArgumentCaptor<String> hashes = ArgumentCaptor.forClass(String.class);
+        when(refreshTokenRepository.findValidByTokenHash(hashes.capture(), any())).thenReturn(Optional.empty());
+
+        refreshTokenService.validateRefreshToken(RAW_TOKEN);
+        refreshTokenService.validateRefreshToken(RAW_TOKEN + "x");
+        refreshTokenService.validateRefreshToken(RAW_TOKEN);
+
+        assertThat(hashes.getAllValues().get(0))
+                .isNotEqualTo(hashes.getAllValues().get(1))
+                .isEqualTo(hashes.getAllValues().get(2));
+    }
+}
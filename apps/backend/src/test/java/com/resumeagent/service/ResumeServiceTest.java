@@ -0,0 +1,371 @@
+package com.resumeagent.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.resumeagent.ai.agents.ATSOptimizationAgent;
+import com.resumeagent.ai.agents.JobDescriptionAnalyzerAgent;
+import com.resumeagent.ai.agents.MatchingAgent;
+import com.resumeagent.ai.agents.ResumeRewriteAgent;
+import com.resumeagent.ai.orchestration.AgentExecutor;
+import com.resumeagent.ai.util.AgentPayload;
+import com.resumeagent.ai.util.StreamingJsonSectionParser;
+import com.resumeagent.config.ResumeGenerationProperties;
+import com.resumeagent.dto.response.AgentPartialOutputResponse;
+import com.resumeagent.dto.response.CommonResponse;
+import com.resumeagent.dto.response.ResumeCursorListResponse;
+import com.resumeagent.dto.response.ResumeGenerationStatusResponse;
+import com.resumeagent.dto.response.ResumeListItemResponse;
+import com.resumeagent.entity.MasterResume;
+import com.resumeagent.entity.Resume;
+import com.resumeagent.entity.ResumeGeneration;
+import com.resumeagent.entity.User;
+import com.resumeagent.entity.enums.ResumeGenerationStatus;
+import com.resumeagent.entity.enums.ResumeStatus;
+import com.resumeagent.entity.model.JobDescriptionAnalyzerJson;
+import com.resumeagent.entity.model.MasterResumeJson;
+import com.resumeagent.entity.model.MatchingAgentJson;
+import com.resumeagent.exception.CapacityExceededException;
+import com.resumeagent.exception.GlobalExceptionHandler;
+import com.resumeagent.exception.TransientAgentException;
+import com.resumeagent.render.DocxResumeRenderer;
+import com.resumeagent.render.PdfResumeRenderer;
+import com.resumeagent.render.RenderedDocumentCache;
+import com.resumeagent.repository.MasterResumeRepository;
+import com.resumeagent.repository.ResumeGenerationRepository;
+import com.resumeagent.repository.ResumeRepository;
+import com.resumeagent.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ResumeServiceTest {
+
+    private static final long RECOVERY_WINDOW_MS = 600_000;
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final MasterResumeRepository masterResumeRepository = mock(MasterResumeRepository.class);
+    private final ResumeGenerationRepository resumeGenerationRepository = mock(ResumeGenerationRepository.class);
+    private final AgentExecutor agentExecutor = mock(AgentExecutor.class);
+    private final JobDescriptionAnalysisCacheService jobDescriptionAnalysisCache = mock(JobDescriptionAnalysisCacheService.class);
+    private final MatchingAgent matchingAgent = mock(MatchingAgent.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final ResumeRepository resumeRepository = mock(ResumeRepository.class);
+    private final PdfResumeRenderer pdfResumeRenderer = mock(PdfResumeRenderer.class);
+    private final RenderedDocumentCache renderedDocumentCache = mock(RenderedDocumentCache.class);
+    private final ThreadPoolTaskExecutor resumeGenerationExecutor = mock(ThreadPoolTaskExecutor.class);
+    private final ThreadPoolTaskExecutor documentRenderExecutor = mock(ThreadPoolTaskExecutor.class);
+    private final ResumeService resumeService = resumeService();
+
+    @Test
+    void recoveryFailsStaleGenerationsAndRequeuesRecentOnes() {
+        ResumeGeneration recent = generation(false);
+        when(resumeGenerationRepository.failByStatusInUpdatedBefore(any(), any(), any(), anyString(), any()))
+                .thenReturn(3);
+        when(resumeGenerationRepository.findAllWithOwnerByStatusInUpdatedSince(any(), any()))
+                .thenReturn(List.of(recent));
+
+        resumeService.recoverInterruptedGenerations();
+
+        ArgumentCaptor<Instant> failCutoff = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Instant> requeueCutoff = ArgumentCaptor.forClass(Instant.class);
+        verify(resumeGenerationRepository).failByStatusInUpdatedBefore(
+                any(), failCutoff.capture(), eq(ResumeGenerationStatus.FAILED), eq("Interrupted by a server restart"), any());
+        verify(resumeGenerationRepository).findAllWithOwnerByStatusInUpdatedSince(any(), requeueCutoff.capture());
+        assertThat(requeueCutoff.getValue()).isEqualTo(failCutoff.getValue());
+        assertThat(failCutoff.getValue().toEpochMilli())
+                .isCloseTo(Instant.now().minusMillis(RECOVERY_WINDOW_MS).toEpochMilli(), within(5_000L));
+        verify(resumeGenerationExecutor).execute(any(Runnable.class));
+    }
+
+    @Test
+    void recoveryFailsGenerationsTheQueueHasNoRoomFor() {
+        ResumeGeneration recent = generation(false);
+        when(resumeGenerationRepository.findAllWithOwnerByStatusInUpdatedSince(any(), any()))
+                .thenReturn(List.of(recent));
+        when(resumeGenerationRepository.findById(recent.getId())).thenReturn(Optional.of(recent));
+        doThrow(new TaskRejectedException("full")).when(resumeGenerationExecutor).execute(any(Runnable.class));
+
+        resumeService.recoverInterruptedGenerations();
+
+        assertThat(recent.getStatus()).isEqualTo(ResumeGenerationStatus.FAILED);
+        assertThat(recent.getFailureReason()).isEqualTo("Interrupted by a server restart");
+        verify(resumeGenerationRepository).save(recent);
+    }
+
+    @Test
+    void recoveredForceFreshGenerationBypassesTheJdCache() {
+        ResumeGeneration recent = generation(true);
+
+        runRecovered(recent);
+
+        verify(jobDescriptionAnalysisCache, never()).lookup(any());
+    }
+
+    @Test
+    void recoveredGenerationWithoutForceFreshUsesTheJdCache() {
+        ResumeGeneration recent = generation(false);
+        when(jobDescriptionAnalysisCache.lookup(any())).thenReturn(
+                new JobDescriptionAnalysisCacheService.Lookup(null, JobDescriptionAnalysisCacheService.Tier.NONE));
+
+        runRecovered(recent);
+
+        verify(jobDescriptionAnalysisCache).lookup(recent.getJdHash());
+    }
+
+    @Test
+    void forceFreshRequestDoesNotJoinAnInFlightCachedRun() {
+        ResumeGeneration inFlight = generation(false);
+        givenSubmission(inFlight);
+
+        ResumeGenerationStatusResponse response =
+                resumeService.enqueueResumeGeneration(inFlight.getJobDescription(), "user@example.com", true);
+
+        ArgumentCaptor<ResumeGeneration> created = ArgumentCaptor.forClass(ResumeGeneration.class);
+        verify(resumeGenerationRepository).save(created.capture());
+        assertThat(created.getValue().isForceFresh()).isTrue();
+        assertThat(response.getGenerationId()).isNotEqualTo(inFlight.getId().toString());
+    }
+
+    @Test
+    void requestJoinsACompatibleInFlightRun() {
+        ResumeGeneration inFlight = generation(true);
+        givenSubmission(inFlight);
+
+        ResumeGenerationStatusResponse withoutForceFresh =
+                resumeService.enqueueResumeGeneration(inFlight.getJobDescription(), "user@example.com", false);
+        ResumeGenerationStatusResponse withForceFresh =
+                resumeService.enqueueResumeGeneration(inFlight.getJobDescription(), "user@example.com", true);
+
+        verify(resumeGenerationRepository, never()).save(any());
+        assertThat(withoutForceFresh.getGenerationId()).isEqualTo(inFlight.getId().toString());
+        assertThat(withForceFresh.getGenerationId()).isEqualTo(inFlight.getId().toString());
+    }
+
+    @Test
+    void executorRetryResetsSectionsPublishedByTheFailedAttempt() throws Exception {
+        ResumeGeneration recent = generation(false);
+        recent.setStatus(ResumeGenerationStatus.JD_ANALYZED);
+        recent.setJobDescriptionAnalyzerJson(new JobDescriptionAnalyzerJson());
+        recent.getMasterResume().setResumeJson(new MasterResumeJson());
+
+        // Like AgentExecutor's RetryTemplate: the failed attempt is retried with the same request
+        when(agentExecutor.executeForPayload(any())).thenAnswer(invocation -> {
+            AgentExecutor.AgentExecutionRequest<?> request = invocation.getArgument(0);
+            try {
+                request.getAction().call();
+            } catch (TransientAgentException retried) {
+                // retried below
+            }
+            return AgentPayload.of(request.getAction().call(), null);
+        });
+        // Like LlmClient: reset before the model streams, then publish
+        AtomicInteger attempts = new AtomicInteger();
+        when(matchingAgent.executeMatchingAgent(any(), any(), any())).thenAnswer(invocation -> {
+            StreamingJsonSectionParser.SectionListener listener = invocation.getArgument(2);
+            listener.onReset();
+            listener.onSection("summary", null, TextNode.valueOf("attempt " + attempts.incrementAndGet()));
+            if (attempts.get() == 1) {
+                throw new TransientAgentException("stream dropped");
+            }
+            return new MatchingAgentJson();
+        });
+
+        runRecovered(recent);
+
+        ArgumentCaptor<AgentPartialOutputResponse> sent = ArgumentCaptor.forClass(AgentPartialOutputResponse.class);
+        verify(messagingTemplate, atLeastOnce())
+                .convertAndSend(eq("/topic/resume-partial/" + recent.getUser().getId()), sent.capture());
+        assertThat(sent.getAllValues())
+                .filteredOn(partial -> "MatchingAgent".equals(partial.getAgentName()))
+                .extracting(AgentPartialOutputResponse::isReset, partial -> partial.getValue() == null ? null : partial.getValue().asText())
+                .containsExactly(
+                        tuple(false, "attempt 1"),
+                        tuple(true, null),
+                        tuple(false, "attempt 2")
+                );
+    }
+
+    @Test
+    void busyPdfRenderPoolIsReportedAsTooManyRequests() {
+        User user = User.builder().id(UUID.randomUUID()).build();
+        Resume resume = Resume.builder().id(UUID.randomUUID()).user(user).resumeJson(new MasterResumeJson()).build();
+        when(pdfResumeRenderer.templateIds()).thenReturn(Set.of("blue"));
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+        when(resumeRepository.findByIdAndUserId(resume.getId(), user.getId())).thenReturn(Optional.of(resume));
+        when(renderedDocumentCache.eTag(eq("blue.pdf"), any())).thenReturn("\"etag\"");
+        when(renderedDocumentCache.find(resume.getId(), "blue.pdf", "\"etag\"")).thenReturn(Optional.empty());
+        when(documentRenderExecutor.submitCompletable(ArgumentMatchers.<Callable<RenderedDocumentCache.RenderedDocument>>any()))
+                .thenThrow(new TaskRejectedException("render pool full"));
+
+        Throwable thrown = catchThrowable(() -> resumeService.downloadResumePdf("user@example.com", resume.getId(), "blue", null));
+
+        assertThat(thrown).isInstanceOf(CapacityExceededException.class);
+        ResponseEntity<CommonResponse> response =
+                new GlobalExceptionHandler().handleCapacityExceeded((CapacityExceededException) thrown);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getBody().getMessage()).isEqualTo("PDF rendering is busy. Please try again shortly.");
+    }
+
+    @Test
+    void resumeCursorPagesSeekPastTheLastRowWithoutCounting() {
+        User user = User.builder().id(UUID.randomUUID()).build();
+        List<Resume> rows = resumes(user, 3);
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+        when(resumeRepository.findKeysetFirstPage(eq(user), any(), eq(Limit.of(3)))).thenReturn(rows);
+
+        ResumeCursorListResponse first = resumeService.getResumeListByCursor("user@example.com", null, 2, false);
+
+        assertThat(first.getItems()).extracting(ResumeListItemResponse::getId)
+                .containsExactly(rows.get(0).getId().toString(), rows.get(1).getId().toString());
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getTotalElements()).isNull();
+        assertThat(KeysetCursor.decode(first.getNextCursor()))
+                .isEqualTo(new KeysetCursor(rows.get(1).getCreatedAt(), rows.get(1).getId()));
+
+        when(resumeRepository.findKeysetPageAfter(
+                eq(user), any(), eq(rows.get(1).getCreatedAt()), eq(rows.get(1).getId()), eq(Limit.of(3))))
+                .thenReturn(rows.subList(2, 3));
+
+        ResumeCursorListResponse last = resumeService.getResumeListByCursor("user@example.com", first.getNextCursor(), 2, false);
+
+        assertThat(last.getItems()).extracting(ResumeListItemResponse::getId)
+                .containsExactly(rows.get(2).getId().toString());
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+        verify(resumeRepository, never()).countByUserAndStatusIn(any(), any());
+        verify(resumeRepository, never()).findByUserAndStatusIn(any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void resumeCursorPageCountsOnlyWhenAskedAndClampsTheSize() {
+        User user = User.builder().id(UUID.randomUUID()).build();
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+        when(resumeRepository.findKeysetFirstPage(eq(user), any(), any())).thenReturn(List.of());
+        when(resumeRepository.countByUserAndStatusIn(eq(user), any())).thenReturn(42L);
+
+        ResumeCursorListResponse page = resumeService.getResumeListByCursor("user@example.com", "", 500, true);
+
+        assertThat(page.getSize()).isEqualTo(100);
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getTotalElements()).isEqualTo(42L);
+        verify(resumeRepository).findKeysetFirstPage(
+                eq(user), eq(EnumSet.of(ResumeStatus.ACTIVE, ResumeStatus.ARCHIVED)), eq(Limit.of(101)));
+    }
+
+    private void givenSubmission(ResumeGeneration inFlight) {
+        User user = inFlight.getUser();
+        user.setResumeGenerationLimit(5);
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.findByIdForUpdate(user.getId())).thenReturn(Optional.of(user));
+        when(masterResumeRepository.findByUser(user)).thenReturn(Optional.of(inFlight.getMasterResume()));
+        when(resumeGenerationRepository.findFirstByUserIdAndStatusInOrderByCreatedAtDesc(eq(user.getId()), any()))
+                .thenReturn(Optional.of(inFlight));
+        when(resumeGenerationRepository.save(any(ResumeGeneration.class))).thenAnswer(invocation -> {
+            ResumeGeneration saved = invocation.getArgument(0);
+            saved.setId(UUID.randomUUID());
+            return saved;
+        });
+    }
+
+    private static List<Resume> resumes(User user, int count) {
+        Instant newest = Instant.parse("2026-03-14T09:26:53.589793Z");
+        List<Resume> resumes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            resumes.add(Resume.builder()
+                    .id(UUID.randomUUID())
+                    .user(user)
+                    .jobTitleTargeted("Engineer " + i)
+                    .status(ResumeStatus.ACTIVE)
+                    .createdAt(newest.minusSeconds(i))
+                    .build());
+        }
+        return resumes;
+    }
+
+    private void runRecovered(ResumeGeneration generation) {
+        when(resumeGenerationRepository.findAllWithOwnerByStatusInUpdatedSince(any(), any()))
+                .thenReturn(List.of(generation));
+        when(resumeGenerationRepository.findById(generation.getId())).thenReturn(Optional.of(generation));
+
+        resumeService.recoverInterruptedGenerations();
+
+        // Run the queued chain inline; it stops at the (unstubbed) agent call
+        ArgumentCaptor<Runnable> queued = ArgumentCaptor.forClass(Runnable.class);
+        verify(resumeGenerationExecutor).execute(queued.capture());
+        queued.getValue().run();
+    }
+
+    private ResumeGeneration generation(boolean forceFresh) {
+        return ResumeGeneration.builder()
+                .id(UUID.randomUUID())
+                .user(User.builder().id(UUID.randomUUID()).build())
+                .masterResume(MasterResume.builder().id(UUID.randomUUID()).build())
+                .jobDescription("Senior Java engineer")
+                .jdHash("jd-hash")
+                .forceFresh(forceFresh)
+                .status(ResumeGenerationStatus.PENDING)
+                .updatedAt(Instant.now())
+                .build();
+    }
+
+    private ResumeService resumeService() {
+        ResumeGenerationProperties properties = new ResumeGenerationProperties();
+        properties.setRecoveryWindowMs(RECOVERY_WINDOW_MS);
+        return new ResumeService(
+                userRepository,
+                masterResumeRepository,
+                resumeGenerationRepository,
+                agentExecutor,
+                new ObjectMapper(),
+                mock(JobDescriptionAnalyzerAgent.class),
+                jobDescriptionAnalysisCache,
+                resumeRepository,
+                matchingAgent,
+                mock(ResumeRewriteAgent.class),
+                mock(ATSOptimizationAgent.class),
+                mock(DocxResumeRenderer.class),
+                pdfResumeRenderer,
+                renderedDocumentCache,
+                messagingTemplate,
+                mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(),
+                resumeGenerationExecutor,
+                properties,
+                documentRenderExecutor
+        );
+    }
+}
@@ -0,0 +1,94 @@
+package com.resumeagent.service;
+
+import com.resumeagent.entity.ResumeAgentLog;
+import com.resumeagent.entity.User;
+import com.resumeagent.entity.enums.AgentExecutionStatus;
+import com.resumeagent.repository.UserAgentDailyUsageRepository;
+import com.resumeagent.repository.UserAgentExecutionStatsRepository;
+import com.resumeagent.repository.UserAgentStatsRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class UserAgentStatsServiceTest {
+
+    private final UserAgentStatsRepository statsRepository = mock(UserAgentStatsRepository.class);
+    private final UserAgentExecutionStatsRepository executionStatsRepository = mock(UserAgentExecutionStatsRepository.class);
+    private final UserAgentDailyUsageRepository dailyUsageRepository = mock(UserAgentDailyUsageRepository.class);
+    private final UserAgentStatsService service =
+            new UserAgentStatsService(statsRepository, executionStatsRepository, dailyUsageRepository);
+
+    private final User user = User.builder().id(UUID.randomUUID()).build();
+    private final LocalDate monthStart = LocalDate.now(ZoneId.systemDefault()).withDayOfMonth(1);
+
+    @Test
+    void successCountsTokensInEveryRollup() {
+        Instant createdAt = Instant.now();
+
+        service.recordLog(log("JobDescriptionAnalyzer", AgentExecutionStatus.SUCCESS, 120, 30, 900, createdAt));
+
+        verify(statsRepository).increment(user.getId(), 1, 0, 0, 150L, monthStart);
+        verify(executionStatsRepository).increment(user.getId(), "JobDescriptionAnalyzer", 900L);
+        verify(dailyUsageRepository).increment(
+                user.getId(),
+                LocalDate.ofInstant(createdAt, ZoneId.systemDefault()),
+                "JobDescriptionAnalyzer",
+                120L, 30L, 900L
+        );
+    }
+
+    @Test
+    void failureTokensAreLeftOutOfTotalsButKeptInDailyBuckets() {
+        service.recordLog(log("ResumeRewriter", AgentExecutionStatus.FAILURE, 500, null, null, Instant.now()));
+
+        verify(statsRepository).increment(user.getId(), 0, 1, 0, 0L, monthStart);
+        verifyNoInteractions(executionStatsRepository);
+        verify(dailyUsageRepository).increment(eq(user.getId()), any(), eq("ResumeRewriter"), eq(500L), eq(0L), eq(0L));
+    }
+
+    @Test
+    void cacheLookupRowsNeverReachTheRollups() {
+        service.recordLog(log(
+                UserAgentStatsService.JD_CACHE_LOOKUP_AGENT_NAME, AgentExecutionStatus.SUCCESS, null, 0, 2, Instant.now()
+        ));
+
+        verifyNoInteractions(statsRepository, executionStatsRepository, dailyUsageRepository);
+    }
+
+    @Test
+    void partialIsCountedSeparately() {
+        service.recordLog(log("AtsOptimizer", AgentExecutionStatus.PARTIAL, 10, 5, 40, Instant.now()));
+
+        verify(statsRepository).increment(user.getId(), 0, 0, 1, 15L, monthStart);
+        verify(executionStatsRepository).increment(eq(user.getId()), eq("AtsOptimizer"), anyLong());
+    }
+
+    private ResumeAgentLog log(
+            String agentName,
+            AgentExecutionStatus status,
+            Integer tokensInput,
+            Integer tokensOutput,
+            Integer executionTimeMs,
+            Instant createdAt
+    ) {
+        return ResumeAgentLog.builder()
+                .user(user)
+                .agentName(agentName)
+                .status(status)
+                .tokensInput(tokensInput)
+                .tokensOutput(tokensOutput)
+                .executionTimeMs(executionTimeMs)
+                .createdAt(createdAt)
+                .build();
+    }
+}
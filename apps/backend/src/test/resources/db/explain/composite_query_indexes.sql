@@ -0,0 +1,197 @@
+-- ============================================================================
+-- EXPLAIN regression check for the per-user query indexes (V6, V7)
+-- ============================================================================
+-- Description: Seeds a realistic per-user data set and asserts that the hot
+--              repository queries are planned on the composite/partial indexes
+--              added in V6. Everything runs in one transaction and is rolled
+--              back, so it is safe against a local development database.
+-- Usage:       Run against a database migrated by Flyway (start the app once):
+--                psql -U resume_user -d resume_agent -v ON_ERROR_STOP=1 \
+--                  -f src/test/resources/db/explain/composite_query_indexes.sql
+--              Any plan regression aborts with "expected ... to use ...".
+-- Notes:       Statements are prepared and planned generically, the way
+--              Hibernate's bound parameters reach the server.
+-- ============================================================================
+
+BEGIN;
+
+SET LOCAL plan_cache_mode = force_generic_plan;
+
+-- ----------------------------------------------------------------------------
+-- Seed data: 2,000 users, each with a master resume, 40 resumes,
+-- 40 generations, 100 agent logs and 10 refresh tokens
+-- ----------------------------------------------------------------------------
+
+INSERT INTO users (id, full_name, email, password_hash, created_at)
+SELECT md5('user-' || u)::uuid,
+       'Explain User ' || u,
+       'explain-' || u || '@example.com',
+       'x',
+       now() - (u || ' minutes')::interval
+FROM generate_series(1, 2000) AS u;
+
+INSERT INTO master_resumes (id, user_id, resume_json)
+SELECT md5('master-' || u)::uuid, md5('user-' || u)::uuid, '{}'::jsonb
+FROM generate_series(1, 2000) AS u;
+
+INSERT INTO resumes (user_id, master_resume_id, job_title_targeted, analyzed_job_description,
+                     resume_json, status, created_at)
+SELECT md5('user-' || u)::uuid,
+       md5('master-' || u)::uuid,
+       'Title ' || (r % 7),
+       '{}'::jsonb,
+       '{}'::jsonb,
+       (ARRAY['ACTIVE', 'ACTIVE', 'ARCHIVED', 'DELETED'])[1 + r % 4],
+       now() - (r || ' hours')::interval
+FROM generate_series(1, 2000) AS u, generate_series(1, 40) AS r;
+
+INSERT INTO resume_generations (user_id, master_resume_id, job_description, status, created_at)
+SELECT md5('user-' || u)::uuid,
+       md5('master-' || u)::uuid,
+       'Job description ' || g,
+       (ARRAY['COMPLETED', 'COMPLETED', 'COMPLETED', 'FAILED', 'PENDING', 'MATCHED'])[1 + g % 6],
+       now() - (g || ' hours')::interval
+FROM generate_series(1, 2000) AS u, generate_series(1, 40) AS g;
+
+INSERT INTO resume_agent_logs (user_id, agent_name, tokens_input, tokens_output, status, created_at)
+SELECT md5('user-' || u)::uuid,
+       (ARRAY['JobDescriptionAnalyzer', 'MatchingAgent', 'ResumeRewriteAgent', 'ATSOptimizationAgent'])[1 + l % 4],
+       500,
+       300,
+       (ARRAY['SUCCESS', 'SUCCESS', 'SUCCESS', 'FAILURE'])[1 + l % 4],
+       now() - (l || ' hours')::interval
+FROM generate_series(1, 2000) AS u, generate_series(1, 100) AS l;
+
+INSERT INTO refresh_tokens (user_id, token_hash, expires_at, revoked, revoked_at, created_at)
+SELECT md5('user-' || u)::uuid,
+       encode(sha256(('token-' || u || '-' || t)::bytea), 'hex'),
+       now() + ((t - 5) || ' days')::interval,
+       t % 3 = 0,
+       CASE WHEN t % 3 = 0 THEN now() - (t || ' days')::interval END,
+       now() - (t || ' days')::interval
+FROM generate_series(1, 2000) AS u, generate_series(1, 10) AS t;
+
+ANALYZE users;
+ANALYZE resumes;
+ANALYZE resume_generations;
+ANALYZE resume_agent_logs;
+ANALYZE refresh_tokens;
+
+-- ----------------------------------------------------------------------------
+-- Assertion helper: the statement's plan must reference the given index
+-- ----------------------------------------------------------------------------
+
+CREATE FUNCTION pg_temp.assert_plan_uses(statement TEXT, index_name TEXT) RETURNS VOID
+LANGUAGE plpgsql AS $$
+DECLARE
+    plan TEXT;
+BEGIN
+    EXECUTE 'EXPLAIN (FORMAT JSON) ' || statement INTO plan;
+    IF position(format('"Index Name": "%s"', index_name) IN plan) = 0 THEN
+        RAISE EXCEPTION 'expected % to use %, got plan: %', statement, index_name, plan;
+    END IF;
+    RAISE NOTICE 'ok: % uses %', statement, index_name;
+END
+$$;
+
+-- ----------------------------------------------------------------------------
+-- Repository query shapes
+-- ----------------------------------------------------------------------------
+
+-- ResumeGenerationRepository.findFirstByUserIdAndStatusInOrderByCreatedAtDesc
+PREPARE active_generation(UUID, TEXT, TEXT, TEXT, TEXT, TEXT) AS
+    SELECT * FROM resume_generations
+    WHERE user_id = $1 AND status IN ($2, $3, $4, $5, $6)
+    ORDER BY created_at DESC
+    LIMIT 1;
+
+-- ResumeGenerationRepository.countByUserIdAndStatus
+PREPARE count_generations_by_status(UUID, TEXT) AS
+    SELECT count(*) FROM resume_generations WHERE user_id = $1 AND status = $2;
+
+-- ResumeRepository.findByUserAndStatusIn(user, statuses, Pageable sorted by createdAt DESC)
+PREPARE resume_page(UUID, TEXT, TEXT) AS
+    SELECT * FROM resumes
+    WHERE user_id = $1 AND status IN ($2, $3)
+    ORDER BY created_at DESC
+    OFFSET 0 LIMIT 20;
+
+-- ResumeRepository.countDistinctJobTitleTargetedByUserIdAndStatusNot
+PREPARE distinct_titles(UUID, TEXT) AS
+    SELECT count(DISTINCT job_title_targeted) FROM resumes WHERE user_id = $1 AND status <> $2;
+
+-- ResumeAgentLogRepository.countByUserIdAndStatus
+PREPARE count_logs_by_status(UUID, TEXT) AS
+    SELECT count(*) FROM resume_agent_logs WHERE user_id = $1 AND status = $2;
+
+-- RefreshTokenRepository.findActiveTokensByUser
+PREPARE active_refresh_tokens(UUID, TIMESTAMP) AS
+    SELECT * FROM refresh_tokens WHERE user_id = $1 AND revoked = FALSE AND expires_at > $2;
+
+-- ResumeRepository.findKeysetPageAfter (cursor page of the resume list)
+PREPARE resume_keyset_page(UUID, TEXT, TEXT, TIMESTAMP, UUID) AS
+    SELECT * FROM resumes
+    WHERE user_id = $1 AND status IN ($2, $3)
+      AND (created_at < $4 OR (created_at = $4 AND id < $5))
+    ORDER BY created_at DESC, id DESC
+    LIMIT 21;
+
+-- UserRepository.findKeysetPageAfter (cursor page of the admin user list)
+PREPARE user_keyset_page(TEXT, TEXT, TIMESTAMP, UUID) AS
+    SELECT * FROM users
+    WHERE user_role IN ($1, $2)
+      AND (created_at < $3 OR (created_at = $3 AND id < $4))
+    ORDER BY created_at DESC, id DESC
+    LIMIT 21;
+
+SELECT pg_temp.assert_plan_uses(
+    format('EXECUTE active_generation(%L, %L, %L, %L, %L, %L)',
+           md5('user-1')::uuid, 'PENDING', 'JD_ANALYZED', 'MATCHED', 'REWRITTEN', 'OPTIMIZED'),
+    'idx_resume_generations_user_created');
+
+SELECT pg_temp.assert_plan_uses(
+    format('EXECUTE count_generations_by_status(%L, %L)', md5('user-1')::uuid, 'COMPLETED'),
+    'idx_resume_generations_user_status');
+
+SELECT pg_temp.assert_plan_uses(
+    format('EXECUTE resume_page(%L, %L, %L)', md5('user-1')::uuid, 'ACTIVE', 'ARCHIVED'),
+    'idx_resumes_user_created');
+
+SELECT pg_temp.assert_plan_uses(
+    format('EXECUTE distinct_titles(%L, %L)', md5('user-1')::uuid, 'DELETED'),
+    'idx_resumes_user_status');
+
+SELECT pg_temp.assert_plan_uses(
+    format('EXECUTE count_logs_by_status(%L, %L)', md5('user-1')::uuid, 'FAILURE'),
+    'idx_agent_logs_user_status');
+
+SELECT pg_temp.assert_plan_uses(
+    format('EXECUTE active_refresh_tokens(%L, %L)', md5('user-1')::uuid, localtimestamp),
+    'idx_refresh_tokens_user_active');
+
+SELECT pg_temp.assert_plan_uses(
+    format('EXECUTE resume_keyset_page(%L, %L, %L, %L, %L)',
+           md5('user-1')::uuid, 'ACTIVE', 'ARCHIVED', localtimestamp - interval '10 hours', md5('any')::uuid),
+    'idx_resumes_user_created');
+
+SELECT pg_temp.assert_plan_uses(
+    format('EXECUTE user_keyset_page(%L, %L, %L, %L)',
+           'ADMIN', 'USER', localtimestamp - interval '1000 minutes', md5('any')::uuid),
+    'idx_users_created_at');
+
+-- The single-column indexes V6 replaced must stay dropped
+DO $$
+DECLARE
+    leftover TEXT;
+BEGIN
+    SELECT string_agg(indexname, ', ') INTO leftover
+    FROM pg_indexes
+    WHERE indexname IN ('idx_resume_generations_user_id', 'idx_resumes_user_id',
+                        'idx_agent_logs_user_id', 'idx_refresh_tokens_revoked');
+    IF leftover IS NOT NULL THEN
+        RAISE EXCEPTION 'indexes replaced by V6 still exist: %', leftover;
+    END IF;
+END
+$$;
+
+ROLLBACK;
@@ -130,7 +130,7 @@ export interface BlueResumeViewerProps {
 
 /* ===================== Design Tokens ===================== */
 
-// BlueResumeDocxService uses run.setColor("2E4A62") only on section titles.
+// The "blue" DOCX template (ResumeTemplateConfig) colors only section titles ("2E4A62").
 // Name, body text, dates are all default black — no accent colors elsewhere.
 const C = {
   sectionTitle: "#2E4A62",  // The only color in the entire template
@@ -312,7 +312,7 @@ function SummarySection({ summary }: { summary?: string }) {
 }
 
 /* ===================== Skills ===================== */
-// BlueResumeDocxService renders skills as ONE flat paragraph with pipe separators:
+// The "blue" DOCX template (ResumeTemplateConfig) renders skills as ONE flat paragraph with pipe separators:
 // "Technical: x, y | Tools: a, b | Professional: c, d"
 function SkillsSection({ skills }: { skills?: MasterResumeCoreSkills }) {
   if (!skills) return null;
@@ -49,6 +49,10 @@ export const resumeApi = {
     return apiClient.download(`/api/resume/${resumeId}/blue/download`);
   },
 
+  downloadPdf: async (resumeId: string, template: "blue" | "green"): Promise<DownloadPayload> => {
+    return apiClient.download(`/api/resume/${resumeId}/${template}/pdf`);
+  },
+
   edit: async (
     id: string,
     data: CreateAndUpdateMasterResumeRequest,